@@ -0,0 +1,76 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// AnimationClip.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: One named animation (idle, walk, cast, ...) for a character. This class:
+// - Holds every frame in one contiguous array, one run of frames per direction
+// - Finds the frame for a direction and index with a single array lookup
+// - Maps time since the clip started to a frame index, looping or holding the last frame
+// - Is built by AnimationSet from a character's definition file
+/////////////////////////////////////////////////////////////////////////////
+
+package entity;
+
+import java.awt.image.BufferedImage;
+
+// AnimationClip is immutable once loaded and shared by every character using the same set
+public final class AnimationClip {
+    private final String name;
+    // frames[direction * frameCount + index]; a clip with one direction uses it for all four
+    private final BufferedImage[] frames;
+    private final int frameCount;
+    private final int directions;
+    private final int frameMillis;
+    private final boolean loop;
+
+    AnimationClip(String name, BufferedImage[] frames, int frameCount, int directions, int frameMillis, boolean loop) {
+        this.name = name;
+        this.frames = frames;
+        this.frameCount = frameCount;
+        this.directions = directions;
+        this.frameMillis = Math.max(1, frameMillis);
+        this.loop = loop;
+    }
+
+    // Frame index shown elapsedMillis after the clip started
+    public int frameAt(long elapsedMillis) {
+        long step = Math.max(0, elapsedMillis) / frameMillis;
+        if (loop) {
+            return (int) (step % frameCount);
+        }
+        return (int) Math.min(step, frameCount - 1);
+    }
+
+    // True once a non-looping clip has shown its last frame for its full duration
+    public boolean isFinished(long elapsedMillis) {
+        return !loop && elapsedMillis >= getDurationMillis();
+    }
+
+    // Frame for a direction (Animator.UP, LEFT, DOWN, RIGHT) and index; null if the sheet was missing
+    public BufferedImage getFrame(int direction, int index) {
+        int row = directions == 1 ? 0 : direction;
+        return frames[row * frameCount + index];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public int getFrameMillis() {
+        return frameMillis;
+    }
+
+    public long getDurationMillis() {
+        return (long) frameMillis * frameCount;
+    }
+
+    public boolean isLooping() {
+        return loop;
+    }
+}
@@ -0,0 +1,172 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// AnimationSet.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: All animation clips of one character, loaded from a definition file. This class:
+// - Reads clip lines (sheet, frame count, frame time, loop mode, layout options) from res/
+// - Cuts each clip's frames from its sprite sheet into one contiguous array
+// - Optionally pads frames to a fixed size, centred horizontally with the feet at the bottom
+// - Numbers clips in file order so characters can switch state by array index
+// - Caches sets by path, so every character using a file shares the same frames
+/////////////////////////////////////////////////////////////////////////////
+
+package entity;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import main.AssetManager;
+
+// AnimationSet instances are shared through get()
+public final class AnimationSet {
+    // Loaded sets keyed by definition file path
+    private static final ConcurrentHashMap<String, AnimationSet> cache = new ConcurrentHashMap<>();
+
+    private final String path;
+    private final AnimationClip[] clips;
+
+    private AnimationSet(String path, AnimationClip[] clips) {
+        this.path = path;
+        this.clips = clips;
+    }
+
+    // Returns the set described by a definition file, loading it on first use.
+    // A missing file gives an empty set (every lookup returns no clip).
+    public static AnimationSet get(String path) {
+        return cache.computeIfAbsent(path, AnimationSet::load);
+    }
+
+    // Drops every cached set (sprite sheets stay cached in SpriteSheet)
+    public static void clear() {
+        cache.clear();
+    }
+
+    // Definition file format, one clip per line ('#' starts a comment):
+    //   clip <name> <sheet> <frames> <ms per frame> <loop|once> [size=W,H] [origin=X,Y] [rows=1|4] [pad=W,H]
+    // Frames are read left to right from origin in cells of size (default 64,64). With rows=4 (the
+    // default) the sheet has one row per direction in the order up, left, down, right; rows=1 uses a
+    // single row for every direction. pad=W,H copies each frame onto a W x H canvas, feet at the bottom.
+    private static AnimationSet load(String path) {
+        List<String> lines = AssetManager.getInstance().getText(path);
+        List<AnimationClip> clips = new ArrayList<>();
+        if (lines == null) {
+            System.err.println("Error loading animations: missing definition file " + path);
+            return new AnimationSet(path, new AnimationClip[0]);
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                clips.add(parseClip(line));
+            } catch (RuntimeException e) {
+                System.err.println("Error loading animations: " + path + " line " + (i + 1) + ": " + e.getMessage());
+            }
+        }
+        return new AnimationSet(path, clips.toArray(new AnimationClip[0]));
+    }
+
+    private static AnimationClip parseClip(String line) {
+        String[] parts = line.split("\\s+");
+        if (parts.length < 6 || !parts[0].equals("clip")) {
+            throw new IllegalArgumentException("expected: clip <name> <sheet> <frames> <ms per frame> <loop|once>");
+        }
+        String name = parts[1];
+        String sheetPath = parts[2];
+        int frameCount = Integer.parseInt(parts[3]);
+        int frameMillis = Integer.parseInt(parts[4]);
+        boolean loop = switch (parts[5]) {
+            case "loop" -> true;
+            case "once" -> false;
+            default -> throw new IllegalArgumentException("unknown mode " + parts[5]);
+        };
+        if (frameCount <= 0) {
+            throw new IllegalArgumentException("clip " + name + " has no frames");
+        }
+        int cellW = 64, cellH = 64, originX = 0, originY = 0, rows = 4, padW = 0, padH = 0;
+        for (int p = 6; p < parts.length; p++) {
+            String option = parts[p];
+            int eq = option.indexOf('=');
+            String key = eq < 0 ? option : option.substring(0, eq);
+            String value = eq < 0 ? "" : option.substring(eq + 1);
+            switch (key) {
+                case "size" -> { int[] v = pair(value); cellW = v[0]; cellH = v[1]; }
+                case "origin" -> { int[] v = pair(value); originX = v[0]; originY = v[1]; }
+                case "pad" -> { int[] v = pair(value); padW = v[0]; padH = v[1]; }
+                case "rows" -> {
+                    rows = Integer.parseInt(value);
+                    if (rows != 1 && rows != 4) {
+                        throw new IllegalArgumentException("rows must be 1 or 4");
+                    }
+                }
+                default -> throw new IllegalArgumentException("unknown option " + option);
+            }
+        }
+
+        BufferedImage[] frames = new BufferedImage[rows * frameCount];
+        SpriteSheet sheet = SpriteSheet.get(sheetPath);
+        if (sheet == null) {
+            System.err.println("Error loading animations: failed to load sprite sheet " + sheetPath);
+        } else {
+            for (int row = 0; row < rows; row++) {
+                for (int i = 0; i < frameCount; i++) {
+                    BufferedImage frame = sheet.region(originX + i * cellW, originY + row * cellH, cellW, cellH);
+                    frames[row * frameCount + i] = padW > 0 ? pad(frame, padW, padH) : frame;
+                }
+            }
+        }
+        return new AnimationClip(name, frames, frameCount, rows, frameMillis, loop);
+    }
+
+    private static int[] pair(String value) {
+        int comma = value.indexOf(',');
+        if (comma < 0) {
+            throw new IllegalArgumentException("expected W,H but got " + value);
+        }
+        return new int[] { Integer.parseInt(value.substring(0, comma)), Integer.parseInt(value.substring(comma + 1)) };
+    }
+
+    // Copies a frame onto a fixed-size canvas, centred horizontally with its bottom edge on the canvas's
+    private static BufferedImage pad(BufferedImage src, int width, int height) {
+        BufferedImage padded = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        if (src == null) {
+            return padded; // Region fell outside the sheet
+        }
+        Graphics2D g = padded.createGraphics();
+        g.drawImage(src, (width - src.getWidth()) / 2, height - src.getHeight(), null);
+        g.dispose();
+        return padded;
+    }
+
+    // Clip number for a name, or -1 if the set has no such clip
+    public int indexOf(String name) {
+        for (int i = 0; i < clips.length; i++) {
+            if (clips[i].getName().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Clip by number, or null when out of range
+    public AnimationClip getClip(int index) {
+        return index >= 0 && index < clips.length ? clips[index] : null;
+    }
+
+    public AnimationClip getClip(String name) {
+        return getClip(indexOf(name));
+    }
+
+    public int getClipCount() {
+        return clips.length;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
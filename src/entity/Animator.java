@@ -0,0 +1,108 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// Animator.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Plays one character's animation clips against the game clock. This class:
+// - Tracks the current clip, the facing direction and when the clip started
+// - Restarts a clip only when the state actually changes
+// - Picks the current frame by clip number, direction and elapsed time
+// - Can swap to another set with the same clip names (e.g. with and without a sword)
+// - Is shared by the player, the NPC and the boss
+/////////////////////////////////////////////////////////////////////////////
+
+package entity;
+
+import java.awt.image.BufferedImage;
+
+// Animator belongs to one character and is advanced by it once per tick
+public class Animator {
+    // Directions, matching the row order of the LPC sheets
+    public static final int UP = 0;
+    public static final int LEFT = 1;
+    public static final int DOWN = 2;
+    public static final int RIGHT = 3;
+
+    private AnimationSet set;
+    private int clip = -1;
+    private int direction = DOWN;
+    private long startMillis = 0;
+    private long nowMillis = 0;
+
+    public Animator(AnimationSet set) {
+        this.set = set;
+    }
+
+    // Moves the animation to the given game time (milliseconds of simulation time)
+    public void advance(long gameTimeMillis) {
+        nowMillis = gameTimeMillis;
+    }
+
+    // Switches to a clip, starting it from its first frame unless it is already playing
+    public void play(int clipIndex) {
+        if (clipIndex != clip) {
+            restart(clipIndex);
+        }
+    }
+
+    // Starts a clip from its first frame, even if it is already playing
+    public void restart(int clipIndex) {
+        clip = clipIndex;
+        startMillis = nowMillis;
+    }
+
+    // Swaps in another set; the playing clip carries over by name and keeps its timing
+    public void setSet(AnimationSet newSet) {
+        AnimationClip current = set.getClip(clip);
+        set = newSet;
+        clip = current != null ? newSet.indexOf(current.getName()) : -1;
+    }
+
+    public AnimationSet getSet() {
+        return set;
+    }
+
+    public void setDirection(int direction) {
+        this.direction = direction;
+    }
+
+    public int getDirection() {
+        return direction;
+    }
+
+    public int getClipIndex() {
+        return clip;
+    }
+
+    // Index of the frame showing now
+    public int getFrameIndex() {
+        AnimationClip current = set.getClip(clip);
+        return current != null ? current.frameAt(nowMillis - startMillis) : 0;
+    }
+
+    // Frame showing now, or null when no clip is playing
+    public BufferedImage getFrame() {
+        AnimationClip current = set.getClip(clip);
+        return current != null ? current.getFrame(direction, current.frameAt(nowMillis - startMillis)) : null;
+    }
+
+    // True once a non-looping clip has played through
+    public boolean isFinished() {
+        AnimationClip current = set.getClip(clip);
+        return current == null || current.isFinished(nowMillis - startMillis);
+    }
+
+    // Direction constant for an entity's direction string
+    public static int directionOf(String direction) {
+        if (direction == null) {
+            return DOWN;
+        }
+        return switch (direction) {
+            case "up" -> UP;
+            case "left" -> LEFT;
+            case "right" -> RIGHT;
+            default -> DOWN;
+        };
+    }
+}
@@ -16,165 +16,100 @@ package entity;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 
 public class BossNoxar {
     public int x, y; // Position on the shrine platform
     public int width = 48, height = 64; // Default size
     public int health = 200;
     public int maxHealth = 200;
-    public String name = "Noxar";
+    public static final String NAME = "Noxar";
     public boolean isDead = false;
     public boolean isCasting = false;
     public boolean isDying = false;
     public long lastAttackTime = 0;
-    public int walkFrame = 0;
-    public int castFrame = 0;
-    public int hurtFrame = 0;
-    public long lastFrameTime = 0;
-    public BufferedImage[][] walkSprites;
-    public BufferedImage[][] spellcastSprites; // 4 rows x 8 cols
-    public BufferedImage[] hurtSprites;
-    public int walkRows = 4, walkCols = 9;
-    public int frameDuration = 180; // ms per frame (slowed down for clarity)
-    public int castDuration = 1000; // ms for spellcast
-    public int hurtDuration = 1200; // ms for death
+    // Spellcasts come from a repeating game-clock timer; a cast starts at the next walk update after it fires
+    private static final long ATTACK_INTERVAL = 5000;
+    private final main.TimerWheel.Timer attackTimer;
+    private boolean attackDue = false;
+    public int castFrame = 0;          // Frame of the spellcast clip, drives the attack patterns
     private int playerX = 0, playerY = 0;
     // Pacing logic
     private int paceStartX, paceEndX;
     private int paceSpeed = 2;
     private int paceDir = 1; // 1 = right, -1 = left
     private boolean initializedPace = false;
-    private static final int PAD_WIDTH = 64;
-    private static final int PAD_HEIGHT = 64;
 
     // Animation state
     private enum State { WALK, SPELLCAST, DYING }
     private State state = State.WALK;
-    // Animation counters like player
-    private int spriteCounter = 0;
-    private int spriteNum = 0; // 0-8 for 9 frames
-    private static final int WALK_FRAME_COUNT = 9;
-    private static final int WALK_FRAME_SPEED = 12; // frames per update (like player)
+    private static final String ANIMATIONS = "res/enemy/boss/animations.txt";
+    private final Animator animator;
+    private final int walkClip, castClip, hurtClip;
 
     public String direction = "right";
 
+    // Attack patterns, used in turn, one per spellcast
+    private enum Pattern { AIMED, RADIAL, SPIRAL }
+    private Pattern pattern = Pattern.SPIRAL; // Advanced before the first cast, so it opens with AIMED
+    private int lastEmitFrame = -1;
+    private int emitTick = 0;
+    private double spiralAngle = 0;
+    private static final int PATTERN_DAMAGE = 10;
+    private static final int RADIAL_SHOTS = 36;
+    private static final int SPIRAL_ARMS = 5;
+    private static final int SPIRAL_INTERVAL = 2;      // Ticks between spiral volleys
+    private static final double SPIRAL_TURN = 0.21;    // Radians the arms rotate per volley
+
     public BossNoxar(int x, int y) {
         this.x = x;
         this.y = y;
-        loadSprites();
-    }
-
-    private void loadSprites() {
-        // Load walk.png grid (4 rows x 9 cols, uniform gaps)
-        walkSprites = new BufferedImage[walkRows][walkCols];
-        try {
-            BufferedImage walkSheet = ImageIO.read(new File("res/enemy/boss/walk.png"));
-            int sheetWidth = walkSheet.getWidth();
-            int sheetHeight = walkSheet.getHeight();
-            int gapTop = 15, gapBottom = 2, gapLeft = 17, gapRight = 13;
-            int frameW = (sheetWidth - gapLeft - gapRight) / walkCols;
-            int frameH = (sheetHeight - gapTop - gapBottom) / walkRows;
-            for (int row = 0; row < walkRows; row++) {
-                for (int col = 0; col < walkCols; col++) {
-                    int x = gapLeft + col * frameW;
-                    int y = gapTop + row * frameH;
-                    BufferedImage raw = walkSheet.getSubimage(x, y, frameW, frameH);
-                    walkSprites[row][col] = padFrame(raw);
-                }
-            }
-        } catch (IOException e) { walkSprites = null; }
-        // Load spellcast.png (4 rows x 8 cols, custom gaps)
-        spellcastSprites = new BufferedImage[4][8];
-        try {
-            BufferedImage castSheet = ImageIO.read(new File("res/enemy/boss/spellcast.png"));
-            int[][] castData = new int[][] {
-                // Row 1
-                {16,17,30,46},{16,26,28,46},{16,34,22,46},{16,0,56,46},{16,0,56,46},{16,0,56,46},{16,0,40,46},{16,6,36,46},
-                // Row 2
-                {14,21,23,48},{14,29,23,48},{14,37,19,48},{14,0,56,48},{14,0,56,48},{14,0,27,48},{14,2,33,48},{14,12,28,48},
-                // Row 3
-                {15,17,30,47},{15,25,30,47},{15,34,22,47},{15,0,56,47},{15,0,56,47},{15,0,56,47},{15,0,40,47},{15,7,34,47},
-                // Row 4
-                {14,20,23,48},{14,28,23,48},{14,36,20,48},{14,0,56,48},{14,0,56,48},{14,0,56,48},{14,0,30,48},{14,8,28,48}
-            };
-            int idx = 0;
-            for (int row = 0; row < 4; row++) {
-                for (int col = 0; col < 8; col++) {
-                    int gapTop = castData[idx][0];
-                    int gapLeft = castData[idx][1];
-                    int w = castData[idx][2];
-                    int h = castData[idx][3];
-                    BufferedImage raw = castSheet.getSubimage(gapLeft, gapTop + row*64, w, h);
-                    spellcastSprites[row][col] = padFrame(raw);
-                    idx++;
-                }
-            }
-        } catch (IOException e) { spellcastSprites = null; }
-        // Load hurt.png (assume 6 frames horizontally)
-        try {
-            BufferedImage hurtSheet = ImageIO.read(new File("res/enemy/boss/hurt.png"));
-            hurtSprites = new BufferedImage[6];
-            int frameW = hurtSheet.getWidth() / 6;
-            int frameH = hurtSheet.getHeight();
-            for (int i = 0; i < 6; i++) {
-                hurtSprites[i] = hurtSheet.getSubimage(i * frameW, 0, frameW, frameH);
-            }
-        } catch (IOException e) { hurtSprites = null; }
-    }
-
-    // Helper to pad a sprite to fixed size, centering horizontally and aligning feet to bottom
-    private BufferedImage padFrame(BufferedImage src) {
-        BufferedImage padded = new BufferedImage(PAD_WIDTH, PAD_HEIGHT, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g = padded.createGraphics();
-        int x = (PAD_WIDTH - src.getWidth()) / 2;
-        int y = PAD_HEIGHT - src.getHeight();
-        g.drawImage(src, x, y, null);
-        g.dispose();
-        return padded;
+        animator = new Animator(AnimationSet.get(ANIMATIONS));
+        AnimationSet set = animator.getSet();
+        walkClip = set.indexOf("walk");
+        castClip = set.indexOf("cast");
+        hurtClip = set.indexOf("hurt");
+        animator.play(walkClip);
+        attackTimer = main.GameClock.getInstance().scheduleRepeating(ATTACK_INTERVAL, ATTACK_INTERVAL, () -> attackDue = true);
     }
 
-    public void update() {
-        long now = System.currentTimeMillis();
+    // Advances the boss by one tick; now is the game clock in milliseconds
+    public void update(long now) {
+        animator.advance(now);
         if (isDead) return;
-        // Handle dying state
+        // Handle dying state: dead once the hurt clip has played through
         if (isDying) {
             state = State.DYING;
             isCasting = false;
-            if (now - lastFrameTime > frameDuration) {
-                hurtFrame++;
-                lastFrameTime = now;
-                if (hurtFrame >= hurtSprites.length) {
-                    hurtFrame = hurtSprites.length - 1;
-                    isDead = true;
-                }
+            if (animator.isFinished()) {
+                isDead = true;
             }
             return;
         }
-        // Handle spellcast state
+        // Handle spellcast state: back to walking once the cast clip has played through
         if (state == State.SPELLCAST) {
             isCasting = true;
-            if (now - lastFrameTime > frameDuration) {
-                castFrame++;
-                lastFrameTime = now;
-                if (castFrame >= 8) {
-                    castFrame = 0;
-                    state = State.WALK;
-                    isCasting = false;
-                }
+            castFrame = animator.getFrameIndex();
+            if (animator.isFinished()) {
+                castFrame = 0;
+                state = State.WALK;
+                isCasting = false;
+                animator.play(walkClip);
             }
             return;
         }
         isCasting = false;
         // Handle walk state
         if (state == State.WALK) {
-            // Start spellcast every 5 seconds
-            if (now - lastAttackTime > 5000) {
+            // Start a spellcast when the attack timer has fired (every 5 seconds of game time)
+            if (attackDue) {
+                attackDue = false;
                 state = State.SPELLCAST;
                 castFrame = 0;
                 lastAttackTime = now;
+                animator.restart(castClip);
+                pattern = Pattern.values()[(pattern.ordinal() + 1) % Pattern.values().length];
+                lastEmitFrame = -1;
+                emitTick = 0;
                 return;
             }
             // Initialize pacing range on first update
@@ -192,13 +127,54 @@ public class BossNoxar {
                 x = paceEndX;
                 paceDir = -1;
             }
-            // Walk animation (like player)
-            spriteCounter++;
-            if (spriteCounter > WALK_FRAME_SPEED) {
-                spriteNum = (spriteNum + 1) % WALK_FRAME_COUNT;
-                spriteCounter = 0;
+        }
+    }
+
+    // Fires this tick's projectiles for the current spellcast into the pool (call once per tick).
+    // targetX/targetY is the point aimed shots fly towards.
+    public void emitProjectiles(ProjectilePool pool, int targetX, int targetY) {
+        if (state != State.SPELLCAST) {
+            return;
+        }
+        float cx = x + width / 2f;
+        float cy = y + height / 2f;
+        boolean newFrame = castFrame != lastEmitFrame;
+        lastEmitFrame = castFrame;
+        // Denser patterns once the boss is below half health
+        boolean enraged = health * 2 < maxHealth;
+        switch (pattern) {
+            case AIMED -> {
+                // One shot at the player on the middle frame (three fanned shots when enraged)
+                if (newFrame && castFrame == 3) {
+                    pool.spawnAimed(cx, cy, targetX, targetY, BossProjectile.SPEED, BossProjectile.DAMAGE);
+                    if (enraged) {
+                        double aim = Math.atan2(targetY - cy, targetX - cx);
+                        for (int side = -1; side <= 1; side += 2) {
+                            double angle = aim + side * 0.25;
+                            pool.spawn(cx, cy, (float) (Math.cos(angle) * BossProjectile.SPEED),
+                                (float) (Math.sin(angle) * BossProjectile.SPEED), BossProjectile.DAMAGE);
+                        }
+                    }
+                }
+            }
+            case RADIAL -> {
+                // Rings on frames 2, 4 and 6, each offset by half a gap so they interleave
+                if (newFrame && (castFrame == 2 || castFrame == 4 || castFrame == 6)) {
+                    int shots = enraged ? RADIAL_SHOTS * 2 : RADIAL_SHOTS;
+                    double offset = (castFrame / 2 % 2) * Math.PI / shots;
+                    pool.spawnRadial(cx, cy, shots, BossProjectile.SPEED * 0.5f, offset, PATTERN_DAMAGE);
+                }
+            }
+            case SPIRAL -> {
+                // Rotating arms for the rest of the cast
+                if (castFrame >= 2 && emitTick % SPIRAL_INTERVAL == 0) {
+                    int arms = enraged ? SPIRAL_ARMS * 2 : SPIRAL_ARMS;
+                    pool.spawnRadial(cx, cy, arms, BossProjectile.SPEED * 0.6f, spiralAngle, PATTERN_DAMAGE);
+                    spiralAngle += SPIRAL_TURN;
+                }
             }
         }
+        emitTick++;
     }
 
     public void takeDamage(int dmg) {
@@ -206,38 +182,59 @@ public class BossNoxar {
         health -= dmg;
         if (health <= 0) {
             health = 0;
-            isDying = true;
-            hurtFrame = 0;
-            lastFrameTime = System.currentTimeMillis();
+            startDying();
         }
     }
 
+    // Switches to the hurt clip; the boss is dead once it has played through
+    public void startDying() {
+        if (isDead || isDying) return;
+        isDying = true;
+        isCasting = false;
+        state = State.DYING;
+        attackTimer.cancel();
+        animator.restart(hurtClip);
+    }
+
+    // Stops the attack timer; call when this boss is replaced or removed
+    public void dispose() {
+        attackTimer.cancel();
+    }
+
     public void setPlayerPosition(int px, int py) {
         this.playerX = px;
         this.playerY = py;
     }
 
-    public void draw(Graphics2D g2, main.GamePanel gp) {
-        BufferedImage sprite = null;
-        int walkRow = 3; // Default to right
-        if (state == State.WALK) {
-            walkRow = (paceDir == -1) ? 1 : 3;
-            sprite = walkSprites[walkRow][spriteNum];
-        } else if (state == State.SPELLCAST) {
-            // Face player for spellcast, but use walk animation
+    // Returns the frame for the current animation state
+    public BufferedImage getCurrentSprite() {
+        int facing = (paceDir == -1) ? Animator.LEFT : Animator.RIGHT;
+        if (state == State.SPELLCAST) {
+            // Face the player while casting
             int dx = playerX - (x + width/2);
             int dy = playerY - (y + height/2);
             if (Math.abs(dx) > Math.abs(dy)) {
-                walkRow = (dx < 0) ? 1 : 3;
+                facing = (dx < 0) ? Animator.LEFT : Animator.RIGHT;
             } else {
-                walkRow = (dy < 0) ? 0 : 2;
-            }
-            sprite = walkSprites[walkRow][spriteNum];
-        } else if (state == State.DYING) {
-            if (hurtSprites != null) {
-                sprite = hurtSprites[hurtFrame];
+                facing = (dy < 0) ? Animator.UP : Animator.DOWN;
             }
         }
+        animator.setDirection(facing);
+        return animator.getFrame();
+    }
+
+    public void draw(Graphics2D g2, main.GamePanel gp) {
+        // Use the published position and frame when rendering off the simulation thread
+        main.WorldSnapshot view = gp.getRenderView();
+        boolean fromView = view != null && view.hasBoss;
+        BufferedImage sprite = fromView ? view.bossSprite : getCurrentSprite();
+        int x = fromView ? view.bossX : this.x;
+        int y = fromView ? view.bossY : this.y;
+        drawAt(g2, gp, sprite, x, y);
+    }
+
+    // Draws a boss frame and its name at a position (used with the published snapshot)
+    public static void drawAt(Graphics2D g2, main.GamePanel gp, BufferedImage sprite, int x, int y) {
         if (sprite != null) {
             double scale = 1.3;
             int drawHeight = (int)(gp.tileSize * scale);
@@ -251,8 +248,8 @@ public class BossNoxar {
         // Draw name above
         g2.setFont(new Font("Arial", Font.BOLD, 24));
         g2.setColor(Color.WHITE);
-        int nameWidth = g2.getFontMetrics().stringWidth(name);
-        g2.drawString(name, x + gp.tileSize / 2 - nameWidth / 2, y - 10);
+        int nameWidth = g2.getFontMetrics().stringWidth(NAME);
+        g2.drawString(NAME, x + gp.tileSize / 2 - nameWidth / 2, y - 10);
     }
 
     public Rectangle getBounds() {
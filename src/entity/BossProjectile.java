@@ -3,60 +3,46 @@
 // BossProjectile.java
 // Created: June 3, 2025
 // Authors: Aun, Ajmal
-// 
+//
 // Description: Manages boss projectile systems in the game. This class:
-// - Handles projectile behavior and movement
-// - Manages projectile effects
-// - Controls collision detection
-// - Processes projectile state
-// - Coordinates with game systems
+// - Holds the size, speed and damage shared by every boss projectile
+// - Loads the projectile sprite once for the whole pool
+// - Draws a projectile (or a placeholder when the sprite is missing)
+// - Works with ProjectilePool, which stores the live projectiles
 /////////////////////////////////////////////////////////////////////////////
 
 package entity;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 
-public class BossProjectile {
-    public double x, y;
-    public double vx, vy;
-    public int width = 32, height = 32;
-    public boolean active = true;
-    public int damage = 30;
-    private BufferedImage sprite;
-    private static final double SPEED = 8.0;
+public final class BossProjectile {
+    public static final int SIZE = 32;
+    public static final float SPEED = 8.0f;
+    public static final int DAMAGE = 30;
+    private static final String SPRITE_PATH = "res/enemy/boss/proj.png";
+    private static volatile BufferedImage sprite;
 
-    public BossProjectile(double startX, double startY, double targetX, double targetY) {
-        this.x = startX;
-        this.y = startY;
-        double dx = targetX - startX;
-        double dy = targetY - startY;
-        double dist = Math.sqrt(dx*dx + dy*dy);
-        this.vx = SPEED * dx / dist;
-        this.vy = SPEED * dy / dist;
-        try {
-            sprite = ImageIO.read(new File("res/enemy/boss/proj.png"));
-        } catch (IOException e) { sprite = null; }
+    private BossProjectile() {
     }
 
-    public void update() {
-        x += vx;
-        y += vy;
-    }
-
-    public void draw(Graphics2D g2) {
+    // Draws a projectile at the given position (used when rendering from a snapshot)
+    public static void drawAt(Graphics2D g2, BufferedImage sprite, int x, int y, int width, int height) {
         if (sprite != null) {
-            g2.drawImage(sprite, (int)x, (int)y, width, height, null);
+            g2.drawImage(sprite, x, y, width, height, null);
         } else {
             g2.setColor(Color.MAGENTA);
-            g2.fillOval((int)x, (int)y, width, height);
+            g2.fillOval(x, y, width, height);
         }
     }
 
-    public Rectangle getBounds() {
-        return new Rectangle((int)x, (int)y, width, height);
+    // Decoded once by the asset manager and shared by every projectile
+    public static BufferedImage getSprite() {
+        BufferedImage image = sprite;
+        if (image == null) {
+            image = main.AssetManager.getInstance().getImage(SPRITE_PATH);
+            sprite = image;
+        }
+        return image;
     }
-} 
\ No newline at end of file
+}
@@ -3,18 +3,75 @@
 // Enemy.java
 // Created: May 13, 2025
 // Authors: Aun, Ajmal
-// 
-// Description: Base class for enemy entities in the game. This class:
-// - Extends Entity for enemy-specific behavior
-// - Used for enemy AI and combat
-// - Stores enemy stats and properties
-// - Provides a framework for enemy types
-// - Supports enemy state management
+//
+// Description: Handle to one enemy kept in an EntityStore. This class:
+// - Names an enemy by its store slot and the slot's generation
+// - Reads and writes the enemy's data in the store's arrays
+// - Reports whether the enemy is still alive (a reused slot does not count)
+// - Is returned by EntityStore.spawn and by the store's spatial index
 /////////////////////////////////////////////////////////////////////////////
 
 package entity;
 
-// Enemy is a base class for all enemy types
-public class Enemy extends Entity {
-    // Additional enemy-specific fields and methods can be added here
-}
\ No newline at end of file
+// Enemy holds no state of its own; the store owns position, HP and animation
+public final class Enemy {
+    private final EntityStore store;
+    final int slot;
+    final int generation;
+
+    Enemy(EntityStore store, int slot, int generation) {
+        this.store = store;
+        this.slot = slot;
+        this.generation = generation;
+    }
+
+    // False once the enemy has been despawned
+    public boolean isAlive() {
+        return store.isLive(slot, generation);
+    }
+
+    public int getWorldX() {
+        return isAlive() ? store.getWorldX(slot) : 0;
+    }
+
+    public int getWorldY() {
+        return isAlive() ? store.getWorldY(slot) : 0;
+    }
+
+    public void setPosition(int worldX, int worldY) {
+        if (isAlive()) {
+            store.setPosition(slot, worldX, worldY);
+        }
+    }
+
+    // Pixels moved during the last update
+    public int getVelocityX() {
+        return isAlive() ? store.getVelocityX(slot) : 0;
+    }
+
+    public int getVelocityY() {
+        return isAlive() ? store.getVelocityY(slot) : 0;
+    }
+
+    // Facing: EntityStore.UP, LEFT, DOWN or RIGHT
+    public int getDirection() {
+        return isAlive() ? store.getDirection(slot) : EntityStore.DOWN;
+    }
+
+    public int getHp() {
+        return isAlive() ? store.getHp(slot) : 0;
+    }
+
+    // Takes HP away; the store removes the enemy on its next update once HP reaches 0
+    public void damage(int amount) {
+        if (isAlive()) {
+            store.setHp(slot, store.getHp(slot) - amount);
+        }
+    }
+
+    public void despawn() {
+        if (isAlive()) {
+            store.despawn(slot);
+        }
+    }
+}
@@ -15,7 +15,6 @@
 package entity;
 
 import java.awt.Rectangle;
-import java.awt.image.BufferedImage;
 
 // Base class for all game entities (players, NPCs, etc.)
 
@@ -26,20 +25,15 @@ public class Entity {
     // Movement speed of the entity
     public int speed;
 
-    // Sprite images for different directions of movement
-    // Each direction has 9 animation frames
-    public BufferedImage up1, up2, up3, up4, up5, up6, up7, up8, up9,       // Upward movement sprites
-                         down1, down2, down3, down4, down5, down6, down7, down8, down9,   // Downward movement sprites
-                         left1, left2, left3, left4, left5, left6, left7, left8, left9,   // Left movement sprites
-                         right1, right2, right3, right4, right5, right6, right7, right8, right9; // Right movement sprites
-
     // Current facing direction of the entity
     public String direction;
 
-    // Animation variables
-    public int spriteCounter = 0;    // Controls animation timing
-    public int spriteNum = 1;        // Current sprite frame number (1-9)
+    // Plays the entity's animation clips (loaded from its definition file under res/)
+    public Animator animator;
 
     public Rectangle playerHitbox;
     public boolean collisionOn = false; 
+
+    // Handle in GamePanel.entityIndex (-1 until registered)
+    public int spatialHandle = -1;
 }
\ No newline at end of file
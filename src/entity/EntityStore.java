@@ -0,0 +1,476 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// EntityStore.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Struct-of-arrays storage for large numbers of enemies. This class:
+// - Keeps position, velocity, hitbox, animation, HP and direction in parallel primitive arrays
+// - Packs live enemies densely so an update is one linear pass over the arrays
+// - Reuses freed slots through a free list, so spawning in a fight does not grow the arrays
+//   (each spawn only makes its small Enemy handle)
+// - Shares one walk clip per enemy kind instead of frames per enemy
+// - Steers the horde with the flow field, and routed kinds along their own Pathfinder routes,
+//   moving both with the swept collision check
+// - Hands out small Enemy handles that stay valid until their slot is reused
+// - Copies the enemies near the camera into the world snapshot; drawing only reads that copy
+/////////////////////////////////////////////////////////////////////////////
+
+package entity;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import main.CollisionChecker;
+import main.FlowField;
+import main.GamePanel;
+import main.Pathfinder;
+import main.SpatialIndex;
+
+// EntityStore is updated by the simulation thread once per tick
+public class EntityStore {
+    // Facing, matching the rows of an LPC walk sheet
+    public static final byte UP = 0;
+    public static final byte LEFT = 1;
+    public static final byte DOWN = 2;
+    public static final byte RIGHT = 3;
+    // Ticks per walk frame
+    private static final int FRAME_TICKS = 8;
+    private static final int NOT_DENSE = -1;
+    // Ticks a routed enemy keeps its route after the player has left the goal tile
+    private static final int REPATH_TICKS = 30;
+
+    private final GamePanel gp;
+    private final CollisionChecker.SweepResult sweep = new CollisionChecker.SweepResult();
+    private final Entity[] obstacles = new Entity[1];
+
+    // Walk clip per kind (from the kind's animation definition file)
+    private final List<AnimationClip> kindClips = new ArrayList<>();
+    private final List<String> kindPaths = new ArrayList<>();
+    // Kinds that ask the pathfinder for a route instead of following the flow field
+    private boolean[] kindRouted = new boolean[0];
+
+    // Per-slot data (parallel arrays, grown on spawn). Positions are fixed-point (CollisionChecker.FIXED_SHIFT).
+    private int[] posX, posY;
+    private int[] velX, velY;                   // Pixels moved last tick
+    private int[] boxX, boxY, boxW, boxH;       // Hitbox offset and size in pixels
+    private int[] hp;
+    private int[] speed;
+    private byte[] dir;
+    private byte[] frame;                       // Walk frame, 0 = standing
+    private byte[] frameTimer;
+    private short[] kind;
+    private int[] generation;                   // Bumped when a slot is freed, so stale handles can tell
+    private int[] spatialHandle;
+    private Enemy[] handles;
+    // Routed kinds only: current route, waypoint being walked to, ticks since it was asked for,
+    // and the pathfinder version it was asked under
+    private Pathfinder.PathRequest[] routes;
+    private short[] routeStep;
+    private short[] routeAge;
+    private int[] routeVersion;
+    // Tile the routed enemy being updated heads for (set by nextWaypoint)
+    private int waypointCol, waypointRow;
+
+    // dense[0..count) holds the live slots; denseOf[slot] is the slot's position there, or NOT_DENSE
+    private int[] dense;
+    private int[] denseOf;
+    private int count = 0;
+    private int highWater = 0;
+    // Freed slots, used as a stack
+    private int[] freeSlots;
+    private int freeCount = 0;
+    // Enemies found by the last cullVisible call (grow-only, reused every tick)
+    private int[] visiblePositions = new int[0];
+    private BufferedImage[] visibleSprites = new BufferedImage[0];
+
+    // Broadphase over the enemies' hitboxes
+    public final SpatialIndex<Enemy> index;
+
+    public EntityStore(GamePanel gp) {
+        this.gp = gp;
+        this.index = new SpatialIndex<>(gp.tileSize * 2, 4096);
+        allocate(64);
+    }
+
+    // Loads a kind's animation definition file once (it needs a "walk" clip) and returns its kind id
+    public int registerKind(String animationsPath) {
+        return registerKind(animationsPath, false);
+    }
+
+    // Same, for a kind that chases the player along pathfinder routes (for a few hunters, not a horde)
+    public int registerKind(String animationsPath, boolean routed) {
+        for (int i = 0; i < kindPaths.size(); i++) {
+            if (kindPaths.get(i).equals(animationsPath) && kindRouted[i] == routed) {
+                return i;
+            }
+        }
+        AnimationClip walk = AnimationSet.get(animationsPath).getClip("walk");
+        if (walk == null) {
+            System.err.println("Error loading enemy animations: no walk clip in " + animationsPath);
+        }
+        kindPaths.add(animationsPath);
+        kindClips.add(walk);
+        kindRouted = Arrays.copyOf(kindRouted, kindClips.size());
+        kindRouted[kindClips.size() - 1] = routed;
+        return kindClips.size() - 1;
+    }
+
+    // Adds an enemy of a registered kind at a world position (pixels) and returns its handle
+    public Enemy spawn(int kindId, int worldX, int worldY) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (highWater == posX.length) {
+                allocate(posX.length * 2);
+            }
+            slot = highWater++;
+        }
+        posX[slot] = worldX << CollisionChecker.FIXED_SHIFT;
+        posY[slot] = worldY << CollisionChecker.FIXED_SHIFT;
+        velX[slot] = 0;
+        velY[slot] = 0;
+        boxX[slot] = 28;
+        boxY[slot] = 16;
+        boxW[slot] = 24;
+        boxH[slot] = 48;
+        hp[slot] = 50;
+        speed[slot] = 2;
+        dir[slot] = DOWN;
+        frame[slot] = 0;
+        frameTimer[slot] = 0;
+        kind[slot] = (short) kindId;
+        routes[slot] = null;
+
+        Enemy handle = new Enemy(this, slot, generation[slot]);
+        handles[slot] = handle;
+        spatialHandle[slot] = index.insert(handle, worldX + boxX[slot], worldY + boxY[slot], boxW[slot], boxH[slot]);
+
+        denseOf[slot] = count;
+        dense[count++] = slot;
+        return handle;
+    }
+
+    // Removes an enemy; its slot is reused by a later spawn and its handle stops being alive
+    public void despawn(int slot) {
+        if (slot < 0 || slot >= highWater || denseOf[slot] == NOT_DENSE) {
+            return;
+        }
+        // Swap the last live slot into the hole so the dense range stays packed
+        int at = denseOf[slot];
+        int last = dense[--count];
+        dense[at] = last;
+        denseOf[last] = at;
+        denseOf[slot] = NOT_DENSE;
+
+        index.remove(spatialHandle[slot]);
+        spatialHandle[slot] = SpatialIndex.NONE;
+        generation[slot]++;
+        handles[slot] = null;
+        dropRoute(slot);
+        freeSlots[freeCount++] = slot;
+    }
+
+    // Removes every enemy
+    public void clear() {
+        for (int i = 0; i < highWater; i++) {
+            if (denseOf[i] != NOT_DENSE) {
+                generation[i]++;
+            }
+            handles[i] = null;
+            dropRoute(i);
+        }
+        Arrays.fill(denseOf, NOT_DENSE);
+        index.clear();
+        count = 0;
+        highWater = 0;
+        freeCount = 0;
+    }
+
+    // Number of live enemies
+    public int size() {
+        return count;
+    }
+
+    // Handle of the i-th live enemy (0 <= i < size()); the order changes when enemies despawn
+    public Enemy get(int i) {
+        return handles[dense[i]];
+    }
+
+    // Moves every enemy one step along the flow field, or along its route for routed kinds
+    public void update() {
+        if (count == 0) {
+            return;
+        }
+        FlowField field = gp.flowField;
+        boolean steer = field.isReady();
+        int tileSize = gp.tileSize;
+        int shift = CollisionChecker.FIXED_SHIFT;
+        Player player = gp.player;
+        int playerCol = Math.floorDiv(player.worldX + player.playerHitbox.x + player.playerHitbox.width / 2, tileSize);
+        int playerRow = Math.floorDiv(player.worldY + player.playerHitbox.y + player.playerHitbox.height / 2, tileSize);
+        // Enemies stack freely; only walls and the player stop them
+        obstacles[0] = player;
+
+        // Backwards, so a despawn swaps in an enemy that was already updated
+        for (int i = count - 1; i >= 0; i--) {
+            int slot = dense[i];
+            if (hp[slot] <= 0) {
+                despawn(slot);
+                continue;
+            }
+            int x = posX[slot] >> shift;
+            int y = posY[slot] >> shift;
+            int centerX = x + boxX[slot] + (boxW[slot] >> 1);
+            int centerY = y + boxY[slot] + (boxH[slot] >> 1);
+            int col = Math.floorDiv(centerX, tileSize);
+            int row = Math.floorDiv(centerY, tileSize);
+            int targetCol, targetRow;
+            if (kindRouted[kind[slot]]) {
+                if (!nextWaypoint(slot, col, row, centerX, centerY, playerCol, playerRow)) {
+                    // Route still being searched, walked to the player, or no way to reach them
+                    stand(slot);
+                    continue;
+                }
+                targetCol = waypointCol;
+                targetRow = waypointRow;
+            } else {
+                int step = steer ? field.getDirection(col, row) : FlowField.NONE;
+                if (step == FlowField.NONE) {
+                    // Waiting for the first field, on the player's tile, or no way to reach it
+                    stand(slot);
+                    continue;
+                }
+                targetCol = col + FlowField.DIR_COL[step];
+                targetRow = row + FlowField.DIR_ROW[step];
+            }
+
+            // Head for the centre of the target tile
+            int dx = targetCol * tileSize + (tileSize >> 1) - centerX;
+            int dy = targetRow * tileSize + (tileSize >> 1) - centerY;
+            int s = speed[slot];
+            int stepX = Integer.signum(dx) * Math.min(Math.abs(dx), s);
+            int stepY = Integer.signum(dy) * Math.min(Math.abs(dy), s);
+            if (Math.abs(dx) >= Math.abs(dy)) {
+                dir[slot] = dx < 0 ? LEFT : RIGHT;
+            } else {
+                dir[slot] = dy < 0 ? UP : DOWN;
+            }
+
+            gp.cCheck.sweepBox(boxX[slot], boxY[slot], boxW[slot], boxH[slot], null,
+                posX[slot], posY[slot], stepX << shift, stepY << shift, obstacles, 1, sweep);
+            posX[slot] = sweep.x;
+            posY[slot] = sweep.y;
+            int newX = sweep.x >> shift;
+            int newY = sweep.y >> shift;
+            velX[slot] = newX - x;
+            velY[slot] = newY - y;
+            index.move(spatialHandle[slot], newX + boxX[slot], newY + boxY[slot]);
+
+            // Walk animation
+            if (++frameTimer[slot] > FRAME_TICKS) {
+                AnimationClip walk = kindClips.get(kind[slot]);
+                int frames = walk != null ? walk.getFrameCount() : 1;
+                frameTimer[slot] = 0;
+                frame[slot] = (byte) (frame[slot] + 1 >= frames ? 0 : frame[slot] + 1);
+            }
+        }
+        obstacles[0] = null;
+    }
+
+    private void stand(int slot) {
+        velX[slot] = 0;
+        velY[slot] = 0;
+        frame[slot] = 0;
+    }
+
+    // Picks the waypoint a routed enemy walks to next, asking the pathfinder for a new route when it has
+    // none, finished it, the tiles changed, or the player has been off its goal for REPATH_TICKS.
+    // Returns false while there is nowhere to go yet.
+    private boolean nextWaypoint(int slot, int col, int row, int centerX, int centerY, int playerCol, int playerRow) {
+        Pathfinder pathfinder = gp.pathfinder;
+        Pathfinder.PathRequest route = routes[slot];
+        if (route != null && routeAge[slot] < Short.MAX_VALUE) {
+            routeAge[slot]++;
+        }
+        if (route != null && !route.isDone()) {
+            return false;
+        }
+        int tileSize = gp.tileSize;
+        int half = tileSize >> 1;
+        int reach = speed[slot];
+        if (route != null && route.isFound() && routeVersion[slot] == pathfinder.getVersion()) {
+            // Skip waypoints the enemy is already standing on
+            while (routeStep[slot] < route.getLength()
+                    && Math.abs(route.getCol(routeStep[slot]) * tileSize + half - centerX) <= reach
+                    && Math.abs(route.getRow(routeStep[slot]) * tileSize + half - centerY) <= reach) {
+                routeStep[slot]++;
+            }
+            boolean goalStale = route.goalCol != playerCol || route.goalRow != playerRow;
+            if (routeStep[slot] < route.getLength() && !(goalStale && routeAge[slot] >= REPATH_TICKS)) {
+                waypointCol = route.getCol(routeStep[slot]);
+                waypointRow = route.getRow(routeStep[slot]);
+                return true;
+            }
+        }
+        if (route != null && route.isDone() && col == playerCol && row == playerRow) {
+            return false;   // Already on the player's tile
+        }
+        if (route != null && !route.isFound() && routeAge[slot] < REPATH_TICKS) {
+            return false;   // No way to the player's tile; wait before asking again
+        }
+        routes[slot] = pathfinder.request(col, row, playerCol, playerRow);
+        routeVersion[slot] = pathfinder.getVersion();
+        routeStep[slot] = 0;
+        routeAge[slot] = 0;
+        return false;
+    }
+
+    private void dropRoute(int slot) {
+        if (routes[slot] != null) {
+            routes[slot].cancel();
+            routes[slot] = null;
+        }
+    }
+
+    // Finds every live enemy whose sprite overlaps the given world rectangle (pixels) and returns how many.
+    // Their positions (x, y, velocity x, velocity y per enemy) and sprites are left in getVisiblePositions()
+    // and getVisibleSprites() until the next call. Simulation thread only: this is how enemy state
+    // reaches the renderer.
+    public int cullVisible(int left, int top, int right, int bottom) {
+        if (visibleSprites.length < count) {
+            int capacity = Math.max(count, visibleSprites.length * 2);
+            visiblePositions = new int[capacity * 4];
+            visibleSprites = new BufferedImage[capacity];
+        }
+        int[] positions = visiblePositions;
+        BufferedImage[] sprites = visibleSprites;
+        int tileSize = gp.tileSize;
+        int shift = CollisionChecker.FIXED_SHIFT;
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = dense[i];
+            int x = posX[slot] >> shift;
+            int y = posY[slot] >> shift;
+            if (x + tileSize <= left || y + tileSize <= top || x >= right || y >= bottom) {
+                continue;
+            }
+            AnimationClip walk = kindClips.get(kind[slot]);
+            if (walk == null) {
+                continue;
+            }
+            positions[n * 4] = x;
+            positions[n * 4 + 1] = y;
+            positions[n * 4 + 2] = velX[slot];
+            positions[n * 4 + 3] = velY[slot];
+            sprites[n] = walk.getFrame(dir[slot], frame[slot]);
+            n++;
+        }
+        return n;
+    }
+
+    // Scratch filled by cullVisible; copy out what is needed before the next call
+    public int[] getVisiblePositions() {
+        return visiblePositions;
+    }
+
+    public BufferedImage[] getVisibleSprites() {
+        return visibleSprites;
+    }
+
+    // Draws the enemies of the snapshot being rendered. Reads only the snapshot, never the arrays
+    // above, which the simulation thread may be growing or rewriting meanwhile.
+    public void draw(Graphics2D g2) {
+        main.WorldSnapshot view = gp.getRenderView();
+        if (view == null) {
+            return;
+        }
+        int[] positions = view.enemies;
+        BufferedImage[] sprites = view.enemySprites;
+        int tileSize = gp.tileSize;
+        int cameraX = gp.getCameraX(), cameraY = gp.getCameraY();
+        for (int i = 0; i < view.enemyCount; i++) {
+            int screenX = positions[i * 4] - cameraX;
+            int screenY = positions[i * 4 + 1] - cameraY;
+            if (screenX + tileSize <= 0 || screenY + tileSize <= 0 || screenX >= gp.screenWidth || screenY >= gp.screenHeight) {
+                continue;
+            }
+            g2.drawImage(sprites[i], screenX, screenY, tileSize, tileSize, null);
+        }
+    }
+
+    // Accessors used by Enemy handles
+    boolean isLive(int slot, int gen) {
+        return slot < highWater && generation[slot] == gen && denseOf[slot] != NOT_DENSE;
+    }
+
+    int getWorldX(int slot) {
+        return posX[slot] >> CollisionChecker.FIXED_SHIFT;
+    }
+
+    int getWorldY(int slot) {
+        return posY[slot] >> CollisionChecker.FIXED_SHIFT;
+    }
+
+    int getVelocityX(int slot) {
+        return velX[slot];
+    }
+
+    int getVelocityY(int slot) {
+        return velY[slot];
+    }
+
+    int getHp(int slot) {
+        return hp[slot];
+    }
+
+    void setHp(int slot, int value) {
+        hp[slot] = value;
+    }
+
+    int getDirection(int slot) {
+        return dir[slot];
+    }
+
+    void setPosition(int slot, int worldX, int worldY) {
+        posX[slot] = worldX << CollisionChecker.FIXED_SHIFT;
+        posY[slot] = worldY << CollisionChecker.FIXED_SHIFT;
+        index.move(spatialHandle[slot], worldX + boxX[slot], worldY + boxY[slot]);
+    }
+
+    private void allocate(int capacity) {
+        int old = posX == null ? 0 : posX.length;
+        posX = grow(posX, capacity);
+        posY = grow(posY, capacity);
+        velX = grow(velX, capacity);
+        velY = grow(velY, capacity);
+        boxX = grow(boxX, capacity);
+        boxY = grow(boxY, capacity);
+        boxW = grow(boxW, capacity);
+        boxH = grow(boxH, capacity);
+        hp = grow(hp, capacity);
+        speed = grow(speed, capacity);
+        generation = grow(generation, capacity);
+        spatialHandle = grow(spatialHandle, capacity);
+        dense = grow(dense, capacity);
+        denseOf = grow(denseOf, capacity);
+        freeSlots = grow(freeSlots, capacity);
+        Arrays.fill(denseOf, old, capacity, NOT_DENSE);
+        dir = dir == null ? new byte[capacity] : Arrays.copyOf(dir, capacity);
+        frame = frame == null ? new byte[capacity] : Arrays.copyOf(frame, capacity);
+        frameTimer = frameTimer == null ? new byte[capacity] : Arrays.copyOf(frameTimer, capacity);
+        kind = kind == null ? new short[capacity] : Arrays.copyOf(kind, capacity);
+        handles = handles == null ? new Enemy[capacity] : Arrays.copyOf(handles, capacity);
+        routes = routes == null ? new Pathfinder.PathRequest[capacity] : Arrays.copyOf(routes, capacity);
+        routeStep = routeStep == null ? new short[capacity] : Arrays.copyOf(routeStep, capacity);
+        routeAge = routeAge == null ? new short[capacity] : Arrays.copyOf(routeAge, capacity);
+        routeVersion = grow(routeVersion, capacity);
+    }
+
+    private static int[] grow(int[] array, int capacity) {
+        return array == null ? new int[capacity] : Arrays.copyOf(array, capacity);
+    }
+}
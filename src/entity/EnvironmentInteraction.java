@@ -37,6 +37,9 @@ public class EnvironmentInteraction {
     private int worldY;
     private int interactionRadius;
     private long lastInteractionTime = 0;  // Track last interaction time
+    private boolean seen = false;          // Player has opened this dialogue at least once (saved)
+    // Handle in GamePanel's interaction index (-1 until registered)
+    public int spatialHandle = -1;
     private static final long INTERACTION_COOLDOWN = 1000;  // 1 second cooldown in milliseconds
     
     public EnvironmentInteraction(GamePanel gp, KeyHandler keyH, String name, int x, int y, int radius, String[] dialogue) {
@@ -58,7 +61,7 @@ public class EnvironmentInteraction {
                 currentParagraph = 0;
                 gp.gameState = GamePanel.PLAY_STATE;
                 keyH.escapePressed = false;
-                lastInteractionTime = System.currentTimeMillis();  // Set cooldown when dialogue ends
+                lastInteractionTime = gp.clock.nowMillis();  // Set cooldown when dialogue ends
                 return;
             }
             
@@ -70,7 +73,7 @@ public class EnvironmentInteraction {
 
             // Scrolling effect
             if (!paragraphFullyShown && currentParagraph < paragraphs.length) {
-                long now = System.currentTimeMillis();
+                long now = gp.clock.nowMillis();
                 if (now - lastScrollTime > SCROLL_DELAY) {
                     if (scrollIndex < paragraphs[currentParagraph].length()) {
                         visibleText.append(paragraphs[currentParagraph].charAt(scrollIndex));
@@ -84,18 +87,15 @@ public class EnvironmentInteraction {
             return;
         }
 
-        // Calculate distance to player
-        int dx = Math.abs(worldX - gp.player.worldX);
-        int dy = Math.abs(worldY - gp.player.worldY);
-        int distance = (int) Math.sqrt(dx * dx + dy * dy);
-        
-        // Check if player is in range for dialogue
-        inRange = distance < interactionRadius;
+        // Check if player is in range for dialogue (squared distances, no square root)
+        int dx = worldX - gp.player.worldX;
+        int dy = worldY - gp.player.worldY;
+        inRange = dx * dx + dy * dy < interactionRadius * interactionRadius;
         
         // Handle dialogue interaction
         if (inRange) {
             // Check cooldown before allowing interaction
-            long currentTime = System.currentTimeMillis();
+            long currentTime = gp.clock.nowMillis();
             if (keyH.ePressed && currentTime - lastInteractionTime >= INTERACTION_COOLDOWN) {
                 handleDialogue();
                 keyH.ePressed = false;
@@ -107,11 +107,12 @@ public class EnvironmentInteraction {
         if (!inDialogue) {
             // Start dialogue
             inDialogue = true;
+            seen = true;
             currentParagraph = 0;
             visibleText.setLength(0);
             scrollIndex = 0;
             paragraphFullyShown = false;
-            lastScrollTime = System.currentTimeMillis();
+            lastScrollTime = gp.clock.nowMillis();
             gp.gameState = GamePanel.DIALOGUE_STATE;
         } else {
             // If typewriter effect is running, skip to full text
@@ -139,16 +140,15 @@ public class EnvironmentInteraction {
                         gp.player.direction = "right";
                         gp.player.inventory.setOpen(false); // Force inventory closed
                         // Ensure sword textures are set if player has a sword
-                        if (gp.player.weapon != null && gp.player.weapon.getName().toLowerCase().contains("sword")) {
-                            gp.player.setSwordTextures(true);
-                        } else {
-                            gp.player.setSwordTextures(false);
-                        }
+                        gp.player.setSwordTextures(gp.player.hasSwordEquipped());
                         // Play battle music (will be started after cutscene)
                         main.AudioManager.getInstance().stopMusic();
                         // Spawn Noxar at the correct position, frozen
                         int bossX = platformX + (int)(16 * gp.tileSize * 0.75);
                         int bossY = platformY + (8 * gp.tileSize) / 2 - 64;
+                        if (gp.bossNoxar != null) {
+                            gp.bossNoxar.dispose();
+                        }
                         gp.bossNoxar = new entity.BossNoxar(bossX, bossY);
                         gp.bossNoxar.direction = "left";
                         // Start Noxar cutscene
@@ -159,34 +159,87 @@ public class EnvironmentInteraction {
                         gp.gameState = GamePanel.PLAY_STATE;
                     }
                     
-                    lastInteractionTime = System.currentTimeMillis();  // Set cooldown when dialogue actually ends
+                    lastInteractionTime = gp.clock.nowMillis();  // Set cooldown when dialogue actually ends
                 } else {
                     // Start next paragraph
                     visibleText.setLength(0);
                     scrollIndex = 0;
                     paragraphFullyShown = false;
-                    lastScrollTime = System.currentTimeMillis();
+                    lastScrollTime = gp.clock.nowMillis();
                 }
             }
         }
     }
     
-    public void draw(Graphics2D g2) {
-        // Calculate screen position
-        int screenX = worldX - gp.player.worldX + gp.player.screenX;
-        int screenY = worldY - gp.player.worldY + gp.player.screenY;
-        
-        // Draw interaction message if player is in range
-        if (inRange) {
-            if (inDialogue) {
-                drawDialogueBox(g2);
-            } else {
-                drawInteractionMessage(g2, screenX, screenY);
-            }
+    public boolean isSeen() {
+        return seen;
+    }
+
+    public void setSeen(boolean seen) {
+        this.seen = seen;
+    }
+
+    // True while this interaction shows a prompt or dialogue, so it must keep updating
+    public boolean isActive() {
+        return inRange || inDialogue;
+    }
+
+    public String getName() {
+        return interactionName;
+    }
+
+    public int getWorldX() {
+        return worldX;
+    }
+
+    public int getWorldY() {
+        return worldY;
+    }
+
+    public int getInteractionRadius() {
+        return interactionRadius;
+    }
+
+    // What the renderer needs to draw one interaction, copied on the game thread
+    public static final class View {
+        public final String name;
+        public final int worldX, worldY;
+        public final boolean inDialogue;
+        public final String text;           // Dialogue text revealed so far
+        public final boolean moreToCome;    // Show the "Press E to continue" prompt
+
+        View(String name, int worldX, int worldY, boolean inDialogue, String text, boolean moreToCome) {
+            this.name = name;
+            this.worldX = worldX;
+            this.worldY = worldY;
+            this.inDialogue = inDialogue;
+            this.text = text;
+            this.moreToCome = moreToCome;
+        }
+    }
+
+    // Copy of the drawable state, or null when there is nothing to draw (player out of range)
+    public View captureView() {
+        if (!inRange) {
+            return null;
+        }
+        return new View(interactionName, worldX, worldY, inDialogue,
+            inDialogue ? visibleText.toString() : "", inDialogue && currentParagraph < paragraphs.length);
+    }
+
+    // Draws the prompt or dialogue box of a captured interaction (render thread)
+    public static void draw(Graphics2D g2, GamePanel gp, View view) {
+        if (view.inDialogue) {
+            drawDialogueBox(g2, gp, view);
+        } else {
+            // Calculate screen position
+            int screenX = view.worldX - gp.getCameraX();
+            int screenY = view.worldY - gp.getCameraY();
+            drawInteractionMessage(g2, gp, screenX, screenY);
         }
     }
     
-    private void drawInteractionMessage(Graphics2D g2, int screenX, int screenY) {
+    private static void drawInteractionMessage(Graphics2D g2, GamePanel gp, int screenX, int screenY) {
         String message = "Press E to interact";
         g2.setFont(new Font("Comic Sans MS", Font.BOLD, 16));
         // Get the width of the message for centering
@@ -210,7 +263,7 @@ public class EnvironmentInteraction {
         );
     }
     
-    private void drawDialogueBox(Graphics2D g2) {
+    private static void drawDialogueBox(Graphics2D g2, GamePanel gp, View view) {
         int boxX = 60;
         int boxW = gp.screenWidth - 120;
         int boxH = 140;
@@ -226,16 +279,16 @@ public class EnvironmentInteraction {
         // Draw interaction name
         Font nameFont = new Font("Comic Sans MS", Font.BOLD, 28);
         g2.setFont(nameFont);
-        g2.drawString(interactionName, boxX + 20, boxY + 38);
+        g2.drawString(view.name, boxX + 20, boxY + 38);
         
         // Draw dialogue text
         Font dialogueFont = new Font("Comic Sans MS", Font.PLAIN, 22);
         g2.setFont(dialogueFont);
-        drawStringMultiLine(g2, visibleText.toString(), boxX + 20, boxY + 70, boxW - 40);
+        drawStringMultiLine(g2, view.text, boxX + 20, boxY + 70, boxW - 40);
         
         // Draw continue text with pulsing effect
-        if (inDialogue && currentParagraph < paragraphs.length) {
-            int alpha = (int)(128 + 127 * Math.sin(System.currentTimeMillis() / 200.0));
+        if (view.moreToCome) {
+            int alpha = (int)(128 + 127 * Math.sin(gp.clock.nowMillis() / 200.0));
             g2.setColor(new Color(255, 255, 255, alpha));
             g2.setFont(new Font("Comic Sans MS", Font.ITALIC, 16));
             String continueText = "Press E to continue";
@@ -244,7 +297,7 @@ public class EnvironmentInteraction {
         }
     }
     
-    private void drawStringMultiLine(Graphics2D g2, String text, int x, int y, int maxWidth) {
+    private static void drawStringMultiLine(Graphics2D g2, String text, int x, int y, int maxWidth) {
         String[] words = text.split(" ");
         String currentLine = "";
         
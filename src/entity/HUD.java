@@ -87,12 +87,18 @@ public class HUD {
 
     // Draw HUD on screen
     public void draw(Graphics2D g2, Weapon weapon) {
-        // Calculate distance from player to UI elements in shrine state
+        draw(g2, weapon, playerHealth, playerStamina, weaponName);
+    }
+
+    public void draw(Graphics2D g2, Weapon weapon, int playerHealth, int playerStamina, String weaponName) {
+        String[] history = showAttackHistory && weapon != null ? weapon.getAttackHistory().toArray(new String[0]) : null;
+        draw(g2, playerHealth, playerStamina, weaponName, history);
+    }
+
+    // Draw HUD using explicit values (e.g. from a published world snapshot); attackHistory is null when hidden
+    public void draw(Graphics2D g2, int playerHealth, int playerStamina, String weaponName, String[] attackHistory) {
+        // Full opacity everywhere, the shrine included
         float opacity = MAX_OPACITY;
-        if (gp.gameState == GamePanel.SHRINE_STATE) {
-            // Always use full opacity in shrine
-            opacity = MAX_OPACITY;
-        }
 
         // Store original composite
         Composite originalComposite = (AlphaComposite) g2.getComposite();
@@ -116,8 +122,8 @@ public class HUD {
         g2.drawString("Weapon: " + displayWeapon, 20, 140);
 
         // Draw attack history if enabled
-        if (showAttackHistory && weapon != null) {
-            drawAttackHistory(g2, weapon);
+        if (attackHistory != null) {
+            drawAttackHistory(g2, attackHistory);
         }
         
         // Draw control hints
@@ -153,7 +159,7 @@ public class HUD {
         g2.drawString(label, x + 10, y + 25);
     }
 
-    private void drawAttackHistory(Graphics2D g2, Weapon weapon) {
+    private void drawAttackHistory(Graphics2D g2, String[] history) {
         g2.setColor(new Color(0, 0, 0, 180));
         g2.fillRoundRect(10, 320, 400, 400, CORNER_RADIUS, CORNER_RADIUS);
         
@@ -162,19 +168,18 @@ public class HUD {
         g2.drawString("Attack History:", 20, 320);
         
         g2.setFont(new Font("Comic Sans MS", Font.PLAIN, FONT_SIZE - 8));
-        java.util.ArrayList<String> history = weapon.getAttackHistory();
-        for (int i = 0; i < history.size(); i++) {
-            g2.drawString((i+1) + ": " + history.get(i), 20, 310 + i*30);
+        for (int i = 0; i < history.length; i++) {
+            g2.drawString((i+1) + ": " + history[i], 20, 310 + i*30);
         }
     }
 
     public void drainStamina() {
         if (playerStamina > 0) {
             playerStamina = Math.max(0, playerStamina - STAMINA_DRAIN_RATE);
-            lastStaminaRegenTime = System.currentTimeMillis(); // Reset regen timer whenever stamina is drained
+            lastStaminaRegenTime = gp.clock.nowMillis(); // Reset regen timer whenever stamina is drained
             if (playerStamina == 0) {
                 isInCooldown = true;
-                lastStaminaDrainTime = System.currentTimeMillis();
+                lastStaminaDrainTime = gp.clock.nowMillis();
             }
         }
     }
@@ -182,14 +187,14 @@ public class HUD {
     public void regenerateStamina(boolean isMoving) {
         // Handle shift key cooldown
         if (wasShiftPressed && !keyH.shiftPressed) {
-            lastShiftReleaseTime = System.currentTimeMillis();
-            lastStaminaRegenTime = System.currentTimeMillis(); // Reset regen timer when shift is released
+            lastShiftReleaseTime = gp.clock.nowMillis();
+            lastStaminaRegenTime = gp.clock.nowMillis(); // Reset regen timer when shift is released
         }
         wasShiftPressed = keyH.shiftPressed;
 
         // Handle stamina cooldown
         if (isInCooldown) {
-            if (System.currentTimeMillis() - lastStaminaDrainTime >= COOLDOWN_TIME) {
+            if (gp.clock.nowMillis() - lastStaminaDrainTime >= COOLDOWN_TIME) {
                 isInCooldown = false;
             } else {
                 return;
@@ -197,7 +202,7 @@ public class HUD {
         }
 
         // Check if enough time has passed since last stamina drain to start regenerating
-        if (System.currentTimeMillis() - lastStaminaRegenTime < REGEN_DELAY) {
+        if (gp.clock.nowMillis() - lastStaminaRegenTime < REGEN_DELAY) {
             return;
         }
 
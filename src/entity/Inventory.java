@@ -46,42 +46,109 @@ public class Inventory {
     private static final int BUTTON_HEIGHT = 32;
     private static final int BUTTON_MARGIN = 8;
     private int hoveredButton = -1; // 0: Drop, 1: Use/Equip, 2: Details
+    // Objects near the player when dropping an item, reused between drops
+    private final object.SuperObject[] nearbyObjects = new object.SuperObject[32];
     private boolean detailsPopupOpen = false;
 
     // Add hovered slot tracking
     private int hoveredRow = -1;
     private int hoveredCol = -1;
 
+    // What the renderer needs to draw the open inventory, copied on the game thread.
+    // Items are copies, so later quantity changes do not show through.
+    public static final class View {
+        final Item[][] items;
+        final Item draggedItem;
+        final int dragOffsetX, dragOffsetY;
+        final boolean contextMenuOpen;
+        final int contextMenuRow, contextMenuCol;
+        final int contextMenuX, contextMenuY;
+        final int hoveredButton;
+        final boolean detailsPopupOpen;
+        final boolean solthornEquipped;
+
+        View(Inventory inventory) {
+            items = new Item[ROWS][COLS];
+            for (int i = 0; i < ROWS; i++) {
+                for (int j = 0; j < COLS; j++) {
+                    items[i][j] = copyOf(inventory.items[i][j]);
+                }
+            }
+            draggedItem = copyOf(inventory.draggedItem);
+            dragOffsetX = inventory.dragOffsetX;
+            dragOffsetY = inventory.dragOffsetY;
+            contextMenuOpen = inventory.contextMenuOpen;
+            contextMenuRow = inventory.contextMenuRow;
+            contextMenuCol = inventory.contextMenuCol;
+            contextMenuX = inventory.contextMenuX;
+            contextMenuY = inventory.contextMenuY;
+            hoveredButton = inventory.hoveredButton;
+            detailsPopupOpen = inventory.detailsPopupOpen;
+            Weapon weapon = inventory.gp.player.weapon;
+            solthornEquipped = weapon != null && weapon.getName().equalsIgnoreCase("Solthorn");
+        }
+
+        private static Item copyOf(Item item) {
+            return item != null ? new Item(item.getDefinition(), item.getQuantity()) : null;
+        }
+
+        // Item under the open context menu, or null
+        Item menuItem() {
+            if (contextMenuRow < 0 || contextMenuCol < 0) {
+                return null;
+            }
+            return items[contextMenuRow][contextMenuCol];
+        }
+    }
+
     public Inventory(GamePanel gp) {
         this.gp = gp;
     }
 
+    // Copy of the drawable state for the world snapshot, or null while the inventory is closed
+    public View captureView() {
+        return isOpen ? new View(this) : null;
+    }
+
     public void toggle() { isOpen = !isOpen; closeMenus(); }
     public boolean isOpen() { return isOpen; }
     public void setOpen(boolean open) { this.isOpen = open; closeMenus(); }
 
-    public void addItem(Item item) {
-        // Stack apples if possible
-        if (item.getName().equalsIgnoreCase("Apple")) {
-            for (int i = 0; i < ROWS; i++) {
-                for (int j = 0; j < COLS; j++) {
+    // Adds an item: tops up existing stacks of its type to the type's maxStack first, then puts the rest
+    // into empty slots in stacks of at most maxStack. Returns how many did not fit (0 when all of it did).
+    public int addItem(Item item) {
+        ItemDefinition definition = item.getDefinition();
+        int maxStack = definition.getMaxStack();
+        int remaining = item.getQuantity();
+        // Stack onto existing items of the same type if the type allows it
+        if (definition.isStackable()) {
+            for (int i = 0; i < ROWS && remaining > 0; i++) {
+                for (int j = 0; j < COLS && remaining > 0; j++) {
                     Item invItem = items[i][j];
-                    if (invItem != null && invItem.getName().equalsIgnoreCase("Apple")) {
-                        invItem.setQuantity(invItem.getQuantity() + item.getQuantity());
-                        return;
+                    if (invItem != null && invItem.getDefinition() == definition && invItem.getQuantity() < maxStack) {
+                        int moved = Math.min(remaining, maxStack - invItem.getQuantity());
+                        invItem.setQuantity(invItem.getQuantity() + moved);
+                        remaining -= moved;
                     }
                 }
             }
         }
-        // Otherwise, add to first empty slot
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
+        // Otherwise, add to the first empty slots
+        boolean placedItem = remaining < item.getQuantity();
+        for (int i = 0; i < ROWS && remaining > 0; i++) {
+            for (int j = 0; j < COLS && remaining > 0; j++) {
                 if (items[i][j] == null) {
-                    items[i][j] = item;
-                    return;
+                    int quantity = Math.min(remaining, maxStack);
+                    // The item itself takes the first slot; further stacks are new items of the same type
+                    Item stack = placedItem ? new Item(definition, quantity) : item;
+                    stack.setQuantity(quantity);
+                    placedItem = true;
+                    items[i][j] = stack;
+                    remaining -= quantity;
                 }
             }
         }
+        return remaining;
     }
 
     public void handleMousePress(int mouseX, int mouseY, boolean isRightClick) {
@@ -220,40 +287,28 @@ public class Inventory {
                 // Drop only one item
                 if (item.getName().toLowerCase().contains("apple")) {
                     boolean stacked = false;
-                    for (int i = 0; i < gp.obj.length; i++) {
-                        if (gp.obj[i] instanceof object.OBJ_Apple) {
-                            object.OBJ_Apple dropped = (object.OBJ_Apple)gp.obj[i];
-                            int hitbox = gp.tileSize; // 1 tile radius
-                            int dx = dropped.worldX - gp.player.worldX;
-                            int dy = dropped.worldY - gp.player.worldY;
-                            if (Math.abs(dx) < hitbox && Math.abs(dy) < hitbox) {
-                                dropped.quantity += 1;
-                                stacked = true;
-                                break;
-                            }
+                    // Stack onto an apple within one tile of the player (on both axes)
+                    int hitbox = gp.tileSize;
+                    int near = gp.objectIndex.queryRect(gp.player.worldX - hitbox + 1, gp.player.worldY - hitbox + 1,
+                        hitbox * 2 - 1, hitbox * 2 - 1, nearbyObjects);
+                    for (int i = 0; i < near; i++) {
+                        if (!stacked && nearbyObjects[i] instanceof object.OBJ_Apple dropped) {
+                            dropped.quantity += 1;
+                            stacked = true;
                         }
+                        nearbyObjects[i] = null;
                     }
                     if (!stacked) {
                         object.OBJ_Apple droppedApple = new object.OBJ_Apple(1);
                         droppedApple.worldX = gp.player.worldX;
                         droppedApple.worldY = gp.player.worldY;
-                        for (int i = 0; i < gp.obj.length; i++) {
-                            if (gp.obj[i] == null) {
-                                gp.obj[i] = droppedApple;
-                                break;
-                            }
-                        }
+                        gp.addObject(droppedApple);
                     }
                 } else if (item.getName().equalsIgnoreCase("Solthorn")) {
                     object.OBJ_Solthorn droppedSolthorn = new object.OBJ_Solthorn();
                     droppedSolthorn.worldX = gp.player.worldX;
                     droppedSolthorn.worldY = gp.player.worldY;
-                    for (int i = 0; i < gp.obj.length; i++) {
-                        if (gp.obj[i] == null) {
-                            gp.obj[i] = droppedSolthorn;
-                            break;
-                        }
-                    }
+                    gp.addObject(droppedSolthorn);
                     // If Solthorn was equipped, unequip and revert textures
                     if (gp.player.weapon != null && gp.player.weapon.getName().equalsIgnoreCase("Solthorn")) {
                         gp.player.weapon = null;
@@ -315,7 +370,8 @@ public class Inventory {
         }
     }
 
-    public void draw(Graphics2D g2) {
+    // Draws the inventory from a captured view (render thread); reads no live inventory state
+    public void draw(Graphics2D g2, View view) {
         // Draw semi-transparent background
         g2.setColor(new Color(0, 0, 0, 200));
         g2.fillRect(0, 0, gp.screenWidth, gp.screenHeight);
@@ -372,7 +428,7 @@ public class Inventory {
         g2.drawString(title, titleX, titleY);
 
         // Draw right-click hint at the bottom, fading in and out
-        long time = System.currentTimeMillis();
+        long time = gp.clock.nowMillis();
         int alpha = (int)(120 + 100 * Math.abs(Math.sin(time / 600.0)));
         g2.setFont(new Font("Comic Sans MS", Font.ITALIC, 18));
         String hint = "Right-click items for more options";
@@ -409,13 +465,10 @@ public class Inventory {
         // Draw items
         for (int i = 0; i < ROWS; i++) {
             for (int j = 0; j < COLS; j++) {
-                Item item = items[i][j];
+                Item item = view.items[i][j];
                 if (item != null) {
                     int x = gridStartX + j * (SLOT_WIDTH + SLOT_GAP);
                     int y = gridStartY + i * (SLOT_HEIGHT + SLOT_GAP);
-                    if (item.isDragging()) {
-                        continue; // Don't draw here, draw dragged item on top
-                    }
                     // Draw item image
                     g2.drawImage(item.getImage(), x + 4, y + 4, SLOT_WIDTH - 8, SLOT_HEIGHT - 8, null);
                     // Draw quantity if more than 1
@@ -430,28 +483,29 @@ public class Inventory {
         }
 
         // Draw dragged item on top
-        if (draggedItem != null) {
+        Item dragged = view.draggedItem;
+        if (dragged != null) {
             PointerInfo pi = MouseInfo.getPointerInfo();
             Point mp = pi.getLocation();
             SwingUtilities.convertPointFromScreen(mp, gp);
-            int drawX = mp.x - dragOffsetX;
-            int drawY = mp.y - dragOffsetY;
-            g2.drawImage(draggedItem.getImage(), drawX + 4, drawY + 4, SLOT_WIDTH - 8, SLOT_HEIGHT - 8, null);
-            if (draggedItem.getQuantity() > 1) {
+            int drawX = mp.x - view.dragOffsetX;
+            int drawY = mp.y - view.dragOffsetY;
+            g2.drawImage(dragged.getImage(), drawX + 4, drawY + 4, SLOT_WIDTH - 8, SLOT_HEIGHT - 8, null);
+            if (dragged.getQuantity() > 1) {
                 g2.setFont(new Font("Comic Sans MS", Font.BOLD, 14));
                 g2.setColor(Color.WHITE);
-                String quantity = String.valueOf(draggedItem.getQuantity());
+                String quantity = String.valueOf(dragged.getQuantity());
                 g2.drawString(quantity, drawX + SLOT_WIDTH - 20, drawY + SLOT_HEIGHT - 5);
             }
         }
 
         // Draw context menu if open
-        if (contextMenuOpen) {
-            drawContextMenu(g2);
+        if (view.contextMenuOpen) {
+            drawContextMenu(g2, view);
         }
         // Draw details popup if open
-        if (detailsPopupOpen) {
-            drawDetailsPopup(g2);
+        if (view.detailsPopupOpen) {
+            drawDetailsPopup(g2, view);
         }
     }
 
@@ -471,33 +525,20 @@ public class Inventory {
         }
     }
 
-    private void drawDetailsPopup(Graphics2D g2) {
-        int x = contextMenuX + MENU_WIDTH + 10;
-        int y = contextMenuY;
-        Item item = items[contextMenuRow][contextMenuCol];
+    private void drawDetailsPopup(Graphics2D g2, View view) {
+        int x = view.contextMenuX + MENU_WIDTH + 10;
+        int y = view.contextMenuY;
+        Item item = view.menuItem();
         if (item == null) return;
         int w = 340, h = 160; // Increased width and height
-        String[] descLines;
-        if (item.getName().toLowerCase().contains("apple")) {
-            descLines = new String[]{"A fresh, juicy apple that restores your vitality.", "Effect: Restores 20 health and 15 stamina."};
-        } else if (item.getName().equalsIgnoreCase("Solthorn")) {
-            descLines = new String[]{
-                "A legendary blade passed down through",
-                "Elaria's bloodline, forged around a gem said",
-                "to hold unimaginable power."
-            };
-        } else if (item.getName().toLowerCase().contains("sword")) {
-            descLines = new String[]{"Type: Weapon", "(More info here...)"};
-        } else {
-            descLines = new String[]{"Type: Other", "(More info here...)"};
-        }
+        String[] descLines = item.getDefinition().getDescription();
         drawDetailsPopupBox(g2, x, y, w, h, item.getName(), descLines, item.getQuantity());
     }
 
-    private void drawContextMenu(Graphics2D g2) {
-        int x = contextMenuX;
-        int y = contextMenuY;
-        Item item = items[contextMenuRow][contextMenuCol];
+    private void drawContextMenu(Graphics2D g2, View view) {
+        int x = view.contextMenuX;
+        int y = view.contextMenuY;
+        Item item = view.menuItem();
         if (item == null) return;
         // Make the menu taller
         int menuHeight = MENU_HEIGHT + 40; // Increase height by 40px
@@ -511,10 +552,10 @@ public class Inventory {
         String title = item.getName() + (item.getQuantity() > 1 ? " x" + item.getQuantity() : "");
         g2.drawString(title, x + 16, y + 32);
         // Buttons
-        String[] btns = {"Drop", item.getName().equalsIgnoreCase("Solthorn") && gp.player.weapon != null && gp.player.weapon.getName().equalsIgnoreCase("Solthorn") ? "Unequip" : "Use", "Details"};
+        String[] btns = {"Drop", item.getName().equalsIgnoreCase("Solthorn") && view.solthornEquipped ? "Unequip" : "Use", "Details"};
         for (int i = 0; i < 3; i++) {
             int btnY = y + 40 + i * (BUTTON_HEIGHT + BUTTON_MARGIN + 10); // Add 10px extra gap for more vertical space
-            g2.setColor(i == hoveredButton ? new Color(100, 100, 255) : new Color(60, 60, 60));
+            g2.setColor(i == view.hoveredButton ? new Color(100, 100, 255) : new Color(60, 60, 60));
             g2.fillRoundRect(x + 10, btnY, MENU_WIDTH - 20, BUTTON_HEIGHT, 8, 8);
             g2.setColor(Color.WHITE);
             g2.drawRoundRect(x + 10, btnY, MENU_WIDTH - 20, BUTTON_HEIGHT, 8, 8);
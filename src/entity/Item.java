@@ -15,77 +15,48 @@
 package entity;
 
 import java.awt.image.BufferedImage;
-import java.io.File;
-import javax.imageio.ImageIO;
 
+// Item is one stack of an item type in the inventory
 public class Item {
-    private String name;
-    private BufferedImage image;
-    private int x, y; // Position in inventory grid
-    private boolean isDragging = false;
-    private int dragOffsetX, dragOffsetY;
+    // Shared type data (name, image, description, stacking)
+    private final ItemDefinition definition;
     private int quantity = 1;
 
-    public Item(String name, String imagePath) {
-        this(name, imagePath, 1);
+    public Item(ItemDefinition definition) {
+        this(definition, 1);
     }
 
-    public Item(String name, String imagePath, int quantity) {
-        this.name = name;
-        this.quantity = quantity;
-        try {
-            this.image = ImageIO.read(new File(imagePath));
-        } catch (Exception e) {
-            System.err.println("Error loading item image: " + e.getMessage());
+    public Item(ItemDefinition definition, int quantity) {
+        if (definition == null) {
+            throw new IllegalArgumentException("Item definition must not be null");
         }
+        this.definition = definition;
+        this.quantity = quantity;
     }
 
-    public String getName() {
-        return name;
-    }
-    
-    public BufferedImage getImage() {
-        return image;
-    }
-
-    public int getX() {
-        return x;
-    }
-
-    public void setX(int x) {
-        this.x = x;
-    }
-
-    public int getY() {
-        return y;
-    }
-
-    public void setY(int y) {
-        this.y = y;
-    }
-
-    public boolean isDragging() {
-        return isDragging;
-    }
-
-    public void setDragging(boolean dragging) {
-        isDragging = dragging;
+    // Looks up a registered item type by name
+    public Item(String name, int quantity) {
+        this(requireDefinition(name), quantity);
     }
 
-    public int getDragOffsetX() {
-        return dragOffsetX;
+    private static ItemDefinition requireDefinition(String name) {
+        ItemDefinition definition = ItemDefinition.get(name);
+        if (definition == null) {
+            throw new IllegalArgumentException("Unknown item: " + name);
+        }
+        return definition;
     }
 
-    public void setDragOffsetX(int dragOffsetX) {
-        this.dragOffsetX = dragOffsetX;
+    public ItemDefinition getDefinition() {
+        return definition;
     }
 
-    public int getDragOffsetY() {
-        return dragOffsetY;
+    public String getName() {
+        return definition.getName();
     }
-
-    public void setDragOffsetY(int dragOffsetY) {
-        this.dragOffsetY = dragOffsetY;
+    
+    public BufferedImage getImage() {
+        return definition.getImage();
     }
 
     public int getQuantity() {
@@ -95,4 +66,4 @@ public class Item {
     public void setQuantity(int q) {
         quantity = q;
     }
-} 
\ No newline at end of file
+} 
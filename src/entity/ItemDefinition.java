@@ -0,0 +1,94 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// ItemDefinition.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Shared per-type data for items and world objects. This class:
+// - Holds one image, description and stacking rule per item type
+// - Is looked up by item name from a single registry
+// - Lets every Item and SuperObject of a type share one decoded image
+// - Keeps per-instance item state down to a definition and a quantity
+/////////////////////////////////////////////////////////////////////////////
+
+package entity;
+
+import java.awt.image.BufferedImage;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import main.AssetManager;
+
+// ItemDefinition is immutable apart from its lazily loaded image
+public final class ItemDefinition {
+    // Registered definitions keyed by lower-case item name
+    private static final ConcurrentHashMap<String, ItemDefinition> registry = new ConcurrentHashMap<>();
+
+    // Built-in item types
+    public static final ItemDefinition APPLE = register(new ItemDefinition("Apple", "res/object/apple.png", 99,
+        "A fresh, juicy apple that restores your vitality.",
+        "Effect: Restores 20 health and 15 stamina."));
+    public static final ItemDefinition SOLTHORN = register(new ItemDefinition("Solthorn", "res/object/solthorn.png", 1,
+        "A legendary blade passed down through",
+        "Elaria's bloodline, forged around a gem said",
+        "to hold unimaginable power."));
+    public static final ItemDefinition KEY = register(new ItemDefinition("Key", "res/object/key.png", 1,
+        "Type: Other", "(More info here...)"));
+
+    private final String name;
+    private final String imagePath;
+    private final int maxStack;             // 1 means the item never stacks
+    private final String[] description;     // Lines shown in the details popup
+    private volatile BufferedImage image;   // Decoded on first use, then shared
+
+    public ItemDefinition(String name, String imagePath, int maxStack, String... description) {
+        this.name = name;
+        this.imagePath = imagePath;
+        this.maxStack = Math.max(1, maxStack);
+        this.description = description;
+    }
+
+    // Adds a definition to the registry (replacing any with the same name) and returns it
+    public static ItemDefinition register(ItemDefinition definition) {
+        registry.put(key(definition.name), definition);
+        return definition;
+    }
+
+    // Returns the definition for an item name (case-insensitive), or null if none is registered
+    public static ItemDefinition get(String name) {
+        return registry.get(key(name));
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getImagePath() {
+        return imagePath;
+    }
+
+    // The shared image for this item type (null if the file could not be loaded)
+    public BufferedImage getImage() {
+        BufferedImage result = image;
+        if (result == null && imagePath != null) {
+            result = AssetManager.getInstance().getImage(imagePath);
+            image = result;
+        }
+        return result;
+    }
+
+    public String[] getDescription() {
+        return description.clone();
+    }
+
+    public int getMaxStack() {
+        return maxStack;
+    }
+
+    public boolean isStackable() {
+        return maxStack > 1;
+    }
+}
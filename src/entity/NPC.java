@@ -22,15 +22,12 @@ import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import javax.imageio.ImageIO;
 import main.GamePanel;
 import main.KeyHandler;
+import main.Pathfinder;
 import java.awt.BasicStroke;
 
 public class NPC extends Entity {
@@ -39,11 +36,18 @@ public class NPC extends Entity {
     public Dialogue dialogue;
     public boolean inDialogue = false;
     private int actionLockCounter = 0;
-    private boolean collisionOn = false;
     private int speed;
-    private int spriteCounter = 0;
-    private int spriteNum = 1;
-    private BufferedImage up1, up2, up3, up4, up5, up6, up7, up8, up9, down1, down2, down3, down4, down5, down6, down7, down8, down9, left1, left2, left3, left4, left5, left6, left7, left8, left9, right1, right2, right3, right4, right5, right6, right7, right8, right9;
+    // Wandering: routes from the shared pathfinder to open tiles near where Elaria first stood
+    private static final int WANDER_TILES = 4;
+    private int homeX = Integer.MIN_VALUE, homeY;   // Set on her first wander, after she is placed
+    private Pathfinder.PathRequest route;
+    private int routeVersion;           // Pathfinder version the route was asked for under
+    private int routeStep;              // Waypoint being walked to
+    private int segmentStartX, segmentStartY;
+    private int segmentTravelled;       // Pixels walked from the segment start
+    private int routeX, routeY;         // Where the route left the NPC last tick
+    private static final String ANIMATIONS = "res/elaria/animations.txt";
+    private int idleClip, walkClip;
     public boolean inRange = false;
     private boolean hasGivenSword = false;
     private int dialogueState = 0;
@@ -68,7 +72,6 @@ public class NPC extends Entity {
         this.speed = 1;  // Set a reasonable speed for NPC movement
         // Hitbox: exactly matches player
         this.playerHitbox = new Rectangle(24, 0, 32, 88);
-        this.collisionOn = false;
         
         // Initialize NPC specific fields
         this.dialogue = new Dialogue();
@@ -83,71 +86,20 @@ public class NPC extends Entity {
         loadStory();
     }
     
-    // Loads all NPC sprites from the sprite sheet
+    // Loads the NPC's animation clips
     public void getNPCImage() {
-        try {
-            // Sprite sheet configuration
-            String spriteSheetPath = "res/elaria/walk.png";
-            
-            BufferedImage spriteSheet = ImageIO.read(new File(spriteSheetPath));
-            if (spriteSheet == null) {
-                throw new IOException("Failed to load sprite sheet");
-            }
-            
-            // Load all sprites using exact pixel offsets
-            // Up (row 1)
-            up1 = spriteSheet.getSubimage(0, 0, 64, 64);
-            up2 = spriteSheet.getSubimage(64, 0, 64, 64);
-            up3 = spriteSheet.getSubimage(128, 0, 64, 64);
-            up4 = spriteSheet.getSubimage(192, 0, 64, 64);
-            up5 = spriteSheet.getSubimage(256, 0, 64, 64);
-            up6 = spriteSheet.getSubimage(320, 0, 64, 64);
-            up7 = spriteSheet.getSubimage(384, 0, 64, 64);
-            up8 = spriteSheet.getSubimage(448, 0, 64, 64);
-            up9 = spriteSheet.getSubimage(512, 0, 64, 64);
-            
-            // Left (row 2)
-            left1 = spriteSheet.getSubimage(0, 64, 64, 64);
-            left2 = spriteSheet.getSubimage(64, 64, 64, 64);
-            left3 = spriteSheet.getSubimage(128, 64, 64, 64);
-            left4 = spriteSheet.getSubimage(192, 64, 64, 64);
-            left5 = spriteSheet.getSubimage(256, 64, 64, 64);
-            left6 = spriteSheet.getSubimage(320, 64, 64, 64);
-            left7 = spriteSheet.getSubimage(384, 64, 64, 64);
-            left8 = spriteSheet.getSubimage(448, 64, 64, 64);
-            left9 = spriteSheet.getSubimage(512, 64, 64, 64);
-            
-            // Down (row 3)
-            down1 = spriteSheet.getSubimage(0, 128, 64, 64);
-            down2 = spriteSheet.getSubimage(64, 128, 64, 64);
-            down3 = spriteSheet.getSubimage(128, 128, 64, 64);
-            down4 = spriteSheet.getSubimage(192, 128, 64, 64);
-            down5 = spriteSheet.getSubimage(256, 128, 64, 64);
-            down6 = spriteSheet.getSubimage(320, 128, 64, 64);
-            down7 = spriteSheet.getSubimage(384, 128, 64, 64);
-            down8 = spriteSheet.getSubimage(448, 128, 64, 64);
-            down9 = spriteSheet.getSubimage(512, 128, 64, 64);
-            
-            // Right (row 4)
-            right1 = spriteSheet.getSubimage(0, 192, 64, 64);
-            right2 = spriteSheet.getSubimage(64, 192, 64, 64);
-            right3 = spriteSheet.getSubimage(128, 192, 64, 64);
-            right4 = spriteSheet.getSubimage(192, 192, 64, 64);
-            right5 = spriteSheet.getSubimage(256, 192, 64, 64);
-            right6 = spriteSheet.getSubimage(320, 192, 64, 64);
-            right7 = spriteSheet.getSubimage(384, 192, 64, 64);
-            right8 = spriteSheet.getSubimage(448, 192, 64, 64);
-            right9 = spriteSheet.getSubimage(512, 192, 64, 64);
-            
-        } catch (IOException e) {
-            System.err.println("Error loading NPC sprites: " + e.getMessage());
-            e.printStackTrace();
-        }
+        animator = new Animator(AnimationSet.get(ANIMATIONS));
+        idleClip = animator.getSet().indexOf("idle");
+        walkClip = animator.getSet().indexOf("walk");
+        animator.play(idleClip);
     }
 
     private void loadStory() {
         try {
-            List<String> lines = Files.readAllLines(Paths.get("res/dialogue/elaria.txt"));
+            List<String> lines = main.AssetManager.getInstance().getText("res/dialogue/elaria.txt");
+            if (lines == null) {
+                throw new IOException("Missing res/dialogue/elaria.txt");
+            }
             StringBuilder paragraph = new StringBuilder();
             for (String line : lines) {
                 if (line.trim().isEmpty()) {
@@ -181,9 +133,11 @@ public class NPC extends Entity {
 
     // Updates NPC state
     public void update() {
+        animator.advance(gp.getGameTimeMillis());
         // If in dialogue, only handle dialogue progression
         if (inDialogue) {
             direction = "down"; // Face forward during dialogue
+            animator.play(idleClip);
             
             // Handle escape key to skip dialogue
             if (keyH.escapePressed) {
@@ -191,7 +145,7 @@ public class NPC extends Entity {
                 currentParagraph = 0;
                 gp.gameState = GamePanel.PLAY_STATE;
                 keyH.escapePressed = false;
-                lastInteractionTime = System.currentTimeMillis();  // Set cooldown when dialogue ends
+                lastInteractionTime = gp.clock.nowMillis();  // Set cooldown when dialogue ends
                 return;
             }
             
@@ -203,7 +157,7 @@ public class NPC extends Entity {
 
             // Scrolling effect
             if (!paragraphFullyShown && currentParagraph < paragraphs.size()) {
-                long now = System.currentTimeMillis();
+                long now = gp.clock.nowMillis();
                 if (now - lastScrollTime > SCROLL_DELAY) {
                     if (scrollIndex < paragraphs.get(currentParagraph).length()) {
                         visibleText.append(paragraphs.get(currentParagraph).charAt(scrollIndex));
@@ -218,22 +172,21 @@ public class NPC extends Entity {
             // Handle weapon giving at the right moment
             if (currentParagraph == 12 && weaponCommand != null && !hasGivenSword) {
                 // Add Solthorn object to inventory as an Item
-                gp.player.inventory.addItem(new Item("Solthorn", "res/object/solthorn.png", 1));
+                gp.player.inventory.addItem(new Item(ItemDefinition.SOLTHORN, 1));
                 hasGivenSword = true;
             }
             return;
         }
 
-        // Calculate distance to player
-        int dx = Math.abs(worldX - gp.player.worldX);
-        int dy = Math.abs(worldY - gp.player.worldY);
-        int distance = (int) Math.sqrt(dx * dx + dy * dy);
-        
-        // Check if player is in range for dialogue
-        inRange = distance < gp.tileSize * 2;
+        // Check if player is in range for dialogue (squared distances, no square root)
+        int dx = worldX - gp.player.worldX;
+        int dy = worldY - gp.player.worldY;
+        int range = gp.tileSize * 2;
+        inRange = dx * dx + dy * dy < range * range;
         
         // Handle dialogue interaction
         if (inRange) {
+            animator.play(idleClip);
             // Face the player based on relative position
             if (gp.player.worldY < worldY - gp.tileSize) {
                 direction = "up";
@@ -246,7 +199,7 @@ public class NPC extends Entity {
             }
             
             // Check cooldown before allowing interaction
-            long currentTime = System.currentTimeMillis();
+            long currentTime = gp.clock.nowMillis();
             if (keyH.ePressed && currentTime - lastInteractionTime >= INTERACTION_COOLDOWN) {
                 handleDialogue();
                 keyH.ePressed = false;
@@ -254,35 +207,87 @@ public class NPC extends Entity {
             return;
         }
         
-        // Normal movement pattern
+        // Normal movement pattern: rest, then walk a route to a random open tile near home
         actionLockCounter++;
-        if (actionLockCounter >= 120) {
-            // Random direction change
-            String[] directions = {"up", "down", "left", "right"};
-            direction = directions[(int) (Math.random() * 4)];
+        if (route == null && actionLockCounter >= 120) {
+            requestWanderRoute();
             actionLockCounter = 0;
         }
+        boolean moving = route != null && followRoute();
 
-        // Check tile collision
-        collisionOn = false;
-        gp.cCheck.checkTile(this);
+        // Walk while moving, stand while resting or waiting for a route
+        animator.play(moving ? walkClip : idleClip);
+    }
 
-        // Move if no collision
-        if (!collisionOn) {
-            switch (direction) {
-                case "up" -> worldY -= speed;
-                case "down" -> worldY += speed;
-                case "left" -> worldX -= speed;
-                case "right" -> worldX += speed;
-            }
+    // Asks the pathfinder for a route from the NPC's tile to a random tile within WANDER_TILES of home
+    private void requestWanderRoute() {
+        if (homeX == Integer.MIN_VALUE) {
+            homeX = worldX;
+            homeY = worldY;
         }
+        int tileSize = gp.tileSize;
+        int col = Math.floorDiv(worldX + centerOffsetX(), tileSize);
+        int row = Math.floorDiv(worldY + centerOffsetY(), tileSize);
+        int homeCol = Math.floorDiv(homeX + centerOffsetX(), tileSize);
+        int homeRow = Math.floorDiv(homeY + centerOffsetY(), tileSize);
+        int goalCol = homeCol + (int) (Math.random() * (WANDER_TILES * 2 + 1)) - WANDER_TILES;
+        int goalRow = homeRow + (int) (Math.random() * (WANDER_TILES * 2 + 1)) - WANDER_TILES;
+        // Solid or off-map goals fail at once; the next rest picks another
+        route = gp.pathfinder.request(col, row, goalCol, goalRow);
+        routeVersion = gp.pathfinder.getVersion();
+        routeStep = 0;      // First centre the NPC on its own tile
+        segmentStartX = routeX = worldX;
+        segmentStartY = routeY = worldY;
+        segmentTravelled = 0;
+    }
 
-        // Animation handling
-        spriteCounter++;
-        if (spriteCounter > 12) {
-            spriteNum = spriteNum == 4 ? 1 : spriteNum + 1;
-            spriteCounter = 0;
+    // Moves speed pixels along the route's straight segments. Returns false while the route is still
+    // being searched, and drops it once it is walked, failed, outdated or the NPC was moved by something else.
+    private boolean followRoute() {
+        if (!route.isDone()) {
+            return false;
+        }
+        if (!route.isFound() || routeStep >= route.getLength() || routeVersion != gp.pathfinder.getVersion()
+                || worldX != routeX || worldY != routeY) {
+            route.cancel();
+            route = null;
+            return false;
+        }
+        int targetX = route.getCol(routeStep) * gp.tileSize + gp.tileSize / 2 - centerOffsetX();
+        int targetY = route.getRow(routeStep) * gp.tileSize + gp.tileSize / 2 - centerOffsetY();
+        int dx = targetX - segmentStartX;
+        int dy = targetY - segmentStartY;
+        // Straight and diagonal segments both take one tick per pixel along the longer axis
+        int length = Math.max(Math.abs(dx), Math.abs(dy));
+        segmentTravelled += speed;
+        if (segmentTravelled >= length) {
+            worldX = targetX;
+            worldY = targetY;
+            routeStep++;
+            segmentStartX = targetX;
+            segmentStartY = targetY;
+            segmentTravelled = 0;
+        } else {
+            worldX = segmentStartX + dx * segmentTravelled / length;
+            worldY = segmentStartY + dy * segmentTravelled / length;
+        }
+        if (Math.abs(dx) >= Math.abs(dy) && dx != 0) {
+            direction = dx < 0 ? "left" : "right";
+        } else if (dy != 0) {
+            direction = dy < 0 ? "up" : "down";
         }
+        routeX = worldX;
+        routeY = worldY;
+        return true;
+    }
+
+    // Offset from the NPC's position to the centre of its hitbox, the point routes are planned for
+    private int centerOffsetX() {
+        return playerHitbox.x + playerHitbox.width / 2;
+    }
+
+    private int centerOffsetY() {
+        return playerHitbox.y + playerHitbox.height / 2;
     }
     
     private void handleDialogue() {
@@ -293,7 +298,7 @@ public class NPC extends Entity {
             visibleText.setLength(0);
             scrollIndex = 0;
             paragraphFullyShown = false;
-            lastScrollTime = System.currentTimeMillis();
+            lastScrollTime = gp.clock.nowMillis();
             gp.gameState = GamePanel.DIALOGUE_STATE;
         } else {
             // If typewriter effect is running, skip to full text
@@ -309,34 +314,58 @@ public class NPC extends Entity {
                     inDialogue = false;
                     currentParagraph = 0;
                     gp.gameState = GamePanel.PLAY_STATE;
-                    lastInteractionTime = System.currentTimeMillis();  // Set cooldown when dialogue actually ends
+                    lastInteractionTime = gp.clock.nowMillis();  // Set cooldown when dialogue actually ends
                 } else {
                     // Start next paragraph
                     visibleText.setLength(0);
                     scrollIndex = 0;
                     paragraphFullyShown = false;
-                    lastScrollTime = System.currentTimeMillis();
+                    lastScrollTime = gp.clock.nowMillis();
                 }
             }
         }
     }
-    
+
+    // Whether Elaria has already handed over the Solthorn (kept in save files)
+    public boolean hasGivenSword() {
+        return hasGivenSword;
+    }
+
+    public void setGivenSword(boolean given) {
+        hasGivenSword = given;
+    }
+
+    // Dialogue text revealed so far, or null when not in dialogue (copied into world snapshots)
+    public String getDialogueText() {
+        return inDialogue ? visibleText.toString() : null;
+    }
+
+    // True once the current paragraph has finished scrolling in
+    public boolean isParagraphFullyShown() {
+        return paragraphFullyShown;
+    }
+
+    // Returns the frame for the NPC's current clip and facing direction
+    public BufferedImage getCurrentSprite() {
+        animator.setDirection(Animator.directionOf(direction));
+        return animator.getFrame();
+    }
+
     // Draw NPC
     public void draw(Graphics2D g2) {
-        // Draw NPC sprite
-        BufferedImage image = null;
-        switch (direction) {
-            case "up": image = up1; break;
-            case "down": image = down1; break;
-            case "left": image = left1; break;
-            case "right": image = right1; break;
-        }
-        int screenX = worldX - gp.player.worldX + gp.player.screenX;
-        int screenY = worldY - gp.player.worldY + gp.player.screenY;
+        // Draw NPC sprite (from the published snapshot when rendering off the simulation thread)
+        main.WorldSnapshot view = gp.getRenderView();
+        BufferedImage image = view != null ? view.npcSprite : getCurrentSprite();
+        int drawWorldX = view != null ? view.npcX : worldX;
+        int drawWorldY = view != null ? view.npcY : worldY;
+        int screenX = drawWorldX - gp.getCameraX();
+        int screenY = drawWorldY - gp.getCameraY();
         g2.drawImage(image, screenX, screenY, gp.tileSize, gp.tileSize, null);
 
         // Draw dialogue box if in dialogue
-        if (inDialogue) {
+        String text = view != null ? view.npcDialogue : getDialogueText();
+        boolean fullyShown = view != null ? view.npcDialogueDone : paragraphFullyShown;
+        if (text != null) {
             // Draw dialogue box
             int boxX = 50;
             int boxY = gp.screenHeight - 200;
@@ -357,7 +386,6 @@ public class NPC extends Entity {
             g2.setColor(Color.WHITE);
             
             // Draw visible text with word wrap
-            String text = visibleText.toString();
             String[] words = text.split(" ");
             int x = boxX + 20;
             int y = boxY + 40;
@@ -376,7 +404,7 @@ public class NPC extends Entity {
             }
             
             // Draw "Press E to continue" text
-            if (paragraphFullyShown) {
+            if (fullyShown) {
                 g2.setFont(new Font("Comic Sans MS", Font.ITALIC, 20));
                 String continueText = "Press E to continue";
                 int textWidth = g2.getFontMetrics().stringWidth(continueText);
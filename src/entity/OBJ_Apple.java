@@ -5,7 +5,7 @@
 // Authors: Aun, Ajmal
 // 
 // Description: Represents an apple object in the game. This class:
-// - Extends Entity for apple-specific behavior
+// - Extends Item for apple-specific behavior
 // - Used as a collectible or consumable item
 // - Can restore health or be used in quests
 // - Demonstrates object inheritance
@@ -15,11 +15,11 @@
 package entity;
 
 // OBJ_Apple defines the apple collectible entity
-public class OBJ_Apple extends Entity {
+public class OBJ_Apple extends Item {
     public OBJ_Apple() {
-        super("Apple", "res/object/apple.png", 1);
+        super(ItemDefinition.APPLE, 1);
     }
     public OBJ_Apple(int quantity) {
-        super("Apple", "res/object/apple.png", quantity);
+        super(ItemDefinition.APPLE, quantity);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,156 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// ProjectilePool.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Fixed-capacity store for boss projectiles. This class:
+// - Keeps position, velocity, damage and alive flag in parallel primitive arrays
+// - Keeps live projectiles packed at the front, removing dead ones by swapping in the last
+// - Moves, bounds-checks and hit-tests every projectile in one pass, without allocating
+// - Spawns single aimed shots and radial bursts for the boss's attack patterns
+// - Counts removals so the renderer knows when two snapshots line up
+/////////////////////////////////////////////////////////////////////////////
+
+package entity;
+
+import java.util.Arrays;
+
+// ProjectilePool is owned by GamePanel and only touched by the simulation thread
+public class ProjectilePool {
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final float[] x, y;         // Top-left corner in world pixels
+    private final float[] dx, dy;       // Pixels per tick
+    private final int[] damage;
+    private final boolean[] alive;
+    private int count = 0;
+    // Bumped whenever a projectile is removed; spawns append, so they leave existing indices alone
+    private int layoutVersion = 0;
+
+    public ProjectilePool(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        dx = new float[capacity];
+        dy = new float[capacity];
+        damage = new int[capacity];
+        alive = new boolean[capacity];
+    }
+
+    // Adds a projectile centred on (centerX, centerY); returns false when the pool is full
+    public boolean spawn(float centerX, float centerY, float velocityX, float velocityY, int damageAmount) {
+        if (count == x.length) {
+            return false;
+        }
+        int i = count++;
+        x[i] = centerX - BossProjectile.SIZE / 2f;
+        y[i] = centerY - BossProjectile.SIZE / 2f;
+        dx[i] = velocityX;
+        dy[i] = velocityY;
+        damage[i] = damageAmount;
+        alive[i] = true;
+        return true;
+    }
+
+    // Adds a projectile flying from (centerX, centerY) towards a target point
+    public boolean spawnAimed(float centerX, float centerY, float targetX, float targetY, float speed, int damageAmount) {
+        float ax = targetX - centerX;
+        float ay = targetY - centerY;
+        float length = (float) Math.sqrt(ax * ax + ay * ay);
+        if (length == 0) {
+            ax = 0;
+            ay = 1;
+            length = 1;
+        }
+        return spawn(centerX, centerY, speed * ax / length, speed * ay / length, damageAmount);
+    }
+
+    // Adds shots evenly spaced around a circle, the first at startAngle (radians). Returns how many fit.
+    public int spawnRadial(float centerX, float centerY, int shots, float speed, double startAngle, int damageAmount) {
+        double step = Math.PI * 2 / shots;
+        for (int k = 0; k < shots; k++) {
+            double angle = startAngle + step * k;
+            if (!spawn(centerX, centerY, (float) (Math.cos(angle) * speed), (float) (Math.sin(angle) * speed), damageAmount)) {
+                return k;
+            }
+        }
+        return shots;
+    }
+
+    // Marks a projectile dead; it is removed on the next update
+    public void kill(int i) {
+        if (i >= 0 && i < count) {
+            alive[i] = false;
+        }
+    }
+
+    // Moves every projectile, drops those outside the bounds (inclusive) and those touching the
+    // target box, and returns the total damage dealt to the target
+    public int update(int minX, int minY, int maxX, int maxY, int targetX, int targetY, int targetW, int targetH) {
+        int dealt = 0;
+        float size = BossProjectile.SIZE;
+        int i = 0;
+        while (i < count) {
+            float px = x[i] + dx[i];
+            float py = y[i] + dy[i];
+            x[i] = px;
+            y[i] = py;
+            boolean keep = alive[i] && px >= minX && px <= maxX && py >= minY && py <= maxY;
+            if (keep && px < targetX + targetW && targetX < px + size && py < targetY + targetH && targetY < py + size) {
+                dealt += damage[i];
+                keep = false;
+            }
+            if (keep) {
+                i++;
+                continue;
+            }
+            // Swap the last projectile into this slot; it is processed next, since i does not advance
+            int last = --count;
+            x[i] = x[last];
+            y[i] = y[last];
+            dx[i] = dx[last];
+            dy[i] = dy[last];
+            damage[i] = damage[last];
+            alive[i] = alive[last];
+            layoutVersion++;
+        }
+        return dealt;
+    }
+
+    // Removes every projectile
+    public void clear() {
+        if (count > 0) {
+            Arrays.fill(alive, 0, count, false);
+            count = 0;
+            layoutVersion++;
+        }
+    }
+
+    // Copies x, y pairs of the live projectiles into out (which needs size() * 2 entries)
+    public void copyPositions(float[] out) {
+        for (int i = 0; i < count; i++) {
+            out[i * 2] = x[i];
+            out[i * 2 + 1] = y[i];
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int capacity() {
+        return x.length;
+    }
+
+    public int getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    public float getX(int i) {
+        return x[i];
+    }
+
+    public float getY(int i) {
+        return y[i];
+    }
+}
@@ -0,0 +1,109 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// SpriteSheet.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Shared cache of decoded sprite sheets. This class:
+// - Decodes each sheet file once, no matter how many sprites are cut from it
+// - Converts sheets to a display-compatible format for fast drawing
+// - Hands out sub-image regions that share the sheet's pixel data
+// - Is used by the player, NPC and boss sprite loaders
+/////////////////////////////////////////////////////////////////////////////
+
+package entity;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ConcurrentHashMap;
+import main.AssetManager;
+
+// SpriteSheet wraps one decoded sheet image; instances are shared through get()
+public final class SpriteSheet {
+    // Decoded sheets keyed by file path
+    private static final ConcurrentHashMap<String, SpriteSheet> cache = new ConcurrentHashMap<>();
+
+    private final String path;
+    private final BufferedImage image;
+
+    private SpriteSheet(String path, BufferedImage image) {
+        this.path = path;
+        this.image = image;
+    }
+
+    // Returns the cached sheet for a path, decoding it on first use.
+    // Returns null if the file is missing or cannot be decoded.
+    public static SpriteSheet get(String path) {
+        SpriteSheet sheet = cache.get(path);
+        if (sheet != null) {
+            return sheet;
+        }
+        // The asset manager has usually decoded the file already during startup
+        BufferedImage image = AssetManager.getInstance().getImage(path);
+        if (image == null) {
+            return null;
+        }
+        sheet = new SpriteSheet(path, toCompatible(image));
+        // Another thread may have decoded the same sheet meanwhile; keep whichever landed first
+        SpriteSheet existing = cache.putIfAbsent(path, sheet);
+        return existing != null ? existing : sheet;
+    }
+
+    // Drops every cached sheet (sprites already handed out stay valid)
+    public static void clear() {
+        cache.clear();
+    }
+
+    // Copies an image into the screen's native pixel layout so drawing it needs no conversion
+    private static BufferedImage toCompatible(BufferedImage image) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return image;
+        }
+        GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice().getDefaultConfiguration();
+        if (image.getColorModel().equals(gc.getColorModel(Transparency.TRANSLUCENT))) {
+            return image;
+        }
+        BufferedImage compatible = gc.createCompatibleImage(image.getWidth(), image.getHeight(), Transparency.TRANSLUCENT);
+        Graphics2D g = compatible.createGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return compatible;
+    }
+
+    // Returns the sprite at the given pixel region, or null if it falls outside the sheet
+    public BufferedImage region(int x, int y, int width, int height) {
+        if (x < 0 || y < 0 || x + width > image.getWidth() || y + height > image.getHeight()) {
+            return null;
+        }
+        return image.getSubimage(x, y, width, height);
+    }
+
+    // Returns count sprites laid out left to right starting at (x, y); missing ones are null
+    public BufferedImage[] regions(int x, int y, int width, int height, int count) {
+        BufferedImage[] sprites = new BufferedImage[count];
+        for (int i = 0; i < count; i++) {
+            sprites[i] = region(x + i * width, y, width, height);
+        }
+        return sprites;
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    public int getWidth() {
+        return image.getWidth();
+    }
+
+    public int getHeight() {
+        return image.getHeight();
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
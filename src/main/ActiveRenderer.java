@@ -0,0 +1,182 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// ActiveRenderer.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Active rendering path for the game panel. This class:
+// - Draws each frame into an accelerated VolatileImage back buffer
+// - Presents the finished frame straight from the render thread
+// - Recovers when the back buffer contents are lost or become incompatible
+// - Honors the vsync setting by syncing and capping presents to the display rate
+// - Rebuilds the back buffer when the panel is resized
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.awt.Color;
+import java.awt.DisplayMode;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.Toolkit;
+import java.awt.image.VolatileImage;
+
+// ActiveRenderer replaces repaint() with direct frame presentation
+public class ActiveRenderer {
+    private GamePanel gp;
+    private VolatileImage backBuffer;
+    private long lastPresentTime = 0;   // System.nanoTime of the last present
+    private long presentCount = 0;      // Frames presented since start
+    private long restoreCount = 0;      // Times the back buffer had to be recreated or restored
+    // Display refresh rate, read once per device and display mode (-1: not read yet, 0: not reported)
+    private volatile int refreshRate = -1;
+    private GraphicsDevice refreshDevice;
+
+    // Constructor keeps a reference to the panel it presents to
+    public ActiveRenderer(GamePanel gp) {
+        this.gp = gp;
+    }
+
+    // Renders and presents one frame. Returns false if nothing could be presented
+    // (panel not showing yet, or vsync capped this frame).
+    public boolean renderFrame() {
+        if (!gp.isShowing() || gp.getWidth() <= 0 || gp.getHeight() <= 0) {
+            return false;
+        }
+
+        boolean vsync = GameSettings.getInstance().isVsync();
+        if (vsync && !isPresentDue()) {
+            return false;
+        }
+
+        do {
+            if (!validateBackBuffer()) {
+                return false;
+            }
+            Graphics2D g2 = backBuffer.createGraphics();
+            try {
+                g2.setColor(Color.BLACK);
+                g2.fillRect(0, 0, backBuffer.getWidth(), backBuffer.getHeight());
+                gp.drawFrame(g2);
+                gp.serveThumbnailRequests(backBuffer);
+                gp.drawDebugOverlay(g2);
+                gp.drawNavigationOverlay(g2);
+            } finally {
+                g2.dispose();
+            }
+            // Contents may have been lost while drawing; redraw before presenting
+            if (backBuffer.contentsLost()) {
+                restoreCount++;
+                continue;
+            }
+            present(vsync);
+        } while (backBuffer.contentsLost());
+
+        lastPresentTime = System.nanoTime();
+        presentCount++;
+        return true;
+    }
+
+    // Makes sure the back buffer exists, matches the panel size and is restored
+    private boolean validateBackBuffer() {
+        GraphicsConfiguration gc = gp.getGraphicsConfiguration();
+        if (gc == null) {
+            return false;
+        }
+        if (gc.getDevice() != refreshDevice) {
+            refreshRate = -1;   // Window moved to another screen
+        }
+        int width = gp.getWidth();
+        int height = gp.getHeight();
+        if (backBuffer == null || backBuffer.getWidth() != width || backBuffer.getHeight() != height) {
+            createBackBuffer(gc, width, height);
+            return true;
+        }
+        int status = backBuffer.validate(gc);
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+            // Moved to a different screen or the display mode changed
+            createBackBuffer(gc, width, height);
+        } else if (status == VolatileImage.IMAGE_RESTORED) {
+            restoreCount++;
+        }
+        return true;
+    }
+
+    private void createBackBuffer(GraphicsConfiguration gc, int width, int height) {
+        if (backBuffer != null) {
+            backBuffer.flush();
+            restoreCount++;
+        }
+        // New screen, display mode or window size (fullscreen): read the refresh rate again
+        refreshRate = -1;
+        backBuffer = gc.createCompatibleVolatileImage(width, height);
+    }
+
+    // Copies the back buffer onto the panel
+    private void present(boolean vsync) {
+        Graphics g = gp.getGraphics();
+        if (g == null) {
+            return;
+        }
+        try {
+            g.drawImage(backBuffer, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        if (vsync) {
+            // Flush the pipeline so the frame reaches the screen now rather than when the toolkit decides
+            Toolkit.getDefaultToolkit().sync();
+        }
+    }
+
+    // With vsync on, frames are never presented faster than the display refreshes
+    private boolean isPresentDue() {
+        long interval = getRefreshInterval();
+        return System.nanoTime() - lastPresentTime >= interval;
+    }
+
+    private long getRefreshInterval() {
+        int refreshRate = getRefreshRate(0);
+        if (refreshRate <= 0) {
+            return 0;
+        }
+        // Small allowance so a frame landing just before the refresh still presents
+        return 1_000_000_000L / refreshRate - 500_000L;
+    }
+
+    // Display refresh rate in Hz, or the fallback when the display does not report one.
+    // The display mode is a native query, so it is only read again after the back buffer is rebuilt.
+    public int getRefreshRate(int fallback) {
+        int rate = refreshRate;
+        if (rate < 0) {
+            GraphicsConfiguration gc = gp.getGraphicsConfiguration();
+            if (gc == null) {
+                gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+            }
+            refreshDevice = gc.getDevice();
+            DisplayMode mode = refreshDevice.getDisplayMode();
+            rate = mode != null && mode.getRefreshRate() != DisplayMode.REFRESH_RATE_UNKNOWN ? mode.getRefreshRate() : 0;
+            refreshRate = rate;
+        }
+        return rate > 0 ? rate : fallback;
+    }
+
+    // Releases the back buffer's video memory
+    public void dispose() {
+        if (backBuffer != null) {
+            backBuffer.flush();
+            backBuffer = null;
+        }
+    }
+
+    public long getPresentCount() {
+        return presentCount;
+    }
+
+    public long getRestoreCount() {
+        return restoreCount;
+    }
+}
@@ -0,0 +1,233 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// AssetManager.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Central loader for everything under res/. This class:
+// - Knows every resource the game uses (tiles, sprites, buttons, menu, audio, dialogue)
+// - Decodes them in parallel on a small bounded thread pool at startup
+// - Hands out futures so callers only block on the assets they actually need
+// - Loads the menu's assets first so the menu can show before the world is ready
+// - Holds a loaded asset only until a caller takes it; callers keep their own copy (sprite sheets,
+//   audio clips), and whatever the world did not ask for is dropped once it is built
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+
+// AssetManager loads and caches game resources asynchronously
+public class AssetManager {
+    // Singleton instance
+    private static AssetManager instance;
+
+    // Root of all game resources
+    public static final String RESOURCE_DIR = "res";
+    // Assets the main menu needs before it can be shown
+    private static final String[] MENU_ASSETS = {
+        "res/menu/menu.gif",
+        "res/audio/main_menu.wav"
+    };
+    // Loader threads; decoding is CPU bound so there is no point in many more than cores
+    private static final int POOL_SIZE = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private final ExecutorService pool;
+    // One future per asset path, from its first request until a blocking getter takes the result
+    private final ConcurrentHashMap<String, CompletableFuture<?>> assets = new ConcurrentHashMap<>();
+    // The manager's own reference to each preloaded GIF so its frames stay cached between menus
+    private final ConcurrentHashMap<String, GifImage> preloadedGifs = new ConcurrentHashMap<>();
+
+    // Private constructor for singleton pattern
+    private AssetManager() {
+        AtomicInteger threadCount = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(POOL_SIZE, r -> {
+            Thread t = new Thread(r, "AssetLoader-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // Gets singleton instance
+    public static synchronized AssetManager getInstance() {
+        if (instance == null) {
+            instance = new AssetManager();
+        }
+        return instance;
+    }
+
+    // Starts loading every known asset: the menu's first, then everything under res/
+    public void preloadAll() {
+        for (String path : MENU_ASSETS) {
+            if (new File(path).exists()) {
+                request(path);
+            }
+        }
+        preloadDirectory(new File(RESOURCE_DIR));
+    }
+
+    private void preloadDirectory(File dir) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                preloadDirectory(file);
+            } else {
+                request(file.getPath());
+            }
+        }
+    }
+
+    // Starts loading an asset based on its file type (unknown types are ignored)
+    private void request(String path) {
+        String name = path.toLowerCase();
+        if (name.endsWith(".png")) {
+            image(path);
+        } else if (name.endsWith(".gif")) {
+            preloadGif(path);
+        } else if (name.endsWith(".txt")) {
+            text(path);
+        } else if (name.endsWith(".wav")) {
+            bytes(path);
+        }
+    }
+
+    // Completes once every asset the menu needs has loaded (or failed)
+    public CompletableFuture<Void> whenMenuReady() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[MENU_ASSETS.length];
+        for (int i = 0; i < MENU_ASSETS.length; i++) {
+            String path = MENU_ASSETS[i];
+            if (!new File(path).exists()) {
+                futures[i] = CompletableFuture.completedFuture(null);
+            } else if (path.endsWith(".gif")) {
+                futures[i] = preloadGif(path).whenFirstFrameReady();
+            } else {
+                futures[i] = bytes(path).exceptionally(e -> null);
+            }
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    // Decoded image
+    public CompletableFuture<BufferedImage> image(String path) {
+        return load(path, "image", file -> {
+            BufferedImage image = ImageIO.read(file);
+            if (image == null) {
+                throw new IOException("Unsupported image format");
+            }
+            return image;
+        });
+    }
+
+    // New player for an animated GIF. Frames are decoded once on the pool and shared;
+    // the future completes as soon as the first frame can be shown.
+    public CompletableFuture<GifImage> gif(String path) {
+        return new GifImage(normalize(path), pool).whenFirstFrameReady();
+    }
+
+    private GifImage preloadGif(String path) {
+        return preloadedGifs.computeIfAbsent(normalize(path), p -> new GifImage(p, pool));
+    }
+
+    // Text file as lines
+    public CompletableFuture<List<String>> text(String path) {
+        return load(path, "text", file -> Files.readAllLines(file.toPath()));
+    }
+
+    // Raw file contents (audio clips are opened from these)
+    public CompletableFuture<byte[]> bytes(String path) {
+        return load(path, "bytes", file -> Files.readAllBytes(file.toPath()));
+    }
+
+    // Blocking helpers: wait for the asset and return it, or null if it failed to load.
+    // The manager lets go of the asset once it is handed out; a second call loads it again.
+    public BufferedImage getImage(String path) {
+        return take(path, "image", image(path));
+    }
+
+    public GifImage getGif(String path) {
+        return join(path, gif(path));
+    }
+
+    public List<String> getText(String path) {
+        return take(path, "text", text(path));
+    }
+
+    public byte[] getBytes(String path) {
+        return take(path, "bytes", bytes(path));
+    }
+
+    // Drops every loaded or loading asset nobody has taken (called once the world is built).
+    // Preloaded GIFs stay, as the menus come back to them.
+    public void discardUnclaimed() {
+        assets.clear();
+    }
+
+    private <T> T take(String path, String kind, CompletableFuture<T> future) {
+        T asset = join(path, future);
+        assets.remove(key(path, kind), future);
+        return asset;
+    }
+
+    private <T> T join(String path, CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof UncheckedIOException) {
+                cause = cause.getCause();
+            }
+            System.err.println("Failed to load asset " + path + ": " + cause.getMessage());
+            return null;
+        }
+    }
+
+    // Reads one file on the pool, reusing the existing future if it was already requested
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> load(String path, String kind, AssetLoader<T> loader) {
+        return (CompletableFuture<T>) assets.computeIfAbsent(key(path, kind), k -> CompletableFuture.supplyAsync(() -> {
+            File file = new File(normalize(path));
+            try {
+                if (!file.exists()) {
+                    throw new FileNotFoundException(file.getPath());
+                }
+                return loader.load(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, pool));
+    }
+
+    private static String key(String path, String kind) {
+        return normalize(path) + "#" + kind;
+    }
+
+    // Paths are accepted with or without a leading slash and with either separator
+    private static String normalize(String path) {
+        String normalized = path.replace('\\', '/');
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        return normalized;
+    }
+
+    // Decodes one file into an asset
+    private interface AssetLoader<T> {
+        T load(File file) throws IOException;
+    }
+}
@@ -15,6 +15,8 @@
 package main;
 import object.OBJ_Apple;
 import object.OBJ_Key;
+import object.OBJ_Solthorn;
+import object.SuperObject;
 
 public class AssetSetter {
     GamePanel gp;
@@ -24,64 +26,82 @@ public class AssetSetter {
     }
     
     private boolean isCollisionTile(int worldX, int worldY) {
-        int col = worldX / gp.tileSize;
-        int row = worldY / gp.tileSize;
+        int col = Math.floorDiv(worldX, gp.tileSize);
+        int row = Math.floorDiv(worldY, gp.tileSize);
         
-        // Check if coordinates are within map bounds
-        if (col < 0 || col >= gp.maxWorldCol || row < 0 || row >= gp.maxWorldRow) {
-            return true;
-        }
-        
-        // Get tile number at this position
-        int tileNum = gp.tileM.mapTileNum[col][row];
-        
-        // Check if the tile has collision
-        return gp.tileM.tile[tileNum].collision;
+        // Solid tiles and anything outside the map are both set in the collision bitmap
+        return gp.tileM.collisionMap.isSolid(col, row);
     }
     
     public void setObject() {
         // Place keys
-        gp.obj[0] = new OBJ_Key();
-        gp.obj[0].worldX = 7 * gp.tileSize;
-        gp.obj[0].worldY = 14 * gp.tileSize;
-
-        gp.obj[1] = new OBJ_Key();
-        gp.obj[1].worldX = 9 * gp.tileSize;
-        gp.obj[1].worldY = 14 * gp.tileSize;
+        place(0, new OBJ_Key(), 7, 14);
+        place(1, new OBJ_Key(), 9, 14);
         
         // Place apples in different areas, avoiding collision tiles
         // Forest area
         if (!isCollisionTile(15 * gp.tileSize, 20 * gp.tileSize)) {
-            gp.obj[2] = new OBJ_Apple();
-            gp.obj[2].worldX = 15 * gp.tileSize;
-            gp.obj[2].worldY = 20 * gp.tileSize;
+            place(2, new OBJ_Apple(), 15, 20);
         }
         
         if (!isCollisionTile(17 * gp.tileSize, 22 * gp.tileSize)) {
-            gp.obj[3] = new OBJ_Apple();
-            gp.obj[3].worldX = 17 * gp.tileSize;
-            gp.obj[3].worldY = 22 * gp.tileSize;
+            place(3, new OBJ_Apple(), 17, 22);
         }
         
         // Near water
         if (!isCollisionTile(25 * gp.tileSize, 15 * gp.tileSize)) {
-            gp.obj[4] = new OBJ_Apple();
-            gp.obj[4].worldX = 25 * gp.tileSize;
-            gp.obj[4].worldY = 15 * gp.tileSize;
+            place(4, new OBJ_Apple(), 25, 15);
         }
         
         // Near NPC
         if (!isCollisionTile(30 * gp.tileSize, 10 * gp.tileSize)) {
-            gp.obj[5] = new OBJ_Apple();
-            gp.obj[5].worldX = 30 * gp.tileSize;
-            gp.obj[5].worldY = 10 * gp.tileSize;
+            place(5, new OBJ_Apple(), 30, 10);
         }
         
         // Near starting area
         if (!isCollisionTile(10 * gp.tileSize, 8 * gp.tileSize)) {
-            gp.obj[6] = new OBJ_Apple();
-            gp.obj[6].worldX = 10 * gp.tileSize;
-            gp.obj[6].worldY = 8 * gp.tileSize;
+            place(6, new OBJ_Apple(), 10, 8);
+        }
+    }
+
+    public void setEnemies() {
+        gp.enemyStore.clear();
+        int zombie = gp.enemyStore.registerKind("res/enemy/zombie/animations.txt");
+
+        // Zombies in the forest below the starting area
+        if (!isCollisionTile(20 * gp.tileSize, 30 * gp.tileSize)) {
+            gp.enemyStore.spawn(zombie, 20 * gp.tileSize, 30 * gp.tileSize);
         }
+        if (!isCollisionTile(26 * gp.tileSize, 34 * gp.tileSize)) {
+            gp.enemyStore.spawn(zombie, 26 * gp.tileSize, 34 * gp.tileSize);
+        }
+
+        // A hunter east of the start that tracks the player along pathfinder routes
+        int hunter = gp.enemyStore.registerKind("res/enemy/zombie/animations.txt", true);
+        if (!isCollisionTile(40 * gp.tileSize, 24 * gp.tileSize)) {
+            gp.enemyStore.spawn(hunter, 40 * gp.tileSize, 24 * gp.tileSize);
+        }
+    }
+
+    // Creates a world object from its item name (as stored in save files); null for an unknown name
+    public SuperObject createObject(String name, int quantity) {
+        switch (name.toLowerCase()) {
+            case "apple":
+                return new OBJ_Apple(quantity);
+            case "key":
+                return new OBJ_Key();
+            case "solthorn":
+                return new OBJ_Solthorn();
+            default:
+                System.err.println("Unknown object in save: " + name);
+                return null;
+        }
+    }
+
+    // Positions an object on a tile and registers it in the given obj[] slot
+    private void place(int index, SuperObject object, int col, int row) {
+        object.worldX = col * gp.tileSize;
+        object.worldY = row * gp.tileSize;
+        gp.placeObject(index, object);
     }
 }
@@ -14,6 +14,7 @@
 
 package main;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import javax.sound.sampled.*;
@@ -21,6 +22,7 @@ import java.util.Map;
 
 public class AudioManager {
     private static AudioManager instance;
+    private static boolean enabled = true;  // False in headless mode: nothing is loaded or played
     private Clip mainMenuMusic;
     private Clip gameOverMusic;
     private Clip bossFightMusic;
@@ -32,7 +34,14 @@ public class AudioManager {
     private float volume = 0.2f; // Default volume (0.0 to 1.0)
     
     private AudioManager() {
-        loadMusic();
+        if (enabled) {
+            loadMusic();
+        }
+    }
+
+    // Turns audio off for the whole run; call before the first getInstance()
+    public static void setEnabled(boolean enabled) {
+        AudioManager.enabled = enabled;
     }
     
     public static AudioManager getInstance() {
@@ -43,42 +52,37 @@ public class AudioManager {
     }
     
     private void loadMusic() {
+        // Load main menu music
+        mainMenuMusic = loadClip("res/audio/main_menu.wav");
+        
+        // Load main area music
+        mainAreaMusic = loadClip("res/audio/area_1.wav");  // Updated file name
+        
+        // Load other music files as needed
+        // Example for game over music:
+        gameOverMusic = loadClip("res/audio/game_over.wav");
+        
+        // Load boss fight music
+        bossFightMusic = loadClip("res/audio/battle_music.wav");
+    }
+    
+    // Opens a clip from the bytes the asset manager already read; null if the file is missing
+    private Clip loadClip(String path) {
+        if (!new File(path).exists()) {
+            return null;
+        }
+        byte[] data = AssetManager.getInstance().getBytes(path);
+        if (data == null) {
+            return null;
+        }
         try {
-            // Load main menu music
-            File mainMenuFile = new File("res/audio/main_menu.wav");
-            if (mainMenuFile.exists()) {
-                AudioInputStream audioIn = AudioSystem.getAudioInputStream(mainMenuFile);
-                mainMenuMusic = AudioSystem.getClip();
-                mainMenuMusic.open(audioIn);
-            }
-            
-            // Load main area music
-            File mainAreaFile = new File("res/audio/area_1.wav");  // Updated file name
-            if (mainAreaFile.exists()) {
-                AudioInputStream audioIn = AudioSystem.getAudioInputStream(mainAreaFile);
-                mainAreaMusic = AudioSystem.getClip();
-                mainAreaMusic.open(audioIn);
-            }
-            
-            // Load other music files as needed
-            // Example for game over music:
-            File gameOverFile = new File("res/audio/game_over.wav");
-            if (gameOverFile.exists()) {
-                AudioInputStream audioIn = AudioSystem.getAudioInputStream(gameOverFile);
-                gameOverMusic = AudioSystem.getClip();
-                gameOverMusic.open(audioIn);
-            }
-            
-            // Load boss fight music
-            File bossFightFile = new File("res/audio/battle_music.wav");
-            if (bossFightFile.exists()) {
-                AudioInputStream audioIn = AudioSystem.getAudioInputStream(bossFightFile);
-                bossFightMusic = AudioSystem.getClip();
-                bossFightMusic.open(audioIn);
-            }
-            
+            AudioInputStream audioIn = AudioSystem.getAudioInputStream(new ByteArrayInputStream(data));
+            Clip clip = AudioSystem.getClip();
+            clip.open(audioIn);
+            return clip;
         } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
             // Handle error silently
+            return null;
         }
     }
     
@@ -0,0 +1,105 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// ButtonIconCache.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Pre-scaled key prompt icons for the HUD. This class:
+// - Preloads the normal and pressed state of every image in res/buttons
+// - Scales each icon once to the HUD sprite height, keeping its aspect ratio
+// - Rebuilds the scaled icons only when the screen size changes
+// - Keeps file I/O and image decoding out of the draw path
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+// ButtonIconCache holds every button prompt in both states, ready to draw
+public class ButtonIconCache {
+    private static final String BUTTON_DIR = "res/buttons";
+    // File name suffixes for the two states (f5o.png / f5p.png)
+    private static final String NORMAL_SUFFIX = "o.png";
+    private static final String PRESSED_SUFFIX = "p.png";
+
+    private GamePanel gp;
+    // Decoded source images keyed by file name, loaded once
+    private final Map<String, BufferedImage> sources = new HashMap<>();
+    // Scaled icons keyed by file name
+    private final Map<String, BufferedImage> scaled = new HashMap<>();
+    private int scaledWidth = -1;
+    private int scaledHeight = -1;
+    private int scaledSize = -1;
+
+    // Constructor decodes every button image up front
+    public ButtonIconCache(GamePanel gp) {
+        this.gp = gp;
+        loadSources();
+    }
+
+    private void loadSources() {
+        File[] files = new File(BUTTON_DIR).listFiles();
+        if (files == null) {
+            System.err.println("Button directory not found: " + BUTTON_DIR);
+            return;
+        }
+        // Request every image before waiting on any so they decode in parallel
+        AssetManager assets = AssetManager.getInstance();
+        for (File file : files) {
+            if (isButtonImage(file.getName())) {
+                assets.image(file.getPath());
+            }
+        }
+        for (File file : files) {
+            if (isButtonImage(file.getName())) {
+                BufferedImage image = assets.getImage(file.getPath());
+                if (image != null) {
+                    sources.put(file.getName(), image);
+                }
+            }
+        }
+    }
+
+    private static boolean isButtonImage(String name) {
+        return name.endsWith(NORMAL_SUFFIX) || name.endsWith(PRESSED_SUFFIX);
+    }
+
+    // Returns the icon for a key ("f5", "space", ...) in the given state, scaled to spriteSize high.
+    // Returns null if the key has no image.
+    public BufferedImage get(String key, boolean pressed, int spriteSize) {
+        if (scaledWidth != gp.screenWidth || scaledHeight != gp.screenHeight || scaledSize != spriteSize) {
+            rebuild(spriteSize);
+        }
+        return scaled.get(key + (pressed ? PRESSED_SUFFIX : NORMAL_SUFFIX));
+    }
+
+    // Scales every source image to the sprite height for the current screen
+    private void rebuild(int spriteSize) {
+        GraphicsConfiguration gc = gp.getGraphicsConfiguration();
+        if (gc == null) {
+            gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        }
+        scaled.clear();
+        for (Map.Entry<String, BufferedImage> entry : sources.entrySet()) {
+            BufferedImage source = entry.getValue();
+            int width = Math.max(1, (int) ((double) spriteSize / source.getHeight() * source.getWidth()));
+            BufferedImage icon = gc.createCompatibleImage(width, spriteSize, Transparency.TRANSLUCENT);
+            Graphics2D g = icon.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g.drawImage(source, 0, 0, width, spriteSize, null);
+            g.dispose();
+            scaled.put(entry.getKey(), icon);
+        }
+        scaledWidth = gp.screenWidth;
+        scaledHeight = gp.screenHeight;
+        scaledSize = spriteSize;
+    }
+}
@@ -14,27 +14,204 @@
 package main;
 
 import entity.Entity;
+import java.awt.Rectangle;
+import tile.CollisionMap;
 
 public class CollisionChecker {
 
+    // Fixed-point positions for sweep(): 8 fractional bits, so 256 units per pixel
+    public static final int FIXED_SHIFT = 8;
+    public static final int FIXED_ONE = 1 << FIXED_SHIFT;
+
     GamePanel gp;
     
     public CollisionChecker(GamePanel gp) {
         this.gp = gp;
     }
 
+    // Outcome of a sweep. Callers keep one and pass it in every time, so resolving movement never allocates.
+    public static final class SweepResult {
+        public int x, y;                    // Resolved entity position (fixed-point world coordinates)
+        public boolean blockedX, blockedY;  // Which axes were stopped short
+        public int contactX, contactY;      // World pixel where the hitbox met the obstacle (last block)
+        public Entity hitEntity;            // Entity that blocked the move, or null for tiles/world edge
+        private int[] touchedTiles = new int[16]; // Blocking tiles as col, row pairs
+        private int touchedCount = 0;
+
+        public boolean collided() {
+            return blockedX || blockedY;
+        }
+
+        // Number of blocking tiles recorded by the last sweep
+        public int getTouchedCount() {
+            return touchedCount;
+        }
+
+        public int getTouchedCol(int i) {
+            return touchedTiles[i * 2];
+        }
+
+        public int getTouchedRow(int i) {
+            return touchedTiles[i * 2 + 1];
+        }
+
+        void reset(int x, int y) {
+            this.x = x;
+            this.y = y;
+            blockedX = false;
+            blockedY = false;
+            hitEntity = null;
+            touchedCount = 0;
+        }
+
+        void touch(int col, int row) {
+            if (touchedCount * 2 == touchedTiles.length) {
+                touchedTiles = java.util.Arrays.copyOf(touchedTiles, touchedTiles.length * 2);
+            }
+            touchedTiles[touchedCount * 2] = col;
+            touchedTiles[touchedCount * 2 + 1] = row;
+            touchedCount++;
+        }
+    }
+
+    // Moves an entity's hitbox from (startX, startY) by (dx, dy), all in fixed-point, stopping at solid
+    // tiles, the world edge and the given obstacles. The X and Y parts of the move are resolved one
+    // after the other so a diagonal move into a wall slides along it. Obstacles the hitbox already
+    // overlaps are ignored so an entity can always walk out of them.
+    public void sweep(Entity entity, int startX, int startY, int dx, int dy,
+                      Entity[] obstacles, int obstacleCount, SweepResult result) {
+        Rectangle box = entity.playerHitbox;
+        sweepBox(box.x, box.y, box.width, box.height, entity, startX, startY, dx, dy, obstacles, obstacleCount, result);
+    }
+
+    // Same as sweep for a hitbox given as an offset and size (in pixels) from the position, for movers
+    // that are not Entity objects. self is skipped in the obstacle list and may be null.
+    public void sweepBox(int boxX, int boxY, int boxW, int boxH, Entity self, int startX, int startY, int dx, int dy,
+                         Entity[] obstacles, int obstacleCount, SweepResult result) {
+        result.reset(startX, startY);
+        if (dx != 0) {
+            result.x = sweepAxis(boxX, boxY, boxW, boxH, self, result.x, result.y, dx, true, obstacles, obstacleCount, result);
+        }
+        if (dy != 0) {
+            result.y = sweepAxis(boxX, boxY, boxW, boxH, self, result.x, result.y, dy, false, obstacles, obstacleCount, result);
+        }
+    }
+
+    // Sweeps along one axis and returns the resolved coordinate on that axis
+    private int sweepAxis(int boxX, int boxY, int boxW, int boxH, Entity self, int x, int y, int delta, boolean horizontal,
+                          Entity[] obstacles, int obstacleCount, SweepResult result) {
+        int tileSize = gp.tileSize;
+        // Hitbox edges in fixed-point; "lo"/"hi" run along the move axis, "crossLo"/"crossHi" across it
+        int boxOffset = (horizontal ? boxX : boxY) << FIXED_SHIFT;
+        int boxLength = (horizontal ? boxW : boxH) << FIXED_SHIFT;
+        int lo = (horizontal ? x : y) + boxOffset;
+        int hi = lo + boxLength;                                   // Exclusive
+        int crossLo = (horizontal ? y + (boxY << FIXED_SHIFT) : x + (boxX << FIXED_SHIFT));
+        int crossHi = crossLo + ((horizontal ? boxH : boxW) << FIXED_SHIFT);
+
+        // Tiles the hitbox spans across the move axis
+        int firstCross = Math.floorDiv(crossLo >> FIXED_SHIFT, tileSize);
+        int lastCross = Math.floorDiv((crossHi - 1) >> FIXED_SHIFT, tileSize);
+        int lineCount = horizontal ? gp.maxWorldCol : gp.maxWorldRow;
+        int crossCount = horizontal ? gp.maxWorldRow : gp.maxWorldCol;
+
+        // Furthest the leading edge may travel (fixed-point), tightened by each obstacle found
+        int limit = delta > 0 ? hi + delta : lo + delta;
+        int blockedAt = Integer.MIN_VALUE;  // Tile line that stopped the move, if any
+
+        // Walk tile lines from the one past the leading edge to the one the move ends in,
+        // skipping the walk entirely when the swept area has no solid tile in it
+        CollisionMap map = gp.tileM.collisionMap;
+        int step = delta > 0 ? 1 : -1;
+        int line = Math.floorDiv(((delta > 0 ? hi - 1 : lo) >> FIXED_SHIFT), tileSize) + step;
+        int lastLine = Math.floorDiv(((delta > 0 ? limit - 1 : limit) >> FIXED_SHIFT), tileSize);
+        int nearLine = Math.min(line, lastLine);
+        int farLine = Math.max(line, lastLine);
+        boolean sweptSolid = (delta > 0 ? line <= lastLine : line >= lastLine)
+            && (horizontal ? map.anySolid(nearLine, firstCross, farLine, lastCross)
+                           : map.anySolid(firstCross, nearLine, lastCross, farLine));
+        for (; sweptSolid && (delta > 0 ? line <= lastLine : line >= lastLine); line += step) {
+            boolean solid = false;
+            if (line < 0 || line >= lineCount || firstCross < 0 || lastCross >= crossCount) {
+                solid = true; // World edge
+            } else {
+                // Record every solid tile on this line, finding each with one bitmap scan
+                int cross = firstCross;
+                while (cross <= lastCross) {
+                    int hit = horizontal ? map.firstSolidInColumn(line, cross, lastCross)
+                                         : map.firstSolidInRow(line, cross, lastCross);
+                    if (hit == CollisionMap.NONE) {
+                        break;
+                    }
+                    solid = true;
+                    if (horizontal) {
+                        result.touch(line, hit);
+                    } else {
+                        result.touch(hit, line);
+                    }
+                    cross = hit + 1;
+                }
+            }
+            if (solid) {
+                int edge = (delta > 0 ? line : line + 1) * tileSize;
+                limit = edge << FIXED_SHIFT;
+                blockedAt = line;
+                break;
+            }
+        }
+
+        // Obstacle entities in the path
+        Entity hit = null;
+        for (int i = 0; i < obstacleCount; i++) {
+            Entity other = obstacles[i];
+            if (other == null || other == self || other.playerHitbox == null) {
+                continue;
+            }
+            int otherLo = ((horizontal ? other.worldX + other.playerHitbox.x : other.worldY + other.playerHitbox.y)) << FIXED_SHIFT;
+            int otherHi = otherLo + ((horizontal ? other.playerHitbox.width : other.playerHitbox.height) << FIXED_SHIFT);
+            int otherCrossLo = ((horizontal ? other.worldY + other.playerHitbox.y : other.worldX + other.playerHitbox.x)) << FIXED_SHIFT;
+            int otherCrossHi = otherCrossLo + ((horizontal ? other.playerHitbox.height : other.playerHitbox.width) << FIXED_SHIFT);
+            if (otherCrossHi <= crossLo || otherCrossLo >= crossHi) {
+                continue; // Not in the hitbox's lane
+            }
+            if (delta > 0 && otherLo >= hi && otherLo < limit) {
+                limit = otherLo;
+                hit = other;
+            } else if (delta < 0 && otherHi <= lo && otherHi > limit) {
+                limit = otherHi;
+                hit = other;
+            }
+        }
+
+        boolean blocked = hit != null || blockedAt != Integer.MIN_VALUE;
+        int newLo = delta > 0 ? limit - boxLength : limit;
+        if (blocked) {
+            if (horizontal) {
+                result.blockedX = true;
+                result.contactX = (delta > 0 ? limit - 1 : limit) >> FIXED_SHIFT;
+                result.contactY = ((crossLo + crossHi) / 2) >> FIXED_SHIFT;
+            } else {
+                result.blockedY = true;
+                result.contactX = ((crossLo + crossHi) / 2) >> FIXED_SHIFT;
+                result.contactY = (delta > 0 ? limit - 1 : limit) >> FIXED_SHIFT;
+            }
+            if (hit != null) {
+                result.hitEntity = hit;
+            }
+        }
+        return newLo - boxOffset;
+    }
+
     public void checkTile(Entity entity) {
         int entityLeftWorldX = entity.worldX + entity.playerHitbox.x;
         int entityRightWorldX = entity.worldX + entity.playerHitbox.x + entity.playerHitbox.width - 1;
         int entityTopWorldY = entity.worldY + entity.playerHitbox.y;
         int entityBotWorldY = entity.worldY + entity.playerHitbox.y + entity.playerHitbox.height - 1;
 
-        int entityLeftCol = entityLeftWorldX/gp.tileSize;
-        int entityRightCol = entityRightWorldX/gp.tileSize;
-        int entityTopRow = entityTopWorldY/gp.tileSize;
-        int entityBotRow = entityBotWorldY/gp.tileSize;
-
-        int tileNum1, tileNum2;
+        int entityLeftCol = Math.floorDiv(entityLeftWorldX, gp.tileSize);
+        int entityRightCol = Math.floorDiv(entityRightWorldX, gp.tileSize);
+        int entityTopRow = Math.floorDiv(entityTopWorldY, gp.tileSize);
+        int entityBotRow = Math.floorDiv(entityBotWorldY, gp.tileSize);
 
         // Check world boundaries
         if (entityLeftCol < 0 || entityRightCol >= gp.maxWorldCol ||
@@ -43,76 +220,21 @@ public class CollisionChecker {
             return;
         }
 
+        // Narrow the hitbox's tile span to the strip it moves into this step
         switch(entity.direction) {
-            case "up" -> {
-                entityTopRow = (entityTopWorldY - entity.speed)/gp.tileSize;
-                if (entityTopRow < 0) {
-                    entity.collisionOn = true;
-                    if (entity instanceof entity.Player p) p.setLastCollisionTile(entityLeftCol, entityTopRow);
-                    return;
-                }
-                tileNum1 = gp.tileM.mapTileNum[entityLeftCol][entityTopRow];
-                tileNum2 = gp.tileM.mapTileNum[entityRightCol][entityTopRow];
-                if(gp.tileM.tile[tileNum1].collision || gp.tileM.tile[tileNum2].collision) {
-                    entity.collisionOn = true;
-                    if (entity instanceof entity.Player p) {
-                        p.setLastCollisionTile(entityLeftCol, entityTopRow);
-                        p.setLastCollisionTile(entityRightCol, entityTopRow);
-                    }
-                }
-            }
-            case "down" -> {
-                entityBotRow = (entityBotWorldY + entity.speed)/gp.tileSize;
-                if (entityBotRow >= gp.maxWorldRow) {
-                    entity.collisionOn = true;
-                    if (entity instanceof entity.Player p) p.setLastCollisionTile(entityLeftCol, entityBotRow);
-                    return;
-                }
-                tileNum1 = gp.tileM.mapTileNum[entityLeftCol][entityBotRow];
-                tileNum2 = gp.tileM.mapTileNum[entityRightCol][entityBotRow];
-                if(gp.tileM.tile[tileNum1].collision || gp.tileM.tile[tileNum2].collision) {
-                    entity.collisionOn = true;
-                    if (entity instanceof entity.Player p) {
-                        p.setLastCollisionTile(entityLeftCol, entityBotRow);
-                        p.setLastCollisionTile(entityRightCol, entityBotRow);
-                    }
-                }
-            }
-            case "left" -> {
-                entityLeftCol = (entityLeftWorldX - entity.speed)/gp.tileSize;
-                if (entityLeftCol < 0) {
-                    entity.collisionOn = true;
-                    if (entity instanceof entity.Player p) p.setLastCollisionTile(entityLeftCol, entityTopRow);
-                    return;
-                }
-                tileNum1 = gp.tileM.mapTileNum[entityLeftCol][entityTopRow];
-                tileNum2 = gp.tileM.mapTileNum[entityLeftCol][entityBotRow];
-                if(gp.tileM.tile[tileNum1].collision || gp.tileM.tile[tileNum2].collision) {
-                    entity.collisionOn = true;
-                    if (entity instanceof entity.Player p) {
-                        p.setLastCollisionTile(entityLeftCol, entityTopRow);
-                        p.setLastCollisionTile(entityLeftCol, entityBotRow);
-                    }
-                }
-            }
-            case "right" -> {
-                entityRightCol = (entityRightWorldX + entity.speed)/gp.tileSize;
-                if (entityRightCol >= gp.maxWorldCol) {
-                    entity.collisionOn = true;
-                    if (entity instanceof entity.Player p) p.setLastCollisionTile(entityRightCol, entityTopRow);
-                    return;
-                }
-                tileNum1 = gp.tileM.mapTileNum[entityRightCol][entityTopRow];
-                tileNum2 = gp.tileM.mapTileNum[entityRightCol][entityBotRow];
-                if(gp.tileM.tile[tileNum1].collision || gp.tileM.tile[tileNum2].collision) {
-                    entity.collisionOn = true;
-                    if (entity instanceof entity.Player p) {
-                        p.setLastCollisionTile(entityRightCol, entityTopRow);
-                        p.setLastCollisionTile(entityRightCol, entityBotRow);
-                    }
-                }
+            case "up" -> entityTopRow = entityBotRow = Math.floorDiv(entityTopWorldY - entity.speed, gp.tileSize);
+            case "down" -> entityTopRow = entityBotRow = Math.floorDiv(entityBotWorldY + entity.speed, gp.tileSize);
+            case "left" -> entityLeftCol = entityRightCol = Math.floorDiv(entityLeftWorldX - entity.speed, gp.tileSize);
+            case "right" -> entityLeftCol = entityRightCol = Math.floorDiv(entityRightWorldX + entity.speed, gp.tileSize);
+            default -> {
+                return;
             }
         }
+
+        // One bitmap query covers the whole strip; leaving the map counts as solid
+        if (gp.tileM.collisionMap.anySolid(entityLeftCol, entityTopRow, entityRightCol, entityBotRow)) {
+            entity.collisionOn = true;
+        }
     }
 
     // Check collision between two entities
@@ -85,26 +85,26 @@ public class ConfirmationMessage extends JWindow {
         opacity = 0f;
         fadeIn = true;
         fadeTimer = new Timer(FADE_INTERVAL, new ActionListener() {
-            long start = System.currentTimeMillis();
+            long start = monotonicMillis();
             @Override
             public void actionPerformed(ActionEvent e) {
-                long elapsed = System.currentTimeMillis() - start;
+                long elapsed = monotonicMillis() - start;
                 if (fadeIn) {
                     opacity = Math.min(1f, elapsed / (float) FADE_DURATION);
                     setOpacity(opacity);
                     if (opacity >= 1f) {
                         fadeIn = false;
-                        start = System.currentTimeMillis();
+                        start = monotonicMillis();
                     }
                 } else if (elapsed >= SHOW_DURATION) {
                     // Start fade out
                     fadeTimer.stop();
                     Timer out = new Timer(FADE_INTERVAL, null);
                     out.addActionListener(new ActionListener() {
-                        long fadeStart = System.currentTimeMillis();
+                        long fadeStart = monotonicMillis();
                         @Override
                         public void actionPerformed(ActionEvent e2) {
-                            long fadeElapsed = System.currentTimeMillis() - fadeStart;
+                            long fadeElapsed = monotonicMillis() - fadeStart;
                             opacity = Math.max(0f, 1f - fadeElapsed / (float) FADE_DURATION);
                             setOpacity(opacity);
                             if (opacity <= 0f) {
@@ -120,4 +120,9 @@ public class ConfirmationMessage extends JWindow {
         });
         fadeTimer.start();
     }
+
+    // Real (monotonic) time in ms: the message fades on screen time, also while the game clock is paused
+    private static long monotonicMillis() {
+        return System.nanoTime() / 1_000_000L;
+    }
 } 
\ No newline at end of file
@@ -27,7 +27,8 @@ public class Dialogue {
         line = "";
     }
     
-    public void draw(Graphics2D g2) {
+    // Draws a line of dialogue (the renderer passes the line from its snapshot)
+    public void draw(Graphics2D g2, String line) {
         // Draw dialogue box at the bottom of the screen
         int x = 0;
         int y = gp.screenHeight - 100; // Position at bottom with some padding
@@ -65,7 +66,7 @@ public class Dialogue {
         
         // Draw "Press Enter to continue" with pulsing effect
         if(!line.equals("")) {
-            int alpha = (int)(128 + 127 * Math.sin(System.currentTimeMillis() / 200.0));
+            int alpha = (int)(128 + 127 * Math.sin(gp.clock.nowMillis() / 200.0));
             g2.setColor(new Color(255, 255, 255, alpha));
             g2.setFont(new Font("Comic Sans MS", Font.ITALIC, 16));
             String continueText = "Press Enter to continue";
@@ -0,0 +1,291 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// FlowField.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Shared direction grid that leads every enemy to the player. This class:
+// - Builds a Dijkstra map outward from the player's tile over the collision bitmap
+// - Stores one step direction per tile, so an agent only samples the tile it stands on
+// - Recomputes only when the player changes tile or the map changes
+// - Computes on a background thread into a back buffer, handed over at a tick boundary
+// - Records recompute time and how many agents used the field for the debug overlay
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import tile.CollisionMap;
+
+// FlowField is written by its worker thread and read by the simulation thread
+public class FlowField {
+    // Returned by getDirection for the goal tile and for tiles that cannot reach it
+    public static final int NONE = -1;
+    // Step offsets for the eight directions: straight ones first so ties prefer them
+    public static final int[] DIR_COL = { 0, -1, 1, 0, -1, 1, -1, 1 };
+    public static final int[] DIR_ROW = { -1, 0, 0, 1, -1, -1, 1, 1 };
+    private static final int STRAIGHT = 10;
+    private static final int DIAGONAL = 14;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    // One buffer: distances and directions for a goal
+    private static final class Field {
+        int cols, rows;
+        int goalCol, goalRow;
+        long request;               // Request this field answers (goal and map version)
+        int[] dist;
+        byte[] dir;
+        // Dijkstra open list (binary heap with duplicates instead of decrease-key)
+        int[] heapNode, heapDist;
+
+        void ensureSize(int cols, int rows) {
+            if (dist == null || this.cols != cols || this.rows != rows) {
+                this.cols = cols;
+                this.rows = rows;
+                int n = cols * rows;
+                dist = new int[n];
+                dir = new byte[n];
+                heapNode = new int[n * 8 + 1];
+                heapDist = new int[n * 8 + 1];
+            }
+        }
+    }
+
+    private final GamePanel gp;
+    private final ExecutorService worker;
+    private final AtomicBoolean computing = new AtomicBoolean(false);
+
+    // Field the simulation reads this tick (only touched by the simulation thread)
+    private Field current;
+    // Field the worker finished, waiting for the simulation to adopt it at the next tick
+    private volatile Field ready;
+    // Buffer the worker may write into (handed back by the simulation once it stops reading it)
+    private volatile Field spare = new Field();
+    // Goal and map version the field should be computed for
+    private volatile long requested = -1;
+
+    // Statistics
+    private volatile long lastComputeNanos = 0;
+    private volatile long computeCount = 0;
+    private int agentsThisTick = 0;
+    private int agentsLastTick = 0;
+
+    public FlowField(GamePanel gp) {
+        this.gp = gp;
+        worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "FlowField");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // Called once per tick by the simulation: adopts a finished field and asks for a new one if the
+    // player's tile or the map has changed since the field in use was computed
+    public void update(int goalCol, int goalRow) {
+        Field finished = ready;
+        if (finished != null) {
+            ready = null;
+            Field old = current;
+            current = finished;
+            // The old field is no longer read, so the worker may overwrite it
+            spare = old != null ? old : new Field();
+        }
+        agentsLastTick = agentsThisTick;
+        agentsThisTick = 0;
+
+        long request = requestKey(goalCol, goalRow, gp.tileM.collisionMap.getVersion());
+        requested = request;
+        boolean upToDate = (current != null && current.request == request) || (finished == null && isPending(request));
+        if (!upToDate && spare != null && computing.compareAndSet(false, true)) {
+            worker.execute(this::compute);
+        }
+    }
+
+    private boolean isPending(long request) {
+        Field pending = ready;
+        return pending != null && pending.request == request;
+    }
+
+    // Direction index (into DIR_COL/DIR_ROW) to step from a tile towards the player, or NONE.
+    // Counts the caller as an agent using the field this tick.
+    public int getDirection(int col, int row) {
+        agentsThisTick++;
+        Field field = current;
+        if (field == null || col < 0 || row < 0 || col >= field.cols || row >= field.rows) {
+            return NONE;
+        }
+        return field.dir[row * field.cols + col];
+    }
+
+    // Step cost to the player's tile from a tile (10 per straight step), or -1 if it cannot get there
+    public int getDistance(int col, int row) {
+        Field field = current;
+        if (field == null || col < 0 || row < 0 || col >= field.cols || row >= field.rows) {
+            return -1;
+        }
+        int d = field.dist[row * field.cols + col];
+        return d == UNREACHED ? -1 : d;
+    }
+
+    // True once a field has been computed
+    public boolean isReady() {
+        return current != null;
+    }
+
+    public double getLastComputeMillis() {
+        return lastComputeNanos / 1_000_000.0;
+    }
+
+    public long getComputeCount() {
+        return computeCount;
+    }
+
+    // Agents that sampled the field during the last full tick
+    public int getAgentCount() {
+        return agentsLastTick;
+    }
+
+    public int getGoalCol() {
+        return current != null ? current.goalCol : -1;
+    }
+
+    public int getGoalRow() {
+        return current != null ? current.goalRow : -1;
+    }
+
+    private static long requestKey(int goalCol, int goalRow, int mapVersion) {
+        return ((long) (goalCol & 0xffff) << 48) | ((long) (goalRow & 0xffff) << 32) | (mapVersion & 0xffffffffL);
+    }
+
+    // Runs on the worker thread
+    private void compute() {
+        try {
+            Field field = spare;
+            long request = requested;
+            if (field == null) {
+                return;
+            }
+            spare = null;
+            long start = System.nanoTime();
+            fill(field, (int) (request >>> 48) & 0xffff, (int) (request >>> 32) & 0xffff);
+            field.request = request;
+            lastComputeNanos = System.nanoTime() - start;
+            computeCount++;
+            ready = field;
+        } catch (Exception e) {
+            e.printStackTrace();
+        } finally {
+            computing.set(false);
+        }
+    }
+
+    // Dijkstra outward from the goal, then one direction per tile towards its cheapest neighbour
+    private void fill(Field field, int goalCol, int goalRow) {
+        CollisionMap map = gp.tileM.collisionMap;
+        int cols = map.getCols(), rows = map.getRows();
+        field.ensureSize(cols, rows);
+        field.goalCol = goalCol;
+        field.goalRow = goalRow;
+        int[] dist = field.dist;
+        byte[] dir = field.dir;
+        Arrays.fill(dist, UNREACHED);
+        Arrays.fill(dir, (byte) NONE);
+        if (map.isSolid(goalCol, goalRow)) {
+            return;
+        }
+
+        int[] heapNode = field.heapNode, heapDist = field.heapDist;
+        int heapSize = 0;
+        int goal = goalRow * cols + goalCol;
+        dist[goal] = 0;
+        heapNode[0] = goal;
+        heapDist[0] = 0;
+        heapSize = 1;
+        while (heapSize > 0) {
+            int node = heapNode[0], d = heapDist[0];
+            // Pop
+            heapSize--;
+            int lastNode = heapNode[heapSize], lastDist = heapDist[heapSize];
+            int slot = 0;
+            while (true) {
+                int child = slot * 2 + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && heapDist[child + 1] < heapDist[child]) {
+                    child++;
+                }
+                if (heapDist[child] >= lastDist) {
+                    break;
+                }
+                heapNode[slot] = heapNode[child];
+                heapDist[slot] = heapDist[child];
+                slot = child;
+            }
+            heapNode[slot] = lastNode;
+            heapDist[slot] = lastDist;
+            if (d > dist[node]) {
+                continue; // Stale duplicate
+            }
+
+            int col = node % cols, row = node / cols;
+            for (int k = 0; k < 8; k++) {
+                int nc = col + DIR_COL[k], nr = row + DIR_ROW[k];
+                if (!canStep(map, col, row, DIR_COL[k], DIR_ROW[k])) {
+                    continue;
+                }
+                int next = nr * cols + nc;
+                int nd = d + (k < 4 ? STRAIGHT : DIAGONAL);
+                if (nd < dist[next]) {
+                    dist[next] = nd;
+                    // Push
+                    int up = heapSize++;
+                    while (up > 0) {
+                        int parent = (up - 1) >> 1;
+                        if (heapDist[parent] <= nd) {
+                            break;
+                        }
+                        heapNode[up] = heapNode[parent];
+                        heapDist[up] = heapDist[parent];
+                        up = parent;
+                    }
+                    heapNode[up] = next;
+                    heapDist[up] = nd;
+                }
+            }
+        }
+
+        // Point every reached tile at the neighbour that is cheapest to finish from
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int node = row * cols + col;
+                if (dist[node] == UNREACHED || node == goal) {
+                    continue;
+                }
+                int best = NONE, bestDist = dist[node];
+                for (int k = 0; k < 8; k++) {
+                    if (!canStep(map, col, row, DIR_COL[k], DIR_ROW[k])) {
+                        continue;
+                    }
+                    int nd = dist[(row + DIR_ROW[k]) * cols + col + DIR_COL[k]];
+                    if (nd < bestDist) {
+                        bestDist = nd;
+                        best = k;
+                    }
+                }
+                dir[node] = (byte) best;
+            }
+        }
+    }
+
+    // Same movement rule as the pathfinder: diagonals only when both side tiles are open
+    private static boolean canStep(CollisionMap map, int col, int row, int dc, int dr) {
+        if (map.isSolid(col + dc, row + dr)) {
+            return false;
+        }
+        return dc == 0 || dr == 0 || (!map.isSolid(col + dc, row) && !map.isSolid(col, row + dr));
+    }
+}
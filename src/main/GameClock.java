@@ -0,0 +1,112 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// GameClock.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Monotonic game time that only moves with simulation ticks. This class:
+// - Advances by one fixed step per tick, so time is the same however fast ticks really run
+// - Stops while paused, so cooldowns and animations freeze with the game
+// - Carries a time scale the game loop uses to run ticks slower (slow motion) or faster
+// - Owns the timer wheel for scheduled callbacks and fires them as time advances
+// - Replaces System.currentTimeMillis() for everything timed inside the game
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+// GameClock is advanced by the simulation thread; nowMillis() may be read from any thread
+public class GameClock {
+    // Singleton instance
+    private static GameClock instance;
+
+    private long stepNanos = 1_000_000_000L / 60;   // Game time per tick
+    private volatile long nowNanos = 0;
+    private volatile long ticks = 0;
+    private volatile boolean paused = false;
+    private volatile double timeScale = 1.0;
+    private final TimerWheel timers = new TimerWheel(0);
+
+    // Private constructor for singleton pattern
+    private GameClock() {
+    }
+
+    public static synchronized GameClock getInstance() {
+        if (instance == null) {
+            instance = new GameClock();
+        }
+        return instance;
+    }
+
+    // Sets how much game time one tick covers (1 / ticksPerSecond seconds)
+    public void setTicksPerSecond(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+        }
+        stepNanos = 1_000_000_000L / ticksPerSecond;
+    }
+
+    // Advances one tick and fires the timers that came due; returns false (and does nothing) while paused
+    public boolean tick() {
+        if (paused) {
+            return false;
+        }
+        nowNanos += stepNanos;
+        ticks++;
+        timers.advanceTo(nowMillis());
+        return true;
+    }
+
+    // Game time in milliseconds since the clock started
+    public long nowMillis() {
+        return nowNanos / 1_000_000L;
+    }
+
+    public long nowNanos() {
+        return nowNanos;
+    }
+
+    // Ticks that advanced the clock (paused ticks are not counted)
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    // Real-time speed of the game: 0.5 is half speed, 100 runs a hundred times faster.
+    // The game loop applies it to the tick rate, so every tick still covers the same game time.
+    public void setTimeScale(double timeScale) {
+        if (!(timeScale > 0)) {
+            throw new IllegalArgumentException("Time scale must be positive: " + timeScale);
+        }
+        this.timeScale = timeScale;
+    }
+
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    // Runs task once after delayMillis of game time (on the simulation thread)
+    public TimerWheel.Timer schedule(long delayMillis, Runnable task) {
+        return timers.schedule(delayMillis, task);
+    }
+
+    // Runs task after delayMillis of game time, then every periodMillis until cancelled
+    public TimerWheel.Timer scheduleRepeating(long delayMillis, long periodMillis, Runnable task) {
+        return timers.scheduleRepeating(delayMillis, periodMillis, task);
+    }
+
+    // Number of scheduled callbacks still waiting
+    public int getPendingTimers() {
+        return timers.size();
+    }
+}
@@ -18,23 +18,20 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 import object.SuperObject;
 import tile.TileManager;
-import java.util.List;
-import java.util.ArrayList;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 
 // Main game panel class that handles the game loop, rendering and updates
 // Extends JPanel for GUI functionality and implements Runnable for the game loop
 public class GamePanel extends JPanel implements Runnable, MouseListener, MouseMotionListener {
 
     // Screen settings
+    public static final int DEFAULT_WIDTH = 1536;     // Panel size before the window is laid out
+    public static final int DEFAULT_HEIGHT = 864;
     public int screenWidth;
     public int screenHeight;
     public int tileSize;
@@ -46,7 +43,10 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
     public final int worldHeight = tileSize * maxWorldRow;   // Total world height in pixels
 
     // Game Components
-    private int FPS = 60;                     // Target frames per second
+    private int FPS = 60;                     // Target frames per second (configurable via settings)
+    private TickScheduler scheduler;                       // Paces the game loop at a fixed tick rate
+    private ActiveRenderer activeRenderer;                 // Direct rendering from the render thread (null = repaint())
+    private Thread renderThread;                           // Presents frames at display rate in active mode
     public TileManager tileM;                              // Manages the game's tiles/map
     public Saver saver;                                    // Handles save/load functionality
     public KeyHandler keyH;                                // Handles keyboard input
@@ -54,18 +54,47 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
     public CollisionChecker cCheck;                 // Handles collision detection
     public Player player;                           // Player entity
     public HUD hud;                                 // HUD object
+    ButtonIconCache buttonIcons;                    // Pre-scaled key prompt icons
     public Dialogue dialogue;                       // Dialogue system
     public AssetSetter aSetter;
     public SuperObject obj [];
     public NPC npc;                                 // NPC entity
+    public EntityStore enemyStore;                  // Enemies in the world (struct-of-arrays)
+    public Pathfinder pathfinder;                   // Shared route search for enemies
+    public FlowField flowField;                     // Shared direction grid towards the player
+    private boolean showNavigationDebug = false;    // F3 navigation overlay
     public Menu menu;                               // Main menu
     public OptionsMenu optionsMenu;                 // Options menu
     public PauseMenu pauseMenu;  // Add pause menu reference
     private EnvironmentInteraction[] envInteractions;  // Environmental interactions
     public entity.BossNoxar bossNoxar = null;
-    private List<BossProjectile> bossProjectiles = new ArrayList<>();
-    private int lastSpellcastFrame = -1;
-    private int spellcastTargetX = 0, spellcastTargetY = 0;
+    private final ProjectilePool bossProjectiles = new ProjectilePool(ProjectilePool.DEFAULT_CAPACITY);
+
+    // Broadphase for world queries: entities by hitbox, everything else by position
+    public SpatialIndex<Entity> entityIndex;
+    public SpatialIndex<SuperObject> objectIndex;
+    private SpatialIndex<EnvironmentInteraction> interactionIndex;
+    private int maxInteractionRadius = 0;
+    // Query results and interactions still showing a prompt, reused every tick
+    private final SuperObject[] nearbyObjects = new SuperObject[32];
+    private final EnvironmentInteraction[] nearbyInteractions = new EnvironmentInteraction[32];
+    private EnvironmentInteraction[] activeInteractions = new EnvironmentInteraction[8];
+    private int activeInteractionCount = 0;
+
+    // World snapshots: the simulation publishes {previous, latest} each tick, the renderer only reads them
+    private volatile WorldSnapshot[] publishedSnapshots = new WorldSnapshot[2];
+    private WorldSnapshot renderView;                       // Interpolated snapshot for the frame being drawn
+    private long tickCount = 0;
+    // Game time: advances one step per tick and stops while the game is paused
+    public final GameClock clock = GameClock.getInstance();
+    // Save thumbnails: Saver queues a callback, the renderer draws a small copy of its next frame for it
+    public static final int THUMBNAIL_WIDTH = 192;
+    public static final int THUMBNAIL_HEIGHT = 108;
+    private final ConcurrentLinkedQueue<Consumer<BufferedImage>> thumbnailRequests =
+        new ConcurrentLinkedQueue<>();
+
+    // Item the player is standing near (updated on the simulation thread)
+    SuperObject nearbyPickup = null;
 
     // Game state
     public static final int MENU_STATE = 0;
@@ -79,6 +108,7 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
     public static final int NOXAR_CUTSCENE_STATE = 8; // New state for Noxar's intro cutscene
     public int gameState = MENU_STATE;
     public boolean gamePaused = false;
+    public int pausedFromState = PLAY_STATE;  // State the pause menu resumes into (and a save records)
     private boolean inDialogue = false;
 
     // Shrine platform dimensions
@@ -87,10 +117,11 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
     private int platformX;  // X position of platform
     private int platformY;  // Y position of platform
 
-    public JFrame frame;  // Changed to public
+    public JFrame frame;  // Changed to public (null in headless mode)
+    public final boolean headless;  // Simulation only: no window, rendering or audio
     private boolean isFullscreen = false;
 
-    private float saveLoadAlpha = 0f;
+    private volatile float saveLoadAlpha = 0f;     // Hint opacity, faded on the tick
     private static final float FADE_SPEED = 0.05f;
 
     // Add this field to GamePanel:
@@ -106,13 +137,15 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
     // Change this field to public:
     public String[] noxarCutsceneLines;
 
-    // Constructor: Initializes the game panel and sets up basic properties
+    // Constructor: Initializes the game panel and sets up basic properties.
+    // A null frame creates a headless panel that is only ever updated, never shown.
     public GamePanel(JFrame frame) {
         this.frame = frame;
+        this.headless = frame == null;
         
         // Set default screen dimensions
-        screenWidth = 1536;
-        screenHeight = 864;
+        screenWidth = DEFAULT_WIDTH;
+        screenHeight = DEFAULT_HEIGHT;
         tileSize = screenWidth / 16; // Initial tile size
         
         this.setPreferredSize(new Dimension(screenWidth, screenHeight));
@@ -120,6 +153,7 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
         
         // Initialize components in correct order
         saver = new Saver(this);
+        buttonIcons = new ButtonIconCache(this);
         hud = new HUD(this, keyH);  // Create HUD first with null KeyHandler
         keyH = new KeyHandler(saver, hud);  // Create KeyHandler with HUD
         keyH.setGamePanel(this);
@@ -127,6 +161,14 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
         
         // Load settings before initializing menus
         GameSettings.getInstance().loadSettings();
+        FPS = GameSettings.getInstance().getTargetFPS();
+        scheduler = new TickScheduler(FPS);
+        clock.setTicksPerSecond(FPS);
+        if (!headless && GameSettings.getInstance().isActiveRendering()) {
+            // The game thread presents frames itself, so Swing repaints are not needed
+            activeRenderer = new ActiveRenderer(this);
+            this.setIgnoreRepaint(true);
+        }
         
         menu = new Menu(this);
         optionsMenu = new OptionsMenu(this);
@@ -139,6 +181,12 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
         // Initialize game objects
         tileM = new TileManager(this);
         cCheck = new CollisionChecker(this);
+        pathfinder = new Pathfinder(this);
+        flowField = new FlowField(this);
+        enemyStore = new EntityStore(this);
+        entityIndex = new SpatialIndex<>(tileSize * 2);
+        objectIndex = new SpatialIndex<>(tileSize * 2);
+        interactionIndex = new SpatialIndex<>(tileSize * 2);
         player = new Player(this, keyH);
         player.weapon = null;
         npc = new NPC(this, keyH);
@@ -148,6 +196,8 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
         // Set initial positions
         npc.worldX = (screenWidth / 2) + (tileSize * 15);
         npc.worldY = (screenHeight / 2) + (tileSize * 7);    // Position NPC slightly below the water
+        trackEntity(player);
+        trackEntity(npc);
         
         // Initialize environmental interactions
         envInteractions = new EnvironmentInteraction[5];  // Increased size to 5
@@ -215,16 +265,28 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
             4116,  // Y position (actual shrine location)
             tileSize * 2,   // Interaction radius
             shrineDialogue);
+
+        // Interactions never move, so they are registered once by their center point
+        for (EnvironmentInteraction interaction : envInteractions) {
+            interaction.spatialHandle = interactionIndex.insert(interaction,
+                interaction.getWorldX(), interaction.getWorldY(), 0, 0);
+            maxInteractionRadius = Math.max(maxInteractionRadius, interaction.getInteractionRadius());
+        }
         
         // Set frame to maximized
-        frame.setExtendedState(JFrame.MAXIMIZED_BOTH);
+        if (!headless) {
+            frame.setExtendedState(JFrame.MAXIMIZED_BOTH);
+        }
         
         // Set initial game state to MENU_STATE
         gameState = MENU_STATE;
 
         // Load the cutscene lines from file
         try {
-            java.util.List<String> lines = Files.readAllLines(Paths.get("res/dialogue/noxar.txt"));
+            java.util.List<String> lines = AssetManager.getInstance().getText("res/dialogue/noxar.txt");
+            if (lines == null) {
+                throw new java.io.IOException("Missing res/dialogue/noxar.txt");
+            }
             java.util.List<String> cutscene = new java.util.ArrayList<>();
             StringBuilder current = new StringBuilder();
             for (String line : lines) {
@@ -244,9 +306,15 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
             // Fallback: single error line
             noxarCutsceneLines = new String[]{"[Error loading Noxar cutscene]\n" + e.getMessage()};
         }
+
+        // Everything the world needs at startup has been taken; stop holding the rest of res/
+        AssetManager.getInstance().discardUnclaimed();
     }
 
     private void toggleFullscreen() {
+        if (headless) {
+            return;
+        }
         GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
         GraphicsDevice gd = ge.getDefaultScreenDevice();
         
@@ -276,48 +344,311 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
 
     public void setupGame() {
         obj = new SuperObject[10];              // Initialize object array
+        objectIndex.clear();
         aSetter.setObject();                    // Place objects in world
+        aSetter.setEnemies();                   // Place enemies in world
+    }
+
+    // Puts an object in slot index of obj[] (replacing what was there) and registers it by position
+    public void placeObject(int index, SuperObject object) {
+        removeObject(index);
+        obj[index] = object;
+        if (object != null) {
+            object.spatialHandle = objectIndex.insert(object, object.worldX, object.worldY, 0, 0);
+        }
+    }
+
+    // Puts an object in the first free slot of obj[]; returns the slot, or -1 if the array is full
+    public int addObject(SuperObject object) {
+        for (int i = 0; i < obj.length; i++) {
+            if (obj[i] == null) {
+                placeObject(i, object);
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Clears slot index of obj[] and unregisters its object
+    public void removeObject(int index) {
+        SuperObject object = obj[index];
+        if (object == null) {
+            return;
+        }
+        objectIndex.remove(object.spatialHandle);
+        object.spatialHandle = -1;
+        obj[index] = null;
+    }
+
+    // Removes an object from the world wherever it is stored
+    public void removeObject(SuperObject object) {
+        for (int i = 0; i < obj.length; i++) {
+            if (obj[i] == object) {
+                removeObject(i);
+                return;
+            }
+        }
+    }
+
+    // Registers an entity by its hitbox, or re-buckets it if it has moved
+    private void trackEntity(Entity entity) {
+        int x = entity.worldX + entity.playerHitbox.x;
+        int y = entity.worldY + entity.playerHitbox.y;
+        if (entity.spatialHandle == -1) {
+            entity.spatialHandle = entityIndex.insert(entity, x, y, entity.playerHitbox.width, entity.playerHitbox.height);
+        } else {
+            entityIndex.move(entity.spatialHandle, x, y);
+        }
+    }
+
+    // Updates the interactions near the player, plus any still showing a prompt or dialogue
+    // (so one the player just walked away from gets the update that takes it out of range)
+    private void updateInteractions() {
+        int near = interactionIndex.queryRadius(player.worldX, player.worldY, maxInteractionRadius, nearbyInteractions);
+        int previous = activeInteractionCount;
+        for (int i = 0; i < previous; i++) {
+            if (!contains(nearbyInteractions, near, activeInteractions[i])) {
+                activeInteractions[i].update();
+            }
+        }
+        for (int i = 0; i < near; i++) {
+            nearbyInteractions[i].update();
+        }
+
+        // Keep the ones that still need updating when the player is out of their range
+        int active = 0;
+        for (int i = 0; i < previous; i++) {
+            if (activeInteractions[i].isActive() && !contains(nearbyInteractions, near, activeInteractions[i])) {
+                activeInteractions[active++] = activeInteractions[i];
+            }
+        }
+        for (int i = 0; i < near; i++) {
+            if (nearbyInteractions[i].isActive()) {
+                if (active == activeInteractions.length) {
+                    activeInteractions = java.util.Arrays.copyOf(activeInteractions, active * 2);
+                }
+                activeInteractions[active++] = nearbyInteractions[i];
+            }
+        }
+        for (int i = active; i < activeInteractionCount; i++) {
+            activeInteractions[i] = null;
+        }
+        activeInteractionCount = active;
+    }
+
+    // Drawable copies of the interactions showing a prompt or dialogue (for WorldSnapshot)
+    EnvironmentInteraction.View[] captureInteractionViews() {
+        EnvironmentInteraction.View[] views = new EnvironmentInteraction.View[activeInteractionCount];
+        int count = 0;
+        for (int i = 0; i < activeInteractionCount; i++) {
+            EnvironmentInteraction.View view = activeInteractions[i].captureView();
+            if (view != null) {
+                views[count++] = view;
+            }
+        }
+        return count == views.length ? views : java.util.Arrays.copyOf(views, count);
+    }
+
+    private static boolean contains(Object[] array, int count, Object value) {
+        for (int i = 0; i < count; i++) {
+            if (array[i] == value) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // Starts the game thread and begins the game loop
     public void startGameThread() {
-        gameThread = new Thread(this);
+        gameThread = new Thread(this, "Simulation");
         gameThread.start();
+
+        // In active mode frames are drawn on their own thread at display rate
+        if (activeRenderer != null) {
+            renderThread = new Thread(this::renderLoop, "Render");
+            renderThread.setDaemon(true);
+            renderThread.start();
+        }
+    }
+
+    // Sets the simulation tick rate (ticks per second)
+    public void setFPS(int fps) {
+        FPS = fps;
+        clock.setTicksPerSecond(fps);
+        scheduler.setTicksPerSecond(scaledTickRate());
+    }
+
+    // Runs the game faster or slower than real time (1.0 is normal speed). Ticks are spaced further
+    // apart or closer together; each one still advances the game clock by the same step.
+    public void setTimeScale(double scale) {
+        clock.setTimeScale(scale);
+        scheduler.setTicksPerSecond(scaledTickRate());
+    }
+
+    private int scaledTickRate() {
+        return (int) Math.max(1, Math.round(FPS * clock.getTimeScale()));
+    }
+
+    public int getFPS() {
+        return FPS;
+    }
+
+    // Scheduler used by the game loop (exposes tick jitter statistics)
+    public TickScheduler getScheduler() {
+        return scheduler;
     }
 
     @Override
     // Main game loop implementation
-    // Handles timing, updates, and rendering at a fixed rate (60 FPS)
+    // Runs update() at a fixed rate (FPS ticks per second) and parks the thread between ticks
     public void run() {
-        double drawInterval = 1000000000/FPS;  // Time per frame in nanoseconds
-        double delta = 0;
-        long lastTime = System.nanoTime();
-        long currentTime;
-        long timer = 0;
-        int drawCount = 0;
+        scheduler.reset();
 
         // Game loop
         while(gameThread != null) {
-            currentTime = System.nanoTime();
-            
-            // Accumulate time since last update
-            delta += (currentTime - lastTime) / drawInterval;
-            timer += (currentTime - lastTime);
-            lastTime = currentTime;
-
-            // Update and render when enough time has passed
-            if(delta >= 1) {
-                update();    // Update game state
+            // Sleep until the next tick is due; after a stall this returns the catch-up count
+            int ticks = scheduler.awaitNextTick();
+            if (ticks == 0) {
+                break;      // Interrupted
+            }
+
+            for (int i = 0; i < ticks; i++) {
+                update();    // Update game state and publish a snapshot
+            }
+            if (activeRenderer == null) {
                 repaint();   // Trigger paintComponent
-                delta--;     // Reset time accumulator
-                drawCount++;
             }
-            
         }
     }
 
-    // Updates game state (called every frame)
+    // Render loop for active mode: draws the latest snapshots at the display refresh rate
+    private void renderLoop() {
+        TickScheduler frameScheduler = new TickScheduler(activeRenderer.getRefreshRate(FPS));
+        while (gameThread != null) {
+            if (frameScheduler.awaitNextTick() == 0) {
+                break;      // Interrupted
+            }
+            activeRenderer.renderFrame();
+        }
+        activeRenderer.dispose();
+    }
+
+    // Snapshot being drawn this frame (null outside of rendering or before the first tick)
+    public WorldSnapshot getRenderView() {
+        return renderView;
+    }
+
+    // Noxar cutscene line being shown, or null outside the cutscene (read into the snapshot)
+    String getCutsceneLine() {
+        if (gameState != NOXAR_CUTSCENE_STATE || noxarCutsceneLines == null
+                || noxarCutsceneIndex >= noxarCutsceneLines.length) {
+            return null;
+        }
+        return noxarCutsceneLines[noxarCutsceneIndex];
+    }
+
+    // World position of the screen's top-left corner for the frame being drawn
+    public int getCameraX() {
+        WorldSnapshot view = renderView;
+        return (view != null ? view.playerX : player.worldX) - player.screenX;
+    }
+
+    public int getCameraY() {
+        WorldSnapshot view = renderView;
+        return (view != null ? view.playerY : player.worldY) - player.screenY;
+    }
+
+    // Copies the drawable state for the renderer (called at the end of every tick)
+    private void publishSnapshot() {
+        tickCount++;
+        if (headless) {
+            return;     // Nothing draws them
+        }
+        WorldSnapshot latest = WorldSnapshot.capture(this, tickCount, bossProjectiles);
+        publishedSnapshots = new WorldSnapshot[] { publishedSnapshots[1], latest };
+    }
+
+    // Builds the view for this frame by interpolating between the last two ticks
+    private WorldSnapshot buildRenderView() {
+        WorldSnapshot[] pair = publishedSnapshots;
+        WorldSnapshot latest = pair[1];
+        if (latest == null) {
+            return null;
+        }
+        double alpha = (System.nanoTime() - latest.timeNanos) / (double) scheduler.getTickInterval();
+        return WorldSnapshot.interpolate(pair[0], latest, alpha, tileSize);
+    }
+
+    // Advances the simulation by one tick and publishes the result for rendering
     public void update() {
+        clock.setPaused(gameState == PAUSE_STATE);
+        clock.tick();
+        applyPanelSize();
+        updateWorld();
+        updateSaveLoadFade();
+        // Save, load or delete requested from the keyboard since the last tick
+        saver.update();
+        // Re-bucket whatever moved this tick (including teleports outside update methods)
+        trackEntity(player);
+        trackEntity(npc);
+        publishSnapshot();
+    }
+
+    // Takes up a resized window on the tick, so layout never changes while a frame is being drawn
+    private void applyPanelSize() {
+        if (headless) {
+            return;
+        }
+        int width = getWidth();
+        int height = getHeight();
+        if (width > 0 && height > 0) {
+            screenWidth = width;
+            screenHeight = height;
+        }
+    }
+
+    // Fades the save/load/delete hints out while the player moves and back in when they stop
+    private void updateSaveLoadFade() {
+        boolean isMoving = keyH.upPressed || keyH.downPressed || keyH.leftPressed || keyH.rightPressed;
+        if (!isMoving && saveLoadAlpha < 1f) {
+            saveLoadAlpha = Math.min(1f, saveLoadAlpha + FADE_SPEED);
+        } else if (isMoving && saveLoadAlpha > 0f) {
+            saveLoadAlpha = Math.max(0f, saveLoadAlpha - FADE_SPEED);
+        }
+    }
+
+    // Shows a short confirmation popup over the game window (printed in headless mode); callable from any thread
+    public void showMessage(String text) {
+        if (headless) {
+            System.out.println(text);
+            return;
+        }
+        javax.swing.SwingUtilities.invokeLater(() -> new ConfirmationMessage(text).showMessage(frame));
+    }
+
+    // Environmental interactions in a fixed order (save files refer to them by index)
+    public EnvironmentInteraction[] getInteractions() {
+        return envInteractions;
+    }
+
+    // Number of ticks simulated so far
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    // Game clock in milliseconds; animations and other simulation timing read this
+    public long getGameTimeMillis() {
+        return clock.nowMillis();
+    }
+
+    // Updates game state (called every tick)
+    private void updateWorld() {
+        // F3 toggles the navigation overlay in any state
+        if (keyH.debugPressed) {
+            showNavigationDebug = !showNavigationDebug;
+            keyH.debugPressed = false;
+        }
+
         if (gameState == MENU_STATE) {
             menu.update();
             return;
@@ -354,6 +685,9 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
                 gameState = GAME_OVER_STATE;
                 return;
             }
+            // Calculate platform position (centered)
+            platformX = (screenWidth - (PLATFORM_WIDTH * tileSize)) / 2;
+            platformY = (screenHeight - (PLATFORM_HEIGHT * tileSize)) / 2;
             // Initialize boss if not already
             if (bossNoxar == null) {
                 // Place boss on the right side of the platform
@@ -361,49 +695,21 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
                 int bossY = platformY + (PLATFORM_HEIGHT * tileSize) / 2 - 64;
                 bossNoxar = new entity.BossNoxar(bossX, bossY);
             }
-            // Update boss
-            bossNoxar.update();
+            // Update boss with player position
+            bossNoxar.setPlayerPosition(player.worldX, player.worldY);
+            bossNoxar.update(getGameTimeMillis());
             // Update player animation and state
             player.update();
-            // Handle spellcast projectile spawn
-            if (bossNoxar.isCasting) {
-                int currentFrame = bossNoxar.castFrame;
-                if (lastSpellcastFrame != currentFrame) {
-                    // On frame 3 (middle of 0-7), spawn projectile
-                    if (currentFrame == 3) {
-                        // Target player's position at cast start
-                        spellcastTargetX = player.worldX + player.playerHitbox.x + player.playerHitbox.width / 2;
-                        spellcastTargetY = player.worldY + player.playerHitbox.y + player.playerHitbox.height / 2;
-                        int projX = bossNoxar.x + bossNoxar.width / 2;
-                        int projY = bossNoxar.y + bossNoxar.height / 2;
-                        bossProjectiles.add(new BossProjectile(projX, projY, spellcastTargetX, spellcastTargetY));
-                    }
-                    lastSpellcastFrame = currentFrame;
-                }
-            } else {
-                lastSpellcastFrame = -1;
-            }
-            // Update projectiles
-            for (int i = 0; i < bossProjectiles.size(); i++) {
-                BossProjectile proj = bossProjectiles.get(i);
-                proj.update();
-                // Check collision with player
-                Rectangle pRect = new Rectangle(
-                    player.worldX + player.playerHitbox.x,
-                    player.worldY + player.playerHitbox.y,
-                    player.playerHitbox.width,
-                    player.playerHitbox.height
-                );
-                if (proj.active && proj.getBounds().intersects(pRect)) {
-                    player.hp -= proj.damage;
-                    proj.active = false;
-                }
-                // Remove if off screen or inactive
-                if (!proj.active || proj.x < 0 || proj.x > screenWidth || proj.y < 0 || proj.y > screenHeight) {
-                    bossProjectiles.remove(i);
-                    i--;
-                }
-            }
+            // Spellcast patterns fire into the pool, aimed at the player's centre
+            bossNoxar.emitProjectiles(bossProjectiles,
+                player.worldX + player.playerHitbox.x + player.playerHitbox.width / 2,
+                player.worldY + player.playerHitbox.y + player.playerHitbox.height / 2);
+            // Move projectiles, drop the ones off screen and apply hits on the player in one pass
+            player.hp -= bossProjectiles.update(-BossProjectile.SIZE, -BossProjectile.SIZE, screenWidth, screenHeight,
+                player.worldX + player.playerHitbox.x,
+                player.worldY + player.playerHitbox.y,
+                player.playerHitbox.width,
+                player.playerHitbox.height);
             // Handle shrine interior state
             if (keyH.escapePressed) {
                 gameState = PLAY_STATE;
@@ -421,49 +727,23 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
                 boolean isMoving = keyH.upPressed || keyH.downPressed || keyH.leftPressed || keyH.rightPressed;
                 // Only allow running if player has stamina
                 boolean isRunning = keyH.shiftPressed && isMoving && player.stamina > 0;
-                // Track previous animation state
-                String prevAnimationState = player.animationState;
-                // Update animation state and spriteNum immediately when movement starts
-                if (!isMoving) {
-                    player.animationState = "idle";
-                    player.spriteCounter++;
-                    if (player.spriteCounter > 12) {
-                        player.spriteNum = (player.spriteNum == 1) ? 2 : 1;
-                        player.spriteCounter = 0;
-                    }
-                } else if (isRunning && player.stamina > 0) {
-                    player.animationState = "run";
-                    if (!prevAnimationState.equals("run")) {
-                        player.spriteNum = 10; // Start at first run frame
-                    }
-                    if (player.spriteCounter > 12) {
-                        player.spriteNum = (player.spriteNum >= 17) ? 10 : player.spriteNum + 1;
-                        player.spriteCounter = 0;
-                    }
-                } else {
-                    player.animationState = "walk";
-                    if (!prevAnimationState.equals("walk")) {
-                        player.spriteNum = 5; // Start at first walk frame
-                    }
-                    if (player.spriteCounter > 12) {
-                        player.spriteNum = (player.spriteNum >= 9) ? 5 : player.spriteNum + 1;
-                        player.spriteCounter = 0;
-                    }
-                }
+                // Pick the idle, walk or run clip
+                player.updateAnimation(isMoving, isRunning);
 
                 // Handle sword swinging
                 if (keyH.spacePressed && player.weapon != null) {
                     player.handleSpacePressed();
                     // Check if sword hit the boss with cooldown
                     if (bossNoxar != null) {
-                        Rectangle swordRect = new Rectangle(
+                        boolean swordHit = SpatialIndex.overlaps(
                             player.worldX + player.playerHitbox.x - 20,
                             player.worldY + player.playerHitbox.y - 20,
                             player.playerHitbox.width + 40,
-                            player.playerHitbox.height + 40
+                            player.playerHitbox.height + 40,
+                            bossNoxar.x, bossNoxar.y, bossNoxar.width, bossNoxar.height
                         );
-                        long now = System.currentTimeMillis();
-                        if (swordRect.intersects(bossNoxar.getBounds()) && now - lastNoxarHitTime >= 1000) {
+                        long now = clock.nowMillis();
+                        if (swordHit && now - lastNoxarHitTime >= 1000) {
                             bossNoxar.takeDamage(50);
                             lastNoxarHitTime = now;
                         }
@@ -519,9 +799,7 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
 
             // Check for win condition
             if (bossNoxar != null && bossNoxar.health <= 0 && bossNoxar.isDying == false && bossNoxar.isDead == false) {
-                bossNoxar.isDying = true;
-                bossNoxar.hurtFrame = 0;
-                bossNoxar.lastFrameTime = System.currentTimeMillis();
+                bossNoxar.startDying();
             }
             if (bossNoxar != null && bossNoxar.health <= 0 && bossNoxar.isDead) {
                 gameState = WIN_STATE;
@@ -533,18 +811,28 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
         // Only update NPC and environmental interactions if inventory is not open
         if (!player.inventory.isOpen()) {
             npc.update();
-            // Update environmental interactions
-            for (EnvironmentInteraction interaction : envInteractions) {
-                if (interaction != null) {
-                    interaction.update();
-                }
+            // Point the flow field at the player's tile (recomputed in the background when it changes)
+            if (enemyStore.size() > 0) {
+                flowField.update(
+                    Math.floorDiv(player.worldX + player.playerHitbox.x + player.playerHitbox.width / 2, tileSize),
+                    Math.floorDiv(player.worldY + player.playerHitbox.y + player.playerHitbox.height / 2, tileSize));
             }
+            // Move every enemy along the field, then let the pathfinder spend this tick's budget on NPC routes
+            enemyStore.update();
+            pathfinder.update();
+            // Update environmental interactions
+            updateInteractions();
         }
         
         // Always update player
         if (gameState == PLAY_STATE) {
             player.update();
         }
+
+        // Track the item the player is near and handle picking it up
+        if (gameState == PLAY_STATE || gameState == DIALOGUE_STATE) {
+            updateNearbyPickup();
+        }
         
         // Handle fullscreen toggle
         if (keyH.f11Pressed) {
@@ -560,6 +848,7 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
         
         // Handle pause menu toggle
         if (keyH.escapePressed && gameState == PLAY_STATE) {
+            pausedFromState = gameState;
             gameState = PAUSE_STATE;
             keyH.escapePressed = false;
         }
@@ -597,19 +886,76 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
     }
 
     // Renders the game (called every frame)
-    // Order of drawing determines layer visibility
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
         Graphics2D g2 = (Graphics2D) g;
 
-        if (gameState == MENU_STATE) {
+        if (thumbnailRequests.isEmpty() || getWidth() <= 0 || getHeight() <= 0) {
+            drawFrame(g2);
+        } else {
+            // The panel's own surface cannot be read back, so draw this frame to an image first
+            BufferedImage frame = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D fg = frame.createGraphics();
+            try {
+                drawFrame(fg);
+            } finally {
+                fg.dispose();
+            }
+            g2.drawImage(frame, 0, 0, null);
+            serveThumbnailRequests(frame);
+        }
+        drawDebugOverlay(g2);
+        drawNavigationOverlay(g2);
+    }
+
+    // Asks the renderer for a THUMBNAIL_WIDTH x THUMBNAIL_HEIGHT picture of the next frame; the callback
+    // runs on the render thread. Returns false (and never calls back) when nothing is rendered.
+    public boolean requestThumbnail(Consumer<BufferedImage> callback) {
+        if (headless) {
+            return false;
+        }
+        thumbnailRequests.add(callback);
+        return true;
+    }
+
+    // Scales down the frame just drawn (before any debug overlay) for queued thumbnail requests (render thread)
+    void serveThumbnailRequests(Image frame) {
+        if (thumbnailRequests.isEmpty()) {
+            return;
+        }
+        BufferedImage image = new BufferedImage(THUMBNAIL_WIDTH, THUMBNAIL_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2.drawImage(frame, 0, 0, THUMBNAIL_WIDTH, THUMBNAIL_HEIGHT, null);
+        } finally {
+            g2.dispose();
+        }
+        Consumer<BufferedImage> callback;
+        while ((callback = thumbnailRequests.poll()) != null) {
+            callback.accept(image);
+        }
+    }
+
+    // Draws the current game state (used by paintComponent and ActiveRenderer)
+    // Order of drawing determines layer visibility
+    void drawFrame(Graphics2D g2) {
+        // Draw from the published snapshots, not from the live simulation
+        renderView = buildRenderView();
+        WorldSnapshot view = renderView;
+        if (view == null) {
+            return;     // Nothing has been published before the first tick
+        }
+
+        int state = view.gameState;
+        if (state == MENU_STATE) {
             menu.draw(g2);
-        } else if (gameState == OPTIONS_STATE) {
+        } else if (state == OPTIONS_STATE) {
             optionsMenu.draw(g2);
-        } else if (gameState == PAUSE_STATE) {
+        } else if (state == PAUSE_STATE) {
             pauseMenu.draw(g2);
-        } else if (gameState == GAME_OVER_STATE) {
+        } else if (state == GAME_OVER_STATE) {
             // Draw black background
             g2.setColor(Color.BLACK);
             g2.fillRect(0, 0, screenWidth, screenHeight);
@@ -630,14 +976,14 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
             int escapeWidth = g2.getFontMetrics().stringWidth(escapeText);
             g2.drawString(enterText, (screenWidth - enterWidth) / 2, screenHeight / 2);
             g2.drawString(escapeText, (screenWidth - escapeWidth) / 2, screenHeight / 2 + 50);
-        } else if (gameState == SHRINE_STATE) {
+        } else if (state == SHRINE_STATE) {
             // Draw black background
             g2.setColor(Color.BLACK);
             g2.fillRect(0, 0, screenWidth, screenHeight);
             
             // Calculate platform position (centered)
-            platformX = (screenWidth - (PLATFORM_WIDTH * tileSize)) / 2;
-            platformY = (screenHeight - (PLATFORM_HEIGHT * tileSize)) / 2;
+            int platformX = (screenWidth - (PLATFORM_WIDTH * tileSize)) / 2;
+            int platformY = (screenHeight - (PLATFORM_HEIGHT * tileSize)) / 2;
             
             // Draw platform using dfloor.png tiles
             for (int x = 0; x < PLATFORM_WIDTH; x++) {
@@ -650,32 +996,31 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
             }
             
             // Draw player at current position (direct, not using camera offset)
-            player.drawAt(g2, player.worldX, player.worldY);
-            // Update boss with player position
-            if (bossNoxar != null) {
-                bossNoxar.setPlayerPosition(player.worldX, player.worldY);
-            }
+            player.drawAt(g2, view.playerX, view.playerY);
             // Draw boss
-            if (bossNoxar != null) {
-                bossNoxar.draw(g2, this);
+            if (view.hasBoss) {
+                entity.BossNoxar.drawAt(g2, this, view.bossSprite, view.bossX, view.bossY);
             }
             // Draw boss projectiles
-            for (BossProjectile proj : bossProjectiles) {
-                proj.draw(g2);
+            for (int i = 0; i < view.projectileCount; i++) {
+                BossProjectile.drawAt(g2, view.projectileSprite,
+                    (int) view.projectiles[i * 2], (int) view.projectiles[i * 2 + 1], BossProjectile.SIZE, BossProjectile.SIZE);
             }
             // Draw boss health bar at top of screen
-            drawBossHealthBar(g2, bossNoxar);
+            if (view.hasBoss) {
+                drawBossHealthBar(g2, view.bossHealth, view.bossMaxHealth);
+            }
             
             // Draw HUD
-            hud.draw(g2, player.weapon);
+            hud.draw(g2, view.playerHp, view.playerStamina, view.weaponName, view.attackHistory);
             // Draw inventory overlay and inventory/items on top of everything
-            if (player.inventory.isOpen()) {
+            if (view.inventory != null) {
                 g2.setColor(new Color(0, 0, 0, 128));
                 g2.fillRect(0, 0, screenWidth, screenHeight);
-                player.inventory.draw(g2);
+                player.inventory.draw(g2, view.inventory);
             }
             return;
-        } else if (gameState == WIN_STATE) {
+        } else if (state == WIN_STATE) {
             // Draw black background
             g2.setColor(Color.BLACK);
             g2.fillRect(0, 0, screenWidth, screenHeight);
@@ -695,7 +1040,7 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
             g2.drawString(enterText, (screenWidth - enterWidth) / 2, screenHeight / 2);
             g2.drawString(escapeText, (screenWidth - escapeWidth) / 2, screenHeight / 2 + 50);
             return;
-        } else if (gameState == NOXAR_CUTSCENE_STATE) {
+        } else if (state == NOXAR_CUTSCENE_STATE) {
             // Draw shrine background and platform
             g2.setColor(Color.BLACK);
             g2.fillRect(0, 0, screenWidth, screenHeight);
@@ -707,12 +1052,12 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
                 }
             }
             // Draw player and boss (static, not moving)
-            player.drawAt(g2, player.worldX, player.worldY);
-            if (bossNoxar != null) {
-                bossNoxar.draw(g2, this);
+            player.drawAt(g2, view.playerX, view.playerY);
+            if (view.hasBoss) {
+                entity.BossNoxar.drawAt(g2, this, view.bossSprite, view.bossX, view.bossY);
             }
-            // Bounds check for cutscene index
-            if (noxarCutsceneIndex >= noxarCutsceneLines.length) return;
+            // No line once the cutscene has run out
+            if (view.cutsceneLine == null) return;
             // Draw cutscene dialogue box (like Elaria's)
             g2.setColor(new Color(0,0,0,220));
             int boxH = 180;
@@ -725,7 +1070,7 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
             g2.drawRoundRect(boxX, boxY, boxW, boxH, 20, 20);
             g2.setFont(new Font("Comic Sans MS", Font.BOLD, 24));
             // Word wrap logic
-            String[] lines = noxarCutsceneLines[noxarCutsceneIndex].split("\\n");
+            String[] lines = view.cutsceneLine.split("\\n");
             int lineY = boxY + 40;
             int maxWidth = boxW - 40;
             for (String line : lines) {
@@ -755,13 +1100,9 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
             return;
         } else {
             // Normal game rendering
-            // Update dynamic values
-            screenWidth = getWidth();
-            screenHeight = getHeight();
-
             // Calculate offset for camera
-            int xOffset = player.worldX - player.screenX;
-            int yOffset = player.worldY - player.screenY;
+            int xOffset = getCameraX();
+            int yOffset = getCameraY();
 
             // Draw background
             g2.setColor(new Color(0, 0, 0));
@@ -770,122 +1111,50 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
             // Draw tiles
             tileM.draw(g2);
             
-            // Draw objects and check for nearby items
-            String nearbyItemDesc = null;
-            boolean nearApple = false, nearSolthorn = false;
-            int solthornScreenX = -1, solthornScreenY = -1, solthornObjIndex = -1;
-            int solthornQuantity = 1; // For future-proofing, but Solthorn is unique
-            
-            for(int i = 0; i < obj.length; i++) {
-                if(obj[i] != null) {
-                    obj[i].draw(g2, this);
-                    // Check if player is near this item
-                    int distance = (int) Math.sqrt(
-                        Math.pow(obj[i].worldX - player.worldX, 2) + 
-                        Math.pow(obj[i].worldY - player.worldY, 2)
-                    );
-                    if (distance < tileSize * 2) {
-                        if (obj[i] instanceof object.OBJ_Apple) {
-                            nearbyItemDesc = ((object.OBJ_Apple)obj[i]).getDescription();
-                            nearApple = true;
-                        } else if (obj[i] instanceof object.OBJ_Solthorn) {
-                            nearbyItemDesc = ((object.OBJ_Solthorn)obj[i]).getDescription();
-                            nearSolthorn = true;
-                            solthornScreenX = obj[i].worldX - player.worldX + player.screenX;
-                            solthornScreenY = obj[i].worldY - player.worldY + player.screenY;
-                            solthornObjIndex = i;
-                        }
-                    }
-                }
+            // Draw objects
+            for (int i = 0; i < view.objectCount; i++) {
+                SuperObject.drawAt(g2, this, view.objectImages[i], view.objects[i * 2], view.objects[i * 2 + 1]);
             }
             
             // Draw NPC
             npc.draw(g2);
+
+            // Draw enemies
+            enemyStore.draw(g2);
             
             // Draw environmental interactions
-            for (EnvironmentInteraction interaction : envInteractions) {
-                if (interaction != null) {
-                    interaction.draw(g2);
-                }
+            for (EnvironmentInteraction.View interaction : view.interactions) {
+                EnvironmentInteraction.draw(g2, this, interaction);
             }
             
             // Draw player
             player.draw(g2);
             
             // Draw HUD
-            hud.draw(g2, player.weapon);
+            hud.draw(g2, view.playerHp, view.playerStamina, view.weaponName, view.attackHistory);
             
             // Draw save/load/delete instructions
             drawSaveLoadInstructions(g2);
             
             // Draw dialogue if active
-            if(!dialogue.getLine().equals("")) {
-                dialogue.draw(g2);
+            if (!view.dialogueLine.equals("")) {
+                dialogue.draw(g2, view.dialogueLine);
             }
             
-            int appleScreenX = -1, appleScreenY = -1, appleObjIndex = -1, appleQuantity = 1;
-            if (nearApple) {
-                // Find the apple's screen position and index
-                for(int i = 0; i < obj.length; i++) {
-                    if(obj[i] != null && obj[i] instanceof object.OBJ_Apple) {
-                        int distance = (int) Math.sqrt(
-                            Math.pow(obj[i].worldX - player.worldX, 2) + 
-                            Math.pow(obj[i].worldY - player.worldY, 2)
-                        );
-                        if (distance < tileSize * 2) {
-                            appleScreenX = obj[i].worldX - player.worldX + player.screenX;
-                            appleScreenY = obj[i].worldY - player.worldY + player.screenY;
-                            appleObjIndex = i;
-                            appleQuantity = ((object.OBJ_Apple)obj[i]).quantity;
-                            break;
-                        }
-                    }
-                }
-            }
-            if (nearApple && appleScreenX != -1 && appleScreenY != -1) {
-                int w = 340;
-                int h = 160;
-                int size = tileSize / 2;
-                int x = appleScreenX + size + 32;
-                int y = appleScreenY - h + 10;
-                if (x + w > screenWidth) x = screenWidth - w - 10;
-                if (y < 10) y = 10;
-                if (y + h > screenHeight) y = screenHeight - h - 10;
-                String name = "Apple";
-                String[] lines = {"A fresh, juicy apple that restores your vitality.", "Effect: Restores 20 health and 15 stamina."};
-                entity.Inventory.drawDetailsPopupBox(g2, x, y, w, h, name, lines, appleQuantity);
-                float alpha = (float)(0.5 + 0.5 * Math.sin(System.currentTimeMillis() / 400.0));
-                g2.setFont(g2.getFont().deriveFont(Font.ITALIC, 16f));
-                g2.setColor(new Color(255,255,255,(int)(220*alpha)));
-                String pickupMsg = "Press e to pick up";
-                int msgWidth = g2.getFontMetrics().stringWidth(pickupMsg);
-                int msgX = x + (w - msgWidth) / 2;
-                int msgY = y + h - 18;
-                g2.drawString(pickupMsg, msgX, msgY);
-                if (keyH.ePressed && canPickup && appleObjIndex != -1) {
-                    int qty = ((object.OBJ_Apple)obj[appleObjIndex]).quantity;
-                    player.inventory.addItem(new entity.OBJ_Apple(qty));
-                    obj[appleObjIndex] = null;
-                    canPickup = false;
-                }
-                if (!keyH.ePressed) {
-                    canPickup = true;
-                }
-            } else if (nearSolthorn && solthornScreenX != -1 && solthornScreenY != -1) {
+            // Draw the pickup prompt for the item the player is standing near
+            if (view.pickupName != null) {
                 int w = 340;
                 int h = 160;
                 int size = tileSize / 2;
-                int x = solthornScreenX + size + 32;
-                int y = solthornScreenY - h + 10;
+                int x = view.pickupX - xOffset + size + 32;
+                int y = view.pickupY - yOffset - h + 10;
                 if (x + w > screenWidth) x = screenWidth - w - 10;
                 if (y < 10) y = 10;
                 if (y + h > screenHeight) y = screenHeight - h - 10;
-                String name = "Solthorn";
-                String[] lines = {"A legendary blade passed down through",
-                    "Elaria's bloodline, forged around a gem said",
-                    "to hold unimaginable power."};
-                entity.Inventory.drawDetailsPopupBox(g2, x, y, w, h, name, lines, solthornQuantity);
-                float alpha = (float)(0.5 + 0.5 * Math.sin(System.currentTimeMillis() / 400.0));
+                ItemDefinition definition = ItemDefinition.get(view.pickupName);
+                String[] lines = definition != null ? definition.getDescription() : new String[0];
+                entity.Inventory.drawDetailsPopupBox(g2, x, y, w, h, view.pickupName, lines, view.pickupQuantity);
+                float alpha = (float)(0.5 + 0.5 * Math.sin(clock.nowMillis() / 400.0));
                 g2.setFont(g2.getFont().deriveFont(Font.ITALIC, 16f));
                 g2.setColor(new Color(255,255,255,(int)(220*alpha)));
                 String pickupMsg = "Press e to pick up";
@@ -893,24 +1162,50 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
                 int msgX = x + (w - msgWidth) / 2;
                 int msgY = y + h - 18;
                 g2.drawString(pickupMsg, msgX, msgY);
-                if (keyH.ePressed && canPickup && solthornObjIndex != -1) {
-                    player.inventory.addItem(new entity.Item("Solthorn", "res/object/solthorn.png", 1));
-                    obj[solthornObjIndex] = null;
-                    canPickup = false;
-                }
-                if (!keyH.ePressed) {
-                    canPickup = true;
-                }
             }
             
             // Draw inventory overlay and inventory/items on top of everything
-            if (player.inventory.isOpen()) {
+            if (view.inventory != null) {
                 g2.setColor(new Color(0, 0, 0, 128));
                 g2.fillRect(-xOffset, -yOffset, screenWidth, screenHeight);
-                player.inventory.draw(g2);
+                player.inventory.draw(g2, view.inventory);
             }
         }
     }
+
+    // Finds the apple or Solthorn the player is standing near and picks it up on E
+    private void updateNearbyPickup() {
+        SuperObject apple = null, solthorn = null;
+        int near = objectIndex.queryRadius(player.worldX, player.worldY, tileSize * 2, nearbyObjects);
+        for (int i = 0; i < near; i++) {
+            SuperObject o = nearbyObjects[i];
+            if (o instanceof object.OBJ_Apple && apple == null) {
+                apple = o;
+            } else if (o instanceof object.OBJ_Solthorn) {
+                solthorn = o;
+            }
+            nearbyObjects[i] = null;
+        }
+        // Apples take priority over the Solthorn prompt
+        nearbyPickup = apple != null ? apple : solthorn;
+        if (nearbyPickup == null) {
+            return;
+        }
+
+        if (keyH.ePressed && canPickup) {
+            if (nearbyPickup instanceof object.OBJ_Apple pickedApple) {
+                player.inventory.addItem(new entity.OBJ_Apple(pickedApple.quantity));
+            } else {
+                player.inventory.addItem(new entity.Item(ItemDefinition.SOLTHORN, 1));
+            }
+            removeObject(nearbyPickup);
+            nearbyPickup = null;
+            canPickup = false;
+        }
+        if (!keyH.ePressed) {
+            canPickup = true;
+        }
+    }
     
     // Helper method to draw the game state
     private void drawGameState(Graphics2D g2, int xOffset, int yOffset) {
@@ -964,8 +1259,9 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
         
         // Draw environmental interactions
         for (EnvironmentInteraction interaction : envInteractions) {
-            if (interaction != null) {
-                interaction.draw(g2);
+            EnvironmentInteraction.View view = interaction != null ? interaction.captureView() : null;
+            if (view != null) {
+                EnvironmentInteraction.draw(g2, this, view);
             }
         }
         
@@ -980,7 +1276,7 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
         
         // Draw dialogue if active
         if(!dialogue.getLine().equals("")) {
-            dialogue.draw(g2);
+            dialogue.draw(g2, dialogue.getLine());
         }
         
         int appleScreenX = -1, appleScreenY = -1, appleObjIndex = -1, appleQuantity = 1;
@@ -1014,7 +1310,7 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
             String name = "Apple";
             String[] lines = {"A fresh, juicy apple that restores your vitality.", "Effect: Restores 20 health and 15 stamina."};
             entity.Inventory.drawDetailsPopupBox(g2, x, y, w, h, name, lines, appleQuantity);
-            float alpha = (float)(0.5 + 0.5 * Math.sin(System.currentTimeMillis() / 400.0));
+            float alpha = (float)(0.5 + 0.5 * Math.sin(clock.nowMillis() / 400.0));
             g2.setFont(g2.getFont().deriveFont(Font.ITALIC, 16f));
             g2.setColor(new Color(255,255,255,(int)(220*alpha)));
             String pickupMsg = "Press e to pick up";
@@ -1025,7 +1321,7 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
             if (keyH.ePressed && canPickup && appleObjIndex != -1) {
                 int qty = ((object.OBJ_Apple)obj[appleObjIndex]).quantity;
                 player.inventory.addItem(new entity.OBJ_Apple(qty));
-                obj[appleObjIndex] = null;
+                removeObject(appleObjIndex);
                 canPickup = false;
             }
             if (!keyH.ePressed) {
@@ -1045,7 +1341,7 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
                 "Elaria's bloodline, forged around a gem said",
                 "to hold unimaginable power."};
             entity.Inventory.drawDetailsPopupBox(g2, x, y, w, h, name, lines, solthornQuantity);
-            float alpha = (float)(0.5 + 0.5 * Math.sin(System.currentTimeMillis() / 400.0));
+            float alpha = (float)(0.5 + 0.5 * Math.sin(clock.nowMillis() / 400.0));
             g2.setFont(g2.getFont().deriveFont(Font.ITALIC, 16f));
             g2.setColor(new Color(255,255,255,(int)(220*alpha)));
             String pickupMsg = "Press e to pick up";
@@ -1054,8 +1350,8 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
             int msgY = y + h - 18;
             g2.drawString(pickupMsg, msgX, msgY);
             if (keyH.ePressed && canPickup && solthornObjIndex != -1) {
-                player.inventory.addItem(new entity.Item("Solthorn", "res/object/solthorn.png", 1));
-                obj[solthornObjIndex] = null;
+                player.inventory.addItem(new entity.Item(ItemDefinition.SOLTHORN, 1));
+                removeObject(solthornObjIndex);
                 canPickup = false;
             }
             if (!keyH.ePressed) {
@@ -1067,7 +1363,7 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
         if (player.inventory.isOpen()) {
             g2.setColor(new Color(0, 0, 0, 128));
             g2.fillRect(-xOffset, -yOffset, screenWidth, screenHeight);
-            player.inventory.draw(g2);
+            player.inventory.draw(g2, player.inventory.captureView());
         }
         
         // At the end, reset translation if needed
@@ -1076,108 +1372,90 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
 
     // Draw save/load/delete instructions
     private void drawSaveLoadInstructions(Graphics2D g2) {
-        boolean isMoving = keyH.upPressed || keyH.downPressed || keyH.leftPressed || keyH.rightPressed;
-        
-        // Update fade effect
-        if (!isMoving && saveLoadAlpha < 1f) {
-            saveLoadAlpha = Math.min(1f, saveLoadAlpha + FADE_SPEED);
-        } else if (isMoving && saveLoadAlpha > 0f) {
-            saveLoadAlpha = Math.max(0f, saveLoadAlpha - FADE_SPEED);
-        }
+        // Alpha is faded on the tick by updateSaveLoadFade
+        float saveLoadAlpha = this.saveLoadAlpha;
 
         // Only draw if there's any alpha
         if (saveLoadAlpha > 0) {
-            try {
-                // Load the correct button images based on pressed state
-                BufferedImage f5Sprite = ImageIO.read(new File(keyH.savePressed ? "res/buttons/f5p.png" : "res/buttons/f5o.png"));
-                BufferedImage f6Sprite = ImageIO.read(new File(keyH.loadPressed ? "res/buttons/f6p.png" : "res/buttons/f6o.png"));
-                BufferedImage f7Sprite = ImageIO.read(new File(keyH.deletePressed ? "res/buttons/f7p.png" : "res/buttons/f7o.png"));
-                
-                // Set composite for fade effect
-                g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, saveLoadAlpha));
-                
-                // Set black color for text
-                g2.setColor(new Color(0, 0, 0, 200));
-                g2.setFont(new Font("Arial", Font.BOLD, 16));
-                
-                // Draw sprites in top right corner
-                int x = screenWidth - 60;  // Moved even more to the right
-                int y = 20;
-                int spriteSize = 32;
-                int verticalSpacing = 50;
-                
-                // Draw F5 sprite and text
-                g2.drawImage(f5Sprite, x, y, spriteSize, spriteSize, null);
-                String f5Text = "Save";
-                FontMetrics fm = g2.getFontMetrics();
-                int textWidth = fm.stringWidth(f5Text);
-                g2.drawString(f5Text, x - textWidth - 10, y + spriteSize/2 + 5);
-                
-                // Draw F6 sprite and text
-                g2.drawImage(f6Sprite, x, y + verticalSpacing, spriteSize, spriteSize, null);
-                String f6Text = "Load";
-                textWidth = fm.stringWidth(f6Text);
-                g2.drawString(f6Text, x - textWidth - 10, y + verticalSpacing + spriteSize/2 + 5);
-                
-                // Draw F7 sprite and text
-                g2.drawImage(f7Sprite, x, y + verticalSpacing * 2, spriteSize, spriteSize, null);
-                String f7Text = "Delete";
-                textWidth = fm.stringWidth(f7Text);
-                g2.drawString(f7Text, x - textWidth - 10, y + verticalSpacing * 2 + spriteSize/2 + 5);
-
-                // Draw I button hint
-                BufferedImage iSprite = ImageIO.read(new File(keyH.iPressed ? "res/buttons/ip.png" : "res/buttons/io.png"));
-                int iNaturalWidth = iSprite.getWidth();
-                int iNaturalHeight = iSprite.getHeight();
-                int iDrawWidth = (int) ((double) spriteSize / iNaturalHeight * iNaturalWidth);
-                int iDrawX = x + spriteSize - iDrawWidth;
-                g2.drawImage(iSprite, iDrawX, y + verticalSpacing * 3, iDrawWidth, spriteSize, null);
-                String iText = "Inventory";
-                textWidth = fm.stringWidth(iText);
-                g2.drawString(iText, iDrawX - textWidth - 10, y + verticalSpacing * 3 + spriteSize/2 + 5);
-
-                // Draw E button hint
-                BufferedImage eSprite = ImageIO.read(new File(keyH.ePressed ? "res/buttons/ep.png" : "res/buttons/eo.png"));
-                int eNaturalWidth = eSprite.getWidth();
-                int eNaturalHeight = eSprite.getHeight();
-                int eDrawWidth = (int) ((double) spriteSize / eNaturalHeight * eNaturalWidth);
-                int eDrawX = x + spriteSize - eDrawWidth;
-                g2.drawImage(eSprite, eDrawX, y + verticalSpacing * 4, eDrawWidth, spriteSize, null);
-                String eText = "Interact";
-                textWidth = fm.stringWidth(eText);
-                g2.drawString(eText, eDrawX - textWidth - 10, y + verticalSpacing * 4 + spriteSize/2 + 5);
-
-                // Draw Space button hint
-                BufferedImage spaceSprite = ImageIO.read(new File(keyH.spacePressed ? "res/buttons/spacep.png" : "res/buttons/spaceo.png"));
-                int spaceNaturalWidth = spaceSprite.getWidth();
-                int spaceNaturalHeight = spaceSprite.getHeight();
-                int spaceDrawWidth = (int) ((double) spriteSize / spaceNaturalHeight * spaceNaturalWidth);
-                int spaceDrawX = x + spriteSize - spaceDrawWidth;
-                g2.drawImage(spaceSprite, spaceDrawX, y + verticalSpacing * 5, spaceDrawWidth, spriteSize, null);
-                String spaceText = "Attack";
-                textWidth = fm.stringWidth(spaceText);
-                g2.drawString(spaceText, spaceDrawX - textWidth - 10, y + verticalSpacing * 5 + spriteSize/2 + 5);
-
-                // Draw Shift button hint
-                BufferedImage shiftSprite = ImageIO.read(new File(keyH.shiftPressed ? "res/buttons/shiftp.png" : "res/buttons/shifto.png"));
-                int shiftNaturalWidth = shiftSprite.getWidth();
-                int shiftNaturalHeight = shiftSprite.getHeight();
-                int shiftDrawWidth = (int) ((double) spriteSize / shiftNaturalHeight * shiftNaturalWidth);
-                int shiftDrawX = x + spriteSize - shiftDrawWidth;
-                g2.drawImage(shiftSprite, shiftDrawX, y + verticalSpacing * 6, shiftDrawWidth, spriteSize, null);
-                String shiftText = "Run";
-                textWidth = fm.stringWidth(shiftText);
-                g2.drawString(shiftText, shiftDrawX - textWidth - 10, y + verticalSpacing * 6 + spriteSize/2 + 5);
-
-                // Reset composite
-                g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+            // Set composite for fade effect
+            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, saveLoadAlpha));
+            
+            // Set black color for text
+            g2.setColor(new Color(0, 0, 0, 200));
+            g2.setFont(new Font("Arial", Font.BOLD, 16));
+            FontMetrics fm = g2.getFontMetrics();
+            
+            // Draw sprites in top right corner
+            int x = screenWidth - 60;  // Moved even more to the right
+            int y = 20;
+            int spriteSize = 32;
+            int verticalSpacing = 50;
+            
+            // Button, label and pressed state for each hint, top to bottom
+            drawButtonHint(g2, fm, "f5", keyH.savePressed, "Save", x, y, spriteSize);
+            drawButtonHint(g2, fm, "f6", keyH.loadPressed, "Load", x, y + verticalSpacing, spriteSize);
+            drawButtonHint(g2, fm, "f7", keyH.deletePressed, "Delete", x, y + verticalSpacing * 2, spriteSize);
+            drawButtonHint(g2, fm, "i", keyH.iPressed, "Inventory", x, y + verticalSpacing * 3, spriteSize);
+            drawButtonHint(g2, fm, "e", keyH.ePressed, "Interact", x, y + verticalSpacing * 4, spriteSize);
+            drawButtonHint(g2, fm, "space", keyH.spacePressed, "Attack", x, y + verticalSpacing * 5, spriteSize);
+            drawButtonHint(g2, fm, "shift", keyH.shiftPressed, "Run", x, y + verticalSpacing * 6, spriteSize);
+
+            // Reset composite
+            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+        }
+    }
+
+    // Draws one pre-scaled button icon right-aligned to x + spriteSize with its label to the left
+    private void drawButtonHint(Graphics2D g2, FontMetrics fm, String key, boolean pressed, String text, int x, int y, int spriteSize) {
+        BufferedImage sprite = buttonIcons.get(key, pressed, spriteSize);
+        int drawX = x;
+        if (sprite != null) {
+            drawX = x + spriteSize - sprite.getWidth();
+            g2.drawImage(sprite, drawX, y, null);
+        }
+        int textWidth = fm.stringWidth(text);
+        g2.drawString(text, drawX - textWidth - 10, y + spriteSize/2 + 5);
+    }
+
+    // Draws tick rate, jitter and tile count in the bottom-left corner when showFPS is enabled
+    void drawDebugOverlay(Graphics2D g2) {
+        if (!GameSettings.getInstance().isShowFPS()) {
+            return;
         }
+        g2.setFont(new Font("Arial", Font.PLAIN, 14));
+        g2.setColor(new Color(0, 0, 0, 160));
+        g2.fillRect(10, screenHeight - 88, 330, 78);
+        g2.setColor(Color.WHITE);
+        g2.drawString("Tick rate: " + scheduler.getTicksPerSecond() + " Hz", 20, screenHeight - 68);
+        g2.drawString(String.format("Jitter: %.2f ms (max %.2f ms)",
+            scheduler.getAverageJitterNanos() / 1_000_000.0,
+            scheduler.getMaxJitterNanos() / 1_000_000.0), 20, screenHeight - 50);
+        g2.drawString("Skipped ticks: " + scheduler.getSkippedTicks(), 20, screenHeight - 32);
+        g2.drawString("Tiles drawn: " + tileM.getTilesDrawn() + " (" + tileM.getChunksDrawn() + " chunks, "
+            + tileM.getCachedChunkCount() + " cached)", 20, screenHeight - 14);
+    }
+
+    // Draws flow field and pathfinder statistics in the top-right corner while F3 is toggled on
+    void drawNavigationOverlay(Graphics2D g2) {
+        if (!showNavigationDebug) {
+            return;
+        }
+        int x = screenWidth - 350;
+        g2.setFont(new Font("Arial", Font.PLAIN, 14));
+        g2.setColor(new Color(0, 0, 0, 160));
+        g2.fillRect(x, 10, 340, 78);
+        g2.setColor(Color.WHITE);
+        g2.drawString(String.format("Flow field: %.2f ms (%d recomputes)",
+            flowField.getLastComputeMillis(), flowField.getComputeCount()), x + 10, 30);
+        g2.drawString("Agents: " + flowField.getAgentCount() + " of " + enemyStore.size()
+            + "  goal (" + flowField.getGoalCol() + ", " + flowField.getGoalRow() + ")", x + 10, 48);
+        g2.drawString("Routes: " + pathfinder.getQueuedCount() + " queued, "
+            + pathfinder.getExpansionsLastTick() + " search steps", x + 10, 66);
+        g2.drawString("Route cache hits: " + pathfinder.getCacheHits() + " of "
+            + (pathfinder.getCacheHits() + pathfinder.getSearchesCompleted()), x + 10, 84);
     }
 
-    private void drawBossHealthBar(Graphics2D g2, entity.BossNoxar boss) {
+    private void drawBossHealthBar(Graphics2D g2, int health, int maxHealth) {
         int barWidth = screenWidth / 2;
         int barHeight = 32;
         int x = (screenWidth - barWidth) / 2 + 120; // Shift right by 120 pixels
@@ -1186,7 +1464,7 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
         g2.setColor(new Color(40, 40, 40, 220));
         g2.fillRoundRect(x, y, barWidth, barHeight, 16, 16);
         // Health
-        float percent = boss.health / (float)boss.maxHealth;
+        float percent = health / (float)maxHealth;
         int healthWidth = (int)(barWidth * percent);
         g2.setColor(new Color(120, 0, 0, 220));
         g2.fillRoundRect(x, y, healthWidth, barHeight, 16, 16);
@@ -1237,6 +1515,8 @@ public class GamePanel extends JPanel implements Runnable, MouseListener, MouseM
     public void mouseMoved(MouseEvent e) {}
 
     private void resetPlayerState() {
+        saver.startNewGame();
+        setupGame();                            // Fresh objects and enemies for the next game
         player.weapon = null;
         player.setSwordTextures(false);
         player.inventory = new Inventory(this);
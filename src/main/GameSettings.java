@@ -31,6 +31,9 @@ public class GameSettings {
     private boolean fullscreen = false;
     private int resolution = 0; // 0: 720p, 1: 1080p, 2: 1440p
     private boolean vsync = true;
+    private int targetFPS = 60; // Simulation ticks per second
+    private boolean activeRendering = true; // Present frames from the game thread instead of repaint()
+    private int chunkCacheMB = 64; // Memory budget for baked map chunks
     
     // Audio settings
     private float masterVolume = 1.0f;
@@ -41,6 +44,9 @@ public class GameSettings {
     private int difficulty = 1; // 0: Easy, 1: Normal, 2: Hard
     private boolean showFPS = false;
     private boolean showMinimap = true;
+    private boolean autoSave = false;
+    private int autoSaveSeconds = 5; // Game time between autosaves
+    private SaveCompression saveCompression = SaveCompression.LZ; // Codec for slots without their own choice
     
     // Settings file path
     private static final String SETTINGS_FILE = "settings.txt";
@@ -86,6 +92,15 @@ public class GameSettings {
                     case "vsync":
                         vsync = Boolean.parseBoolean(value);
                         break;
+                    case "targetFPS":
+                        targetFPS = Math.max(1, Integer.parseInt(value));
+                        break;
+                    case "activeRendering":
+                        activeRendering = Boolean.parseBoolean(value);
+                        break;
+                    case "chunkCacheMB":
+                        chunkCacheMB = Math.max(1, Integer.parseInt(value));
+                        break;
                     case "masterVolume":
                         masterVolume = Float.parseFloat(value);
                         break;
@@ -104,6 +119,15 @@ public class GameSettings {
                     case "showMinimap":
                         showMinimap = Boolean.parseBoolean(value);
                         break;
+                    case "autosave":
+                        autoSave = Boolean.parseBoolean(value);
+                        break;
+                    case "autosaveSeconds":
+                        autoSaveSeconds = Math.max(1, Integer.parseInt(value));
+                        break;
+                    case "saveCompression":
+                        saveCompression = SaveCompression.fromName(value);
+                        break;
                 }
             }
             reader.close();
@@ -119,12 +143,18 @@ public class GameSettings {
             writer.println("fullscreen=" + fullscreen);
             writer.println("resolution=" + resolution);
             writer.println("vsync=" + vsync);
+            writer.println("targetFPS=" + targetFPS);
+            writer.println("activeRendering=" + activeRendering);
+            writer.println("chunkCacheMB=" + chunkCacheMB);
             writer.println("masterVolume=" + masterVolume);
             writer.println("musicVolume=" + musicVolume);
             writer.println("sfxVolume=" + sfxVolume);
             writer.println("difficulty=" + difficulty);
             writer.println("showFPS=" + showFPS);
             writer.println("showMinimap=" + showMinimap);
+            writer.println("autosave=" + autoSave);
+            writer.println("autosaveSeconds=" + autoSaveSeconds);
+            writer.println("saveCompression=" + saveCompression.name());
             writer.close();
         } catch (IOException e) {
             e.printStackTrace();
@@ -141,6 +171,15 @@ public class GameSettings {
     public boolean isVsync() { return vsync; }
     public void setVsync(boolean vsync) { this.vsync = vsync; }
     
+    public int getTargetFPS() { return targetFPS; }
+    public void setTargetFPS(int targetFPS) { this.targetFPS = Math.max(1, targetFPS); }
+    
+    public boolean isActiveRendering() { return activeRendering; }
+    public void setActiveRendering(boolean activeRendering) { this.activeRendering = activeRendering; }
+
+    public int getChunkCacheMB() { return chunkCacheMB; }
+    public void setChunkCacheMB(int chunkCacheMB) { this.chunkCacheMB = Math.max(1, chunkCacheMB); }
+    
     public float getMasterVolume() { return masterVolume; }
     public void setMasterVolume(float masterVolume) { this.masterVolume = masterVolume; }
     
@@ -158,6 +197,15 @@ public class GameSettings {
     
     public boolean isShowMinimap() { return showMinimap; }
     public void setShowMinimap(boolean showMinimap) { this.showMinimap = showMinimap; }
+
+    public boolean isAutoSaveEnabled() { return autoSave; }
+    public void setAutoSaveEnabled(boolean autoSave) { this.autoSave = autoSave; }
+
+    public int getAutoSaveSeconds() { return autoSaveSeconds; }
+    public void setAutoSaveSeconds(int autoSaveSeconds) { this.autoSaveSeconds = Math.max(1, autoSaveSeconds); }
+
+    public SaveCompression getSaveCompression() { return saveCompression; }
+    public void setSaveCompression(SaveCompression saveCompression) { this.saveCompression = saveCompression; }
     
     public Color adjustColor(Color color) {
         float[] hsb = Color.RGBtoHSB(color.getRed(), color.getGreen(), color.getBlue(), null);
@@ -0,0 +1,245 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// GifAnimation.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Decoded frames of one GIF file, shared by every player of it. This class:
+// - Keeps one reference-counted decode per path, no matter how many GifImages show it
+// - Decodes frames in the background and publishes each one as soon as it is ready
+// - Stores frames as display-compatible images (one copy per frame)
+// - Frees the frames when the last GifImage using them is disposed
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+// GifAnimation holds the frames; GifImage holds the playback position
+final class GifAnimation {
+    // Shared animations keyed by file path
+    private static final Map<String, GifAnimation> cache = new HashMap<>();
+
+    // One decoded frame and how long it stays on screen
+    static final class Frame {
+        final BufferedImage image;
+        final int delay; // Milliseconds
+
+        Frame(BufferedImage image, int delay) {
+            this.image = image;
+            this.delay = delay;
+        }
+    }
+
+    private final String path;
+    private int refCount = 0;
+    // Frames published so far; appended by the decoder, read by the renderer
+    private final List<Frame> frames = new CopyOnWriteArrayList<>();
+    private volatile boolean complete = false;
+    // Set when the last reference is dropped; the decoder stops instead of adding more frames
+    private boolean released = false;
+    private volatile int width = -1;
+    private volatile int height = -1;
+    // Completes once the first frame is available (or decoding ended without one)
+    private final CompletableFuture<Void> firstFrame = new CompletableFuture<>();
+
+    private GifAnimation(String path) {
+        this.path = path;
+    }
+
+    // Returns the shared animation for a path, starting its decode on the executor the first time
+    static GifAnimation acquire(String path, Executor decoder) {
+        GifAnimation animation;
+        boolean created = false;
+        synchronized (cache) {
+            animation = cache.get(path);
+            if (animation == null) {
+                animation = new GifAnimation(path);
+                cache.put(path, animation);
+                created = true;
+            }
+            animation.refCount++;
+        }
+        if (created) {
+            GifAnimation decoding = animation;
+            decoder.execute(decoding::decode);
+        }
+        return animation;
+    }
+
+    // Drops one reference; the last one removes the animation from the cache and frees its frames
+    void release() {
+        synchronized (cache) {
+            refCount--;
+            if (refCount > 0) {
+                return;
+            }
+            cache.remove(path);
+        }
+        // Locked against decode(), so no frame is added after the list is cleared
+        synchronized (this) {
+            released = true;
+            for (Frame frame : frames) {
+                frame.image.flush();
+            }
+            frames.clear();
+        }
+    }
+
+    List<Frame> getFrames() {
+        return frames;
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    int getWidth() {
+        return width;
+    }
+
+    int getHeight() {
+        return height;
+    }
+
+    CompletableFuture<Void> whenFirstFrameReady() {
+        return firstFrame;
+    }
+
+    private void decode() {
+        try {
+            File file = new File(path);
+            if (!file.exists()) {
+                return;
+            }
+
+            ImageInputStream input = ImageIO.createImageInputStream(file);
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+
+            if (!readers.hasNext()) {
+                return;
+            }
+
+            ImageReader reader = readers.next();
+            reader.setInput(input);
+
+            GraphicsConfiguration gc = GraphicsEnvironment.isHeadless() ? null
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+            BufferedImage master = null;
+
+            // Read frames until the reader runs out, publishing each as it is composed
+            for (int i = 0; ; i++) {
+                synchronized (this) {
+                    if (released) {
+                        break;
+                    }
+                }
+                BufferedImage image;
+                try {
+                    image = reader.read(i);
+                } catch (IndexOutOfBoundsException e) {
+                    break;
+                }
+                IIOMetadata metadata = reader.getImageMetadata(i);
+                Node root = getGifMetadata(metadata);
+                int delay = 100; // Default delay if not found
+                int x = 0, y = 0;
+                boolean restoreToBackground = false;
+                if (root != null) {
+                    NodeList children = root.getChildNodes();
+                    for (int j = 0; j < children.getLength(); j++) {
+                        Node node = children.item(j);
+                        try {
+                            if (node.getNodeName().equals("ImageDescriptor")) {
+                                x = Integer.parseInt(node.getAttributes().getNamedItem("imageLeftPosition").getNodeValue());
+                                y = Integer.parseInt(node.getAttributes().getNamedItem("imageTopPosition").getNodeValue());
+                            } else if (node.getNodeName().equals("GraphicControlExtension")) {
+                                delay = Integer.parseInt(node.getAttributes().getNamedItem("delayTime").getNodeValue()) * 10;
+                                String disposal = node.getAttributes().getNamedItem("disposalMethod").getNodeValue();
+                                restoreToBackground = disposal.equals("restoreToBackgroundColor");
+                            }
+                        } catch (Exception e) {
+                            // Ignore, keep the defaults
+                        }
+                    }
+                }
+
+                if (master == null) {
+                    width = image.getWidth();
+                    height = image.getHeight();
+                    master = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                }
+
+                // Compose onto master
+                Graphics2D g2 = master.createGraphics();
+                g2.drawImage(image, x, y, null);
+                g2.dispose();
+
+                // Copy the composed image for this frame in the screen's pixel format
+                BufferedImage copy = gc != null
+                    ? gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                    : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g2copy = copy.createGraphics();
+                g2copy.drawImage(master, 0, 0, null);
+                g2copy.dispose();
+                synchronized (this) {
+                    if (released) {
+                        // Disposed while this frame was being made; nobody will draw it
+                        copy.flush();
+                        break;
+                    }
+                    frames.add(new Frame(copy, delay));
+                }
+                if (i == 0) {
+                    firstFrame.complete(null);
+                }
+
+                // Handle disposal method (restore to background)
+                if (restoreToBackground) {
+                    Graphics2D g2clear = master.createGraphics();
+                    g2clear.setComposite(AlphaComposite.Clear);
+                    g2clear.fillRect(x, y, image.getWidth(), image.getHeight());
+                    g2clear.dispose();
+                }
+            }
+
+            reader.dispose();
+            input.close();
+        } catch (IOException e) {
+            System.err.println("Error loading GIF: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            complete = true;
+            firstFrame.complete(null);
+        }
+    }
+
+    private static Node getGifMetadata(IIOMetadata metadata) {
+        for (String name : metadata.getMetadataFormatNames()) {
+            if (name.equals("javax_imageio_gif_image_1.0")) {
+                return metadata.getAsTree(name);
+            }
+        }
+        return null;
+    }
+}
@@ -3,208 +3,102 @@
 // GifImage.java
 // Created: May 27, 2025
 // Authors: Aun, Ajmal
-// 
+//
 // Description: Handles loading and displaying GIF images. This class:
-// - Loads GIF files as animated images
+// - Plays a GIF whose frames are shared through GifAnimation
 // - Manages frame timing and playback
 // - Provides methods for rendering GIFs
-// - Supports animation control
+// - Starts playing before the last frame has been decoded
 // - Used for animated backgrounds or effects
 /////////////////////////////////////////////////////////////////////////////
 
 package main;
 
-import javax.imageio.*;
-import javax.imageio.metadata.IIOMetadata;
-import javax.imageio.stream.ImageInputStream;
 import java.awt.image.BufferedImage;
-import java.awt.Graphics2D;
-import java.io.File;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import javax.swing.ImageIcon;
 import java.awt.Graphics;
-import java.awt.Image;
 import java.awt.image.ImageObserver;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 // GifImage class manages animated GIFs
 public class GifImage {
-    // ImageIcon for the GIF
-    private ImageIcon gifIcon;
-    // Current frame image
-    private Image currentFrame;
-    private List<BufferedImage> frames;
-    private List<Integer> delays;
+    // Decoded frames, shared with every other GifImage of the same file
+    private final GifAnimation animation;
     private long lastFrameTime;
     private int currentFrameIndex;
-    private int width;
-    private int height;
-    
-    // Constructor loads GIF from file path
+    private boolean disposed = false;
+
+    // Constructor loads GIF from file path (decoding on a background thread)
     public GifImage(String filePath) {
-        gifIcon = new ImageIcon(filePath);
-        currentFrame = gifIcon.getImage();
-        frames = new ArrayList<>();
-        delays = new ArrayList<>();
-        lastFrameTime = System.currentTimeMillis();
-        currentFrameIndex = 0;
-        loadGif(filePath);
+        this(filePath, runnable -> {
+            Thread t = new Thread(runnable, "GifDecoder");
+            t.setDaemon(true);
+            t.start();
+        });
     }
-    
-    private void loadGif(String path) {
-        try {
-            File file = new File(path);
-            if (!file.exists()) {
-                return;
-            }
-            
-            ImageInputStream input = ImageIO.createImageInputStream(file);
-            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
-            
-            if (!readers.hasNext()) {
-                return;
-            }
-            
-            ImageReader reader = readers.next();
-            reader.setInput(input);
-            
-            int numFrames = reader.getNumImages(true);
-            BufferedImage master = null;
-            width = -1;
-            height = -1;
-            
-            for (int i = 0; i < numFrames; i++) {
-                BufferedImage image = reader.read(i);
-                IIOMetadata metadata = reader.getImageMetadata(i);
-                int delay = getDelayFromMetadata(metadata);
-                delays.add(delay);
-                
-                // Get frame position (x, y)
-                int x = 0, y = 0;
-                try {
-                    String[] names = metadata.getMetadataFormatNames();
-                    for (String name : names) {
-                        if (name.equals("javax_imageio_gif_image_1.0")) {
-                            Node root = metadata.getAsTree(name);
-                            NodeList children = root.getChildNodes();
-                            for (int j = 0; j < children.getLength(); j++) {
-                                Node node = children.item(j);
-                                if (node.getNodeName().equals("ImageDescriptor")) {
-                                    x = Integer.parseInt(node.getAttributes().getNamedItem("imageLeftPosition").getNodeValue());
-                                    y = Integer.parseInt(node.getAttributes().getNamedItem("imageTopPosition").getNodeValue());
-                                }
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    // Ignore, use default (0,0)
-                }
-                
-                if (width == -1 || height == -1) {
-                    width = image.getWidth();
-                    height = image.getHeight();
-                    master = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-                }
-                
-                // Compose onto master
-                Graphics2D g2 = master.createGraphics();
-                g2.drawImage(image, x, y, null);
-                g2.dispose();
-                
-                // Copy the composed image for this frame
-                BufferedImage copy = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-                Graphics2D g2copy = copy.createGraphics();
-                g2copy.drawImage(master, 0, 0, null);
-                g2copy.dispose();
-                frames.add(copy);
-                
-                // Handle disposal method (restore to background)
-                try {
-                    String[] names = metadata.getMetadataFormatNames();
-                    for (String name : names) {
-                        if (name.equals("javax_imageio_gif_image_1.0")) {
-                            Node root = metadata.getAsTree(name);
-                            NodeList children = root.getChildNodes();
-                            for (int j = 0; j < children.getLength(); j++) {
-                                Node node = children.item(j);
-                                if (node.getNodeName().equals("GraphicControlExtension")) {
-                                    String disposal = node.getAttributes().getNamedItem("disposalMethod").getNodeValue();
-                                    if (disposal.equals("restoreToBackgroundColor")) {
-                                        Graphics2D g2clear = master.createGraphics();
-                                        g2clear.setComposite(java.awt.AlphaComposite.Clear);
-                                        g2clear.fillRect(x, y, image.getWidth(), image.getHeight());
-                                        g2clear.dispose();
-                                    }
-                                }
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    // Ignore
-                }
-            }
-            
-            reader.dispose();
-            input.close();
-            
-        } catch (IOException e) {
-            System.err.println("Error loading GIF: " + e.getMessage());
-            e.printStackTrace();
-        }
+
+    // Constructor that decodes on the given executor if the file is not already cached
+    GifImage(String filePath, Executor decoder) {
+        animation = GifAnimation.acquire(filePath, decoder);
+        lastFrameTime = GameClock.getInstance().nowMillis();
+        currentFrameIndex = 0;
     }
-    
-    private int getDelayFromMetadata(IIOMetadata metadata) {
-        try {
-            String[] names = metadata.getMetadataFormatNames();
-            for (String name : names) {
-                if (name.equals("javax_imageio_gif_image_1.0")) {
-                    Node root = metadata.getAsTree(name);
-                    NodeList children = root.getChildNodes();
-                    
-                    for (int j = 0; j < children.getLength(); j++) {
-                        Node node = children.item(j);
-                        if (node.getNodeName().equals("GraphicControlExtension")) {
-                            return Integer.parseInt(node.getAttributes().getNamedItem("delayTime").getNodeValue()) * 10;
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Error reading frame delay: " + e.getMessage());
-        }
-        return 100; // Default delay if not found
+
+    // Completes with this GIF once its first frame can be shown
+    public CompletableFuture<GifImage> whenFirstFrameReady() {
+        return animation.whenFirstFrameReady().thenApply(v -> this);
     }
-    
+
     public BufferedImage getCurrentFrame() {
-        if (frames.isEmpty()) {
+        List<GifAnimation.Frame> frames = animation.getFrames();
+        int count = frames.size();
+        if (count == 0) {
             return null;
         }
-        
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastFrameTime >= delays.get(currentFrameIndex)) {
-            currentFrameIndex = (currentFrameIndex + 1) % frames.size();
-            lastFrameTime = currentTime;
+        if (currentFrameIndex >= count) {
+            currentFrameIndex = 0;
+        }
+
+        long currentTime = GameClock.getInstance().nowMillis();
+        if (currentTime - lastFrameTime >= frames.get(currentFrameIndex).delay) {
+            int next = currentFrameIndex + 1;
+            if (next < count) {
+                currentFrameIndex = next;
+                lastFrameTime = currentTime;
+            } else if (animation.isComplete()) {
+                currentFrameIndex = 0;
+                lastFrameTime = currentTime;
+            }
+            // Otherwise hold this frame until the decoder publishes the next one
         }
-        
-        return frames.get(currentFrameIndex);
+
+        return frames.get(currentFrameIndex).image;
     }
 
     // Draws the GIF at the specified position
     public void draw(Graphics g, int x, int y, ImageObserver observer) {
-        g.drawImage(currentFrame, x, y, observer);
+        BufferedImage frame = getCurrentFrame();
+        if (frame != null) {
+            g.drawImage(frame, x, y, observer);
+        }
+    }
+
+    // Releases this GIF's hold on the shared frames
+    public void dispose() {
+        if (!disposed) {
+            disposed = true;
+            animation.release();
+        }
     }
 
-    // Returns the width of the GIF
+    // Returns the width of the GIF (-1 until the first frame is decoded)
     public int getWidth() {
-        return gifIcon.getIconWidth();
+        return animation.getWidth();
     }
 
-    // Returns the height of the GIF
+    // Returns the height of the GIF (-1 until the first frame is decoded)
     public int getHeight() {
-        return gifIcon.getIconHeight();
+        return animation.getHeight();
     }
-} 
\ No newline at end of file
+}
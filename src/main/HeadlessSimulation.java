@@ -0,0 +1,181 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// HeadlessSimulation.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Runs the game world without a display (java Main --headless). This class:
+// - Builds a headless GamePanel (no window, rendering or audio) and starts a game
+// - Calls update() for a fixed number of ticks, as fast as possible or at a multiple of real time
+// - Can drive the player with a seeded wandering bot for soak tests and play-throughs
+// - Restarts the game after a death so long runs keep going
+// - Prints throughput and tick timings for benchmarks on machines without a display
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.util.Random;
+
+// HeadlessSimulation drives one GamePanel from the calling thread
+public class HeadlessSimulation {
+    // How often a progress line is printed (real time)
+    private static final long REPORT_INTERVAL = 10_000_000_000L;
+    // Ticks between the bot's decisions
+    private static final int BOT_DECISION_TICKS = 30;
+
+    private final GamePanel gp;
+    private final Random random;
+    private final boolean bot;
+    private final double speed;   // Multiple of real time; 0 runs unthrottled
+
+    // Run statistics
+    private long ticksRun = 0;
+    private long totalUpdateNanos = 0;
+    private long maxUpdateNanos = 0;
+    private int deaths = 0;
+    private int wins = 0;
+
+    public HeadlessSimulation(double speed, long seed, boolean bot) {
+        this.speed = speed;
+        this.random = new Random(seed);
+        this.bot = bot;
+        gp = new GamePanel(null);
+        if (speed > 0) {
+            gp.setTimeScale(speed);
+        }
+        startGame();
+    }
+
+    // Usage: --headless [--ticks=N] [--speed=X] [--seed=N] [--no-bot]
+    // --speed=0 (the default) runs ticks back to back; --speed=2 runs at twice real time.
+    public static void main(String[] args) {
+        long ticks = 60L * 60 * 10;     // Ten minutes of game time at 60 ticks per second
+        double speed = 0;
+        long seed = 1;
+        boolean bot = true;
+        for (String arg : args) {
+            try {
+                if (arg.startsWith("--ticks=")) {
+                    ticks = Long.parseLong(arg.substring("--ticks=".length()));
+                } else if (arg.startsWith("--speed=")) {
+                    speed = Double.parseDouble(arg.substring("--speed=".length()));
+                } else if (arg.startsWith("--seed=")) {
+                    seed = Long.parseLong(arg.substring("--seed=".length()));
+                } else if (arg.equals("--no-bot")) {
+                    bot = false;
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("Ignoring invalid argument: " + arg);
+            }
+        }
+
+        HeadlessSimulation simulation = new HeadlessSimulation(speed, seed, bot);
+        boolean ok = simulation.run(ticks);
+        // Exit explicitly to report the result; queued saves are flushed by a shutdown hook
+        System.exit(ok ? 0 : 1);
+    }
+
+    // Runs the given number of ticks; returns false if an update threw
+    public boolean run(long ticks) {
+        TickScheduler scheduler = speed > 0 ? gp.getScheduler() : null;
+        if (scheduler != null) {
+            scheduler.reset();
+        }
+        long start = System.nanoTime();
+        long nextReport = start + REPORT_INTERVAL;
+        while (ticksRun < ticks) {
+            int due = scheduler != null ? scheduler.awaitNextTick() : 1;
+            if (due == 0) {
+                break;      // Interrupted
+            }
+            for (int i = 0; i < due && ticksRun < ticks; i++) {
+                if (!step()) {
+                    report(System.nanoTime() - start);
+                    return false;
+                }
+            }
+            if (System.nanoTime() >= nextReport) {
+                report(System.nanoTime() - start);
+                nextReport += REPORT_INTERVAL;
+            }
+        }
+        report(System.nanoTime() - start);
+        return true;
+    }
+
+    // Runs one tick with bot input and state handling around it
+    private boolean step() {
+        if (bot) {
+            driveBot();
+        }
+        handleGameState();
+        long before = System.nanoTime();
+        try {
+            gp.update();
+        } catch (RuntimeException e) {
+            System.err.println("Update failed at tick " + gp.getTickCount() + ":");
+            e.printStackTrace();
+            return false;
+        }
+        long took = System.nanoTime() - before;
+        totalUpdateNanos += took;
+        maxUpdateNanos = Math.max(maxUpdateNanos, took);
+        ticksRun++;
+        return true;
+    }
+
+    // Places the world's objects and enemies and goes straight into play (what the menu's Play does)
+    private void startGame() {
+        gp.setupGame();
+        gp.gameState = GamePanel.PLAY_STATE;
+    }
+
+    // Keeps the run in play: dismisses dialogue, and restarts after a death or a win
+    private void handleGameState() {
+        KeyHandler keyH = gp.keyH;
+        switch (gp.gameState) {
+            case GamePanel.GAME_OVER_STATE -> {
+                deaths++;
+                keyH.enterPressed = true;   // Back to the menu with a fresh player
+            }
+            case GamePanel.WIN_STATE -> {
+                wins++;
+                keyH.enterPressed = true;
+            }
+            case GamePanel.MENU_STATE -> startGame();
+            case GamePanel.DIALOGUE_STATE, GamePanel.NOXAR_CUTSCENE_STATE -> {
+                if (bot && gp.getTickCount() % BOT_DECISION_TICKS == 0) {
+                    keyH.ePressed = true;
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    // Wanders: every half second picks a new heading, sometimes sprinting or swinging
+    private void driveBot() {
+        if (gp.getTickCount() % BOT_DECISION_TICKS != 0) {
+            return;
+        }
+        KeyHandler keyH = gp.keyH;
+        int heading = random.nextInt(9);    // 8 directions or standing still
+        keyH.upPressed = heading == 0 || heading == 1 || heading == 7;
+        keyH.rightPressed = heading >= 1 && heading <= 3;
+        keyH.downPressed = heading >= 3 && heading <= 5;
+        keyH.leftPressed = heading >= 5 && heading <= 7;
+        keyH.shiftPressed = random.nextInt(4) == 0;
+        keyH.spacePressed = random.nextInt(6) == 0;
+    }
+
+    private void report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.println(String.format(
+            "ticks %d | %.1f s real, %.1f s game | %.0f ticks/s | update avg %.3f ms, max %.3f ms | enemies %d | hp %d | deaths %d, wins %d",
+            ticksRun, seconds, gp.getGameTimeMillis() / 1000.0,
+            seconds > 0 ? ticksRun / seconds : 0,
+            ticksRun > 0 ? totalUpdateNanos / (double) ticksRun / 1_000_000.0 : 0,
+            maxUpdateNanos / 1_000_000.0,
+            gp.enemyStore.size(), gp.player.hp, deaths, wins));
+    }
+}
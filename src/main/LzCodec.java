@@ -0,0 +1,187 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// LzCodec.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Small, fast LZ77 compressor for save files (in the style of LZ4). This class:
+// - Finds repeats of 4 or more bytes up to 64 KB back with a single hash table, no entropy coding
+// - Speeds up over data that does not compress instead of searching every position
+// - Decodes with plain array copies, checking every length and offset against the buffers
+// - Rejects damaged input with an IOException instead of reading or writing out of bounds
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+// LzCodec has no state; every method is static and thread-safe
+final class LzCodec {
+    // Block layout: a run of sequences, each
+    //   token byte (high nibble: literal count, low nibble: match length - MIN_MATCH),
+    //   extra literal count bytes if the nibble is 15 (255 means another byte follows),
+    //   the literals,
+    //   then, unless this is the last sequence: ushort offset (little-endian, 1 to MAX_OFFSET),
+    //   and extra match length bytes if the nibble is 15.
+    // The last sequence only has literals; the decoder knows it by reaching the end of the input.
+    private static final int MIN_MATCH = 4;
+    private static final int MAX_OFFSET = 65535;
+    // Hash table size: 2^14 entries, smaller for small inputs so a 1 KB save does not clear 64 KB
+    private static final int HASH_BITS = 14;
+    private static final int MIN_HASH_BITS = 8;
+    // Misses in a row before the search starts skipping ahead (1 more byte per 2^SKIP_SHIFT misses)
+    private static final int SKIP_SHIFT = 6;
+
+    private LzCodec() {
+    }
+
+    // Largest output compress() can produce for n input bytes (all literals plus run-length bytes)
+    static int maxCompressedLength(int n) {
+        return n + n / 255 + 16;
+    }
+
+    static byte[] compress(byte[] src) {
+        int n = src.length;
+        byte[] dst = new byte[maxCompressedLength(n)];
+        int hashBits = Math.max(MIN_HASH_BITS, Math.min(HASH_BITS, 32 - Integer.numberOfLeadingZeros(n)));
+        int[] table = new int[1 << hashBits];    // Position + 1 of the last 4 bytes with each hash; 0 = none
+        int anchor = 0;     // Start of the literals not yet written
+        int ip = 0;
+        int op = 0;
+        int misses = 0;
+        int limit = n - MIN_MATCH;    // Last position 4 bytes can be read from
+        while (ip <= limit) {
+            int sequence = readInt(src, ip);
+            int h = hash(sequence, hashBits);
+            int ref = table[h] - 1;
+            table[h] = ip + 1;
+            if (ref < 0 || ip - ref > MAX_OFFSET || readInt(src, ref) != sequence) {
+                ip += 1 + (misses++ >> SKIP_SHIFT);
+                continue;
+            }
+            misses = 0;
+            int length = MIN_MATCH;
+            while (ip + length < n && src[ref + length] == src[ip + length]) {
+                length++;
+            }
+            op = writeSequence(src, anchor, ip - anchor, dst, op, ip - ref, length);
+            ip += length;
+            anchor = ip;
+            // Remember a position inside the match so the next repeat of it is found too
+            if (ip - 2 <= limit) {
+                table[hash(readInt(src, ip - 2), hashBits)] = ip - 2 + 1;
+            }
+        }
+        op = writeSequence(src, anchor, n - anchor, dst, op, 0, 0);
+        return Arrays.copyOf(dst, op);
+    }
+
+    // Writes literals followed by a match (offset 0: no match, the last sequence)
+    private static int writeSequence(byte[] src, int literalStart, int literals, byte[] dst, int op, int offset, int matchLength) {
+        int matchCode = offset != 0 ? matchLength - MIN_MATCH : 0;
+        int tokenPos = op++;
+        dst[tokenPos] = (byte) ((Math.min(literals, 15) << 4) | Math.min(matchCode, 15));
+        if (literals >= 15) {
+            op = writeLength(dst, op, literals - 15);
+        }
+        System.arraycopy(src, literalStart, dst, op, literals);
+        op += literals;
+        if (offset != 0) {
+            dst[op++] = (byte) offset;
+            dst[op++] = (byte) (offset >>> 8);
+            if (matchCode >= 15) {
+                op = writeLength(dst, op, matchCode - 15);
+            }
+        }
+        return op;
+    }
+
+    private static int writeLength(byte[] dst, int op, int remaining) {
+        while (remaining >= 255) {
+            dst[op++] = (byte) 255;
+            remaining -= 255;
+        }
+        dst[op++] = (byte) remaining;
+        return op;
+    }
+
+    // Decodes a block that compress() made from exactly originalLength bytes
+    static byte[] decompress(byte[] src, int offset, int length, int originalLength) throws IOException {
+        byte[] dst = new byte[originalLength];
+        int ip = offset;
+        int end = offset + length;
+        int op = 0;
+        while (true) {
+            if (ip >= end) {
+                throw new IOException("Compressed data ends mid-sequence");
+            }
+            int token = src[ip++] & 0xFF;
+            int literals = token >>> 4;
+            if (literals == 15) {
+                int b;
+                do {
+                    if (ip >= end) {
+                        throw new IOException("Compressed data ends mid-sequence");
+                    }
+                    b = src[ip++] & 0xFF;
+                    literals += b;
+                } while (b == 255 && literals <= originalLength);
+            }
+            if (literals > end - ip || literals > originalLength - op) {
+                throw new IOException("Literal run past the end of the data");
+            }
+            System.arraycopy(src, ip, dst, op, literals);
+            ip += literals;
+            op += literals;
+            if (ip == end) {
+                break;      // Last sequence
+            }
+
+            if (end - ip < 2) {
+                throw new IOException("Compressed data ends mid-sequence");
+            }
+            int distance = (src[ip] & 0xFF) | ((src[ip + 1] & 0xFF) << 8);
+            ip += 2;
+            if (distance == 0 || distance > op) {
+                throw new IOException("Match offset " + distance + " out of range");
+            }
+            int matchLength = (token & 15) + MIN_MATCH;
+            if ((token & 15) == 15) {
+                int b;
+                do {
+                    if (ip >= end) {
+                        throw new IOException("Compressed data ends mid-sequence");
+                    }
+                    b = src[ip++] & 0xFF;
+                    matchLength += b;
+                } while (b == 255 && matchLength <= originalLength);
+            }
+            if (matchLength > originalLength - op) {
+                throw new IOException("Match past the end of the data");
+            }
+            int ref = op - distance;
+            if (distance >= matchLength) {
+                System.arraycopy(dst, ref, dst, op, matchLength);
+            } else {
+                // Overlapping match (a repeating pattern): copy byte by byte
+                for (int i = 0; i < matchLength; i++) {
+                    dst[op + i] = dst[ref + i];
+                }
+            }
+            op += matchLength;
+        }
+        if (op != originalLength) {
+            throw new IOException("Decompressed " + op + " bytes, expected " + originalLength);
+        }
+        return dst;
+    }
+
+    private static int readInt(byte[] b, int i) {
+        return (b[i] & 0xFF) | ((b[i + 1] & 0xFF) << 8) | ((b[i + 2] & 0xFF) << 16) | ((b[i + 3] & 0xFF) << 24);
+    }
+
+    private static int hash(int sequence, int bits) {
+        return (sequence * -1640531535) >>> (32 - bits);
+    }
+}
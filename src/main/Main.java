@@ -5,35 +5,81 @@
 // Authors: Aun, Ajmal
 // 
 // Description: Entry point for the Limitless game. This class:
-// - Initializes the main game window
+// - Initializes the main game window, showing the menu background while the world loads
 // - Sets up the game panel and frame
 // - Starts the game loop
-// - Handles application startup
+// - Handles application startup (or a headless simulation run with --headless)
 // - Coordinates initial game setup
 /////////////////////////////////////////////////////////////////////////////
 
 package main;
 
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
 import javax.swing.JFrame;
+import javax.swing.JPanel;
 
 // Main class launches the game
 public class Main {
     public static void main(String[] args) {
+        // --headless runs the simulation without a window, rendering or audio
+        boolean headless = java.util.Arrays.asList(args).contains("--headless");
+        if (headless) {
+            System.setProperty("java.awt.headless", "true");
+            AudioManager.setEnabled(false);
+        }
+
+        // Start decoding every asset in the background; the menu's assets are queued first
+        AssetManager assets = AssetManager.getInstance();
+        assets.preloadAll();
+        assets.whenMenuReady().join();
+
+        if (headless) {
+            HeadlessSimulation.main(args);
+            return;
+        }
+
         // Create the main game window (JFrame)
         JFrame window = new JFrame("Limitless");
         window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         window.setResizable(false);
 
-        // Create and add the main game panel
-        GamePanel gamePanel = new GamePanel(window);
-        window.add(gamePanel);
+        // Show the window with the menu background as soon as the menu's assets are in,
+        // while the rest of the world is built
+        GifImage backdrop = assets.getGif("res/menu/menu.gif");
+        JPanel loading = new JPanel() {
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                BufferedImage frame = backdrop != null ? backdrop.getCurrentFrame() : null;
+                if (frame != null) {
+                    g.drawImage(frame, 0, 0, getWidth(), getHeight(), null);
+                }
+            }
+        };
+        loading.setBackground(Color.BLACK);
+        loading.setPreferredSize(new Dimension(GamePanel.DEFAULT_WIDTH, GamePanel.DEFAULT_HEIGHT));
+        window.add(loading);
         window.pack();
 
         // Center the window on the screen
         window.setLocationRelativeTo(null);
         window.setVisible(true);
 
-        // Start the game loop
+        // Create the main game panel and swap it in for the backdrop
+        GamePanel gamePanel = new GamePanel(window);
+        window.remove(loading);
+        window.add(gamePanel);
+        window.revalidate();
+        gamePanel.requestFocusInWindow();
+        if (backdrop != null) {
+            backdrop.dispose();
+        }
+
+        // Place the world's objects and enemies, then start the game loop
+        gamePanel.setupGame();
         gamePanel.startGameThread();
     }
 }
\ No newline at end of file
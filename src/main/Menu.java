@@ -59,7 +59,7 @@ public class Menu implements MouseListener, MouseMotionListener {
         
         // Load background GIF
         try {
-            backgroundGif = new GifImage("res/menu/menu.gif");
+            backgroundGif = AssetManager.getInstance().getGif("res/menu/menu.gif");
             // Create a fixed-size buffer for the animation
             if (backgroundGif != null) {
                 BufferedImage firstFrame = backgroundGif.getCurrentFrame();
@@ -93,7 +93,7 @@ public class OptionsMenu implements MouseListener, MouseMotionListener {
         
         // Load background GIF (same as Menu)
         try {
-            backgroundGif = new GifImage("res/menu/menu.gif");
+            backgroundGif = AssetManager.getInstance().getGif("res/menu/menu.gif");
         } catch (Exception e) {
             System.err.println("Error loading background GIF in OptionsMenu: " + e.getMessage());
             e.printStackTrace();
@@ -0,0 +1,614 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// Pathfinder.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Tile-grid pathfinding shared by every agent in the world. This class:
+// - Finds routes over TileManager's collision bitmap with A* and jump-point search
+// - Moves diagonally only when both side tiles are open, so routes never cut corners
+// - Spreads searches over ticks with a fixed budget of work per tick (nodes expanded and tiles scanned)
+// - Caches routes by (start chunk, goal chunk) and reuses them when the ends are in sight
+// - Drops cached routes when a tile in their area changes
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import tile.CollisionMap;
+import tile.TileManager;
+
+// Pathfinder queues route requests and answers them a few at a time
+public class Pathfinder {
+    // Work allowed per tick across all requests: one unit per node expanded and per tile a jump scans
+    public static final int EXPANSIONS_PER_TICK = 1500;
+    // Cached routes kept (least recently used are dropped first)
+    private static final int CACHE_SIZE = 256;
+    // Step costs: 10 straight, 14 diagonal (about 10 * sqrt(2))
+    private static final int STRAIGHT = 10;
+    private static final int DIAGONAL = 14;
+
+    // One route request. Agents hold on to it and poll until it is done.
+    public static final class PathRequest {
+        public static final int PENDING = 0;
+        public static final int FOUND = 1;
+        public static final int FAILED = 2;
+        public static final int CANCELLED = 3;
+
+        public final int startCol, startRow, goalCol, goalRow;
+        private volatile int status = PENDING;
+        private boolean fromCache = false;
+        // Waypoints from start to goal; consecutive points are joined by clear straight lines
+        private int[] cols = new int[0];
+        private int[] rows = new int[0];
+
+        PathRequest(int startCol, int startRow, int goalCol, int goalRow) {
+            this.startCol = startCol;
+            this.startRow = startRow;
+            this.goalCol = goalCol;
+            this.goalRow = goalRow;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public boolean isDone() {
+            return status != PENDING;
+        }
+
+        public boolean isFound() {
+            return status == FOUND;
+        }
+
+        // True if the route was spliced from the cache instead of searched
+        public boolean isFromCache() {
+            return fromCache;
+        }
+
+        // Stops a pending search; the request will never be answered
+        public void cancel() {
+            if (status == PENDING) {
+                status = CANCELLED;
+            }
+        }
+
+        public int getLength() {
+            return cols.length;
+        }
+
+        public int getCol(int i) {
+            return cols[i];
+        }
+
+        public int getRow(int i) {
+            return rows[i];
+        }
+    }
+
+    // A searched route and the chunk area it passes through
+    private static final class CachedRoute {
+        final int[] cols, rows;
+        final int minChunkCol, minChunkRow, maxChunkCol, maxChunkRow;
+
+        CachedRoute(int[] cols, int[] rows) {
+            this.cols = cols;
+            this.rows = rows;
+            int minC = Integer.MAX_VALUE, minR = Integer.MAX_VALUE, maxC = Integer.MIN_VALUE, maxR = Integer.MIN_VALUE;
+            for (int i = 0; i < cols.length; i++) {
+                minC = Math.min(minC, cols[i]);
+                maxC = Math.max(maxC, cols[i]);
+                minR = Math.min(minR, rows[i]);
+                maxR = Math.max(maxR, rows[i]);
+            }
+            // Segments are straight lines between waypoints, so the waypoints' bounds hold the whole route
+            minChunkCol = minC / TileManager.CHUNK_TILES;
+            minChunkRow = minR / TileManager.CHUNK_TILES;
+            maxChunkCol = maxC / TileManager.CHUNK_TILES;
+            maxChunkRow = maxR / TileManager.CHUNK_TILES;
+        }
+
+        boolean coversChunk(int chunkCol, int chunkRow) {
+            return chunkCol >= minChunkCol && chunkCol <= maxChunkCol && chunkRow >= minChunkRow && chunkRow <= maxChunkRow;
+        }
+    }
+
+    private final GamePanel gp;
+    private final ArrayDeque<PathRequest> queue = new ArrayDeque<>();
+    private final LinkedHashMap<Long, CachedRoute> cache = new LinkedHashMap<>(64, 0.75f, true);
+    // Bumped whenever tiles change, so agents know to ask again
+    private int version = 0;
+
+    // Search state for the request at the head of the queue (kept between ticks)
+    private PathRequest active;
+    private int cols, rows;
+    private int[] gScore, parent, seenStamp, closedStamp;
+    private int stamp = 0;
+    // Binary min-heap of nodes ordered by f = g + h, with each node's heap slot for decrease-key
+    private int[] heapNode, heapF, heapSlot;
+    private int heapSize = 0;
+    // Work left this tick; jumps charge every tile they scan, so a long jump counts for its length
+    private int budget;
+
+    // Statistics for the debug overlay
+    private int expansionsLastTick = 0;
+    private long searchesCompleted = 0;
+    private long cacheHits = 0;
+
+    public Pathfinder(GamePanel gp) {
+        this.gp = gp;
+    }
+
+    // Queues a route from one tile to another. Returns at once; the answer arrives over the next ticks
+    // (or immediately when a cached route can be reused).
+    public PathRequest request(int startCol, int startRow, int goalCol, int goalRow) {
+        PathRequest request = new PathRequest(startCol, startRow, goalCol, goalRow);
+        CollisionMap map = gp.tileM.collisionMap;
+        if (map.isSolid(startCol, startRow) || map.isSolid(goalCol, goalRow)) {
+            request.status = PathRequest.FAILED;
+            return request;
+        }
+        if (startCol == goalCol && startRow == goalRow) {
+            finish(request, new int[] { startCol }, new int[] { startRow });
+            return request;
+        }
+        if (spliceFromCache(request)) {
+            return request;
+        }
+        queue.add(request);
+        return request;
+    }
+
+    // Spends this tick's expansion budget on the queued requests, oldest first
+    public void update() {
+        budget = EXPANSIONS_PER_TICK;
+        while (budget > 0) {
+            if (active == null || active.status != PathRequest.PENDING) {
+                active = nextRequest();
+                if (active == null) {
+                    break;
+                }
+                beginSearch(active);
+            }
+            search();
+        }
+        // An expansion started with budget left always finishes, so this can go a little past the budget
+        expansionsLastTick = EXPANSIONS_PER_TICK - budget;
+    }
+
+    // Called by TileManager when a tile's solidity changes
+    public void onTileChanged(int col, int row) {
+        int chunkCol = col / TileManager.CHUNK_TILES;
+        int chunkRow = row / TileManager.CHUNK_TILES;
+        Iterator<CachedRoute> it = cache.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().coversChunk(chunkCol, chunkRow)) {
+                it.remove();
+            }
+        }
+        // The search in progress may have closed nodes that are no longer valid
+        if (active != null && active.status == PathRequest.PENDING) {
+            beginSearch(active);
+        }
+        version++;
+    }
+
+    // Drops every cached route (after the whole map changes)
+    public void clearCache() {
+        cache.clear();
+        if (active != null && active.status == PathRequest.PENDING) {
+            beginSearch(active);
+        }
+        version++;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public int getQueuedCount() {
+        return queue.size() + (active != null && active.status == PathRequest.PENDING ? 1 : 0);
+    }
+
+    public int getExpansionsLastTick() {
+        return expansionsLastTick;
+    }
+
+    public long getSearchesCompleted() {
+        return searchesCompleted;
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    private PathRequest nextRequest() {
+        PathRequest next;
+        while ((next = queue.poll()) != null) {
+            if (next.status == PathRequest.PENDING) {
+                // Another search may have cached this chunk pair while the request waited
+                if (!spliceFromCache(next)) {
+                    return next;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Reuses a cached route between the same chunks if the request's ends can walk straight onto it
+    private boolean spliceFromCache(PathRequest request) {
+        CachedRoute route = cache.get(cacheKey(request.startCol, request.startRow, request.goalCol, request.goalRow));
+        if (route == null) {
+            return false;
+        }
+        int last = route.cols.length - 1;
+        if (!lineClear(request.startCol, request.startRow, route.cols[0], route.rows[0])
+            || !lineClear(route.cols[last], route.rows[last], request.goalCol, request.goalRow)) {
+            return false;
+        }
+        int[] pathCols = new int[route.cols.length + 2];
+        int[] pathRows = new int[route.rows.length + 2];
+        int length = 0;
+        length = append(pathCols, pathRows, length, request.startCol, request.startRow);
+        for (int i = 0; i <= last; i++) {
+            length = append(pathCols, pathRows, length, route.cols[i], route.rows[i]);
+        }
+        length = append(pathCols, pathRows, length, request.goalCol, request.goalRow);
+        request.fromCache = true;
+        cacheHits++;
+        finish(request, Arrays.copyOf(pathCols, length), Arrays.copyOf(pathRows, length));
+        return true;
+    }
+
+    // Adds a waypoint unless it repeats the previous one
+    private static int append(int[] pathCols, int[] pathRows, int length, int col, int row) {
+        if (length > 0 && pathCols[length - 1] == col && pathRows[length - 1] == row) {
+            return length;
+        }
+        pathCols[length] = col;
+        pathRows[length] = row;
+        return length + 1;
+    }
+
+    private long cacheKey(int startCol, int startRow, int goalCol, int goalRow) {
+        return ((long) chunkIndex(startCol, startRow) << 32) | (chunkIndex(goalCol, goalRow) & 0xffffffffL);
+    }
+
+    private int chunkIndex(int col, int row) {
+        int chunkCols = (gp.maxWorldCol + TileManager.CHUNK_TILES - 1) / TileManager.CHUNK_TILES;
+        return (row / TileManager.CHUNK_TILES) * chunkCols + col / TileManager.CHUNK_TILES;
+    }
+
+    private void finish(PathRequest request, int[] pathCols, int[] pathRows) {
+        request.cols = pathCols;
+        request.rows = pathRows;
+        request.status = PathRequest.FOUND;
+    }
+
+    // True if an agent can walk a straight line between two tiles without touching or cutting a solid tile
+    private boolean lineClear(int col0, int row0, int col1, int row1) {
+        CollisionMap map = gp.tileM.collisionMap;
+        int dx = Math.abs(col1 - col0), dy = Math.abs(row1 - row0);
+        int sx = col0 < col1 ? 1 : -1, sy = row0 < row1 ? 1 : -1;
+        int err = dx - dy;
+        int col = col0, row = row0;
+        while (true) {
+            if (map.isSolid(col, row)) {
+                return false;
+            }
+            if (col == col1 && row == row1) {
+                return true;
+            }
+            int e2 = err * 2;
+            boolean stepCol = e2 > -dy;
+            boolean stepRow = e2 < dx;
+            if (stepCol && stepRow && (map.isSolid(col + sx, row) || map.isSolid(col, row + sy))) {
+                return false; // Would cut a corner
+            }
+            if (stepCol) {
+                err -= dy;
+                col += sx;
+            }
+            if (stepRow) {
+                err += dx;
+                row += sy;
+            }
+        }
+    }
+
+    // Resets the search arrays for a new request (arrays are reused; stamps avoid clearing them)
+    private void beginSearch(PathRequest request) {
+        int mapCols = gp.maxWorldCol, mapRows = gp.maxWorldRow;
+        if (gScore == null || cols != mapCols || rows != mapRows) {
+            cols = mapCols;
+            rows = mapRows;
+            int n = cols * rows;
+            gScore = new int[n];
+            parent = new int[n];
+            seenStamp = new int[n];
+            closedStamp = new int[n];
+            heapNode = new int[n];
+            heapF = new int[n];
+            heapSlot = new int[n];
+            stamp = 0;
+        }
+        stamp++;
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(seenStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            stamp = 1;
+        }
+        heapSize = 0;
+        int start = request.startRow * cols + request.startCol;
+        gScore[start] = 0;
+        parent[start] = -1;
+        seenStamp[start] = stamp;
+        push(start, heuristic(request.startCol, request.startRow, request));
+    }
+
+    // Runs the active search until it finishes or this tick's budget runs out
+    private void search() {
+        PathRequest request = active;
+        int goal = request.goalRow * cols + request.goalCol;
+        while (budget > 0) {
+            if (heapSize == 0) {
+                request.status = PathRequest.FAILED;
+                searchesCompleted++;
+                return;
+            }
+            int node = pop();
+            budget--;
+            if (node == goal) {
+                storeResult(request, goal);
+                searchesCompleted++;
+                return;
+            }
+            closedStamp[node] = stamp;
+            expand(node, request);
+        }
+    }
+
+    // Adds the jump points reachable from a node to the open list
+    private void expand(int node, PathRequest request) {
+        CollisionMap map = gp.tileM.collisionMap;
+        int col = node % cols, row = node / cols;
+        int from = parent[node];
+        if (from < 0) {
+            // Start node: try all eight directions
+            for (int dc = -1; dc <= 1; dc++) {
+                for (int dr = -1; dr <= 1; dr++) {
+                    if ((dc != 0 || dr != 0) && canStep(map, col, row, dc, dr)) {
+                        tryJump(node, col, row, dc, dr, request);
+                    }
+                }
+            }
+            return;
+        }
+        int dc = Integer.signum(col - from % cols);
+        int dr = Integer.signum(row - from / cols);
+        if (dc != 0 && dr != 0) {
+            // Diagonal: carry on diagonally and along both of its straight parts
+            boolean colOpen = !map.isSolid(col + dc, row);
+            boolean rowOpen = !map.isSolid(col, row + dr);
+            if (rowOpen) {
+                tryJump(node, col, row, 0, dr, request);
+            }
+            if (colOpen) {
+                tryJump(node, col, row, dc, 0, request);
+            }
+            if (colOpen && rowOpen && !map.isSolid(col + dc, row + dr)) {
+                tryJump(node, col, row, dc, dr, request);
+            }
+        } else if (dc != 0) {
+            // Horizontal: ahead, plus the sides and the diagonals past them (forced by walls behind)
+            boolean ahead = !map.isSolid(col + dc, row);
+            boolean down = !map.isSolid(col, row + 1);
+            boolean up = !map.isSolid(col, row - 1);
+            if (ahead) {
+                tryJump(node, col, row, dc, 0, request);
+                if (down && !map.isSolid(col + dc, row + 1)) {
+                    tryJump(node, col, row, dc, 1, request);
+                }
+                if (up && !map.isSolid(col + dc, row - 1)) {
+                    tryJump(node, col, row, dc, -1, request);
+                }
+            }
+            if (down) {
+                tryJump(node, col, row, 0, 1, request);
+            }
+            if (up) {
+                tryJump(node, col, row, 0, -1, request);
+            }
+        } else {
+            // Vertical: the same with rows and columns swapped
+            boolean ahead = !map.isSolid(col, row + dr);
+            boolean right = !map.isSolid(col + 1, row);
+            boolean left = !map.isSolid(col - 1, row);
+            if (ahead) {
+                tryJump(node, col, row, 0, dr, request);
+                if (right && !map.isSolid(col + 1, row + dr)) {
+                    tryJump(node, col, row, 1, dr, request);
+                }
+                if (left && !map.isSolid(col - 1, row + dr)) {
+                    tryJump(node, col, row, -1, dr, request);
+                }
+            }
+            if (right) {
+                tryJump(node, col, row, 1, 0, request);
+            }
+            if (left) {
+                tryJump(node, col, row, -1, 0, request);
+            }
+        }
+    }
+
+    // True if one step in a direction lands on an open tile without cutting a corner
+    private static boolean canStep(CollisionMap map, int col, int row, int dc, int dr) {
+        if (map.isSolid(col + dc, row + dr)) {
+            return false;
+        }
+        return dc == 0 || dr == 0 || (!map.isSolid(col + dc, row) && !map.isSolid(col, row + dr));
+    }
+
+    // Jumps from a node in one direction and opens (or improves) the jump point it lands on
+    private void tryJump(int node, int col, int row, int dc, int dr, PathRequest request) {
+        int jumpPoint = jump(col + dc, row + dr, dc, dr, request);
+        if (jumpPoint < 0 || closedStamp[jumpPoint] == stamp) {
+            return;
+        }
+        int jc = jumpPoint % cols, jr = jumpPoint / cols;
+        int g = gScore[node] + distance(col, row, jc, jr);
+        if (seenStamp[jumpPoint] != stamp) {
+            seenStamp[jumpPoint] = stamp;
+            gScore[jumpPoint] = g;
+            parent[jumpPoint] = node;
+            push(jumpPoint, g + heuristic(jc, jr, request));
+        } else if (g < gScore[jumpPoint]) {
+            gScore[jumpPoint] = g;
+            parent[jumpPoint] = node;
+            decrease(jumpPoint, g + heuristic(jc, jr, request));
+        }
+    }
+
+    // Walks from (col, row) in a direction until it reaches the goal, a tile with a forced neighbour,
+    // or a wall. Returns the jump point's node index, or -1 if the walk hit a wall.
+    private int jump(int col, int row, int dc, int dr, PathRequest request) {
+        CollisionMap map = gp.tileM.collisionMap;
+        while (true) {
+            budget--;
+            if (map.isSolid(col, row)) {
+                return -1;
+            }
+            if (col == request.goalCol && row == request.goalRow) {
+                return row * cols + col;
+            }
+            if (dc != 0 && dr != 0) {
+                // A diagonal stops where either straight part finds something
+                if (jump(col + dc, row, dc, 0, request) >= 0 || jump(col, row + dr, 0, dr, request) >= 0) {
+                    return row * cols + col;
+                }
+                if (map.isSolid(col + dc, row) || map.isSolid(col, row + dr)) {
+                    return -1; // Next diagonal step would cut a corner
+                }
+            } else if (dc != 0) {
+                // A side opens up where it was walled one step back
+                if ((!map.isSolid(col, row - 1) && map.isSolid(col - dc, row - 1))
+                    || (!map.isSolid(col, row + 1) && map.isSolid(col - dc, row + 1))) {
+                    return row * cols + col;
+                }
+            } else {
+                if ((!map.isSolid(col - 1, row) && map.isSolid(col - 1, row - dr))
+                    || (!map.isSolid(col + 1, row) && map.isSolid(col + 1, row - dr))) {
+                    return row * cols + col;
+                }
+            }
+            col += dc;
+            row += dr;
+        }
+    }
+
+    // Copies the jump points from goal back to start into the request and caches the route
+    private void storeResult(PathRequest request, int goal) {
+        int length = 0;
+        for (int node = goal; node >= 0; node = parent[node]) {
+            length++;
+        }
+        int[] pathCols = new int[length];
+        int[] pathRows = new int[length];
+        int i = length - 1;
+        for (int node = goal; node >= 0; node = parent[node]) {
+            pathCols[i] = node % cols;
+            pathRows[i] = node / cols;
+            i--;
+        }
+        finish(request, pathCols, pathRows);
+        cache.put(cacheKey(request.startCol, request.startRow, request.goalCol, request.goalRow),
+            new CachedRoute(pathCols, pathRows));
+        if (cache.size() > CACHE_SIZE) {
+            Iterator<Long> it = cache.keySet().iterator();
+            it.next();
+            it.remove();
+        }
+    }
+
+    // Octile distance in step-cost units
+    private static int distance(int col0, int row0, int col1, int row1) {
+        int dx = Math.abs(col1 - col0), dy = Math.abs(row1 - row0);
+        return STRAIGHT * (dx + dy) + (DIAGONAL - 2 * STRAIGHT) * Math.min(dx, dy);
+    }
+
+    private static int heuristic(int col, int row, PathRequest request) {
+        return distance(col, row, request.goalCol, request.goalRow);
+    }
+
+    // Open list (binary heap on f)
+
+    private void push(int node, int f) {
+        int slot = heapSize++;
+        heapNode[slot] = node;
+        heapF[slot] = f;
+        heapSlot[node] = slot;
+        siftUp(slot);
+    }
+
+    private int pop() {
+        int top = heapNode[0];
+        heapSize--;
+        if (heapSize > 0) {
+            move(heapSize, 0);
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void decrease(int node, int f) {
+        int slot = heapSlot[node];
+        heapF[slot] = f;
+        siftUp(slot);
+    }
+
+    private void siftUp(int slot) {
+        int node = heapNode[slot], f = heapF[slot];
+        while (slot > 0) {
+            int up = (slot - 1) >> 1;
+            if (heapF[up] <= f) {
+                break;
+            }
+            move(up, slot);
+            slot = up;
+        }
+        heapNode[slot] = node;
+        heapF[slot] = f;
+        heapSlot[node] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int node = heapNode[slot], f = heapF[slot];
+        while (true) {
+            int child = slot * 2 + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heapF[child + 1] < heapF[child]) {
+                child++;
+            }
+            if (heapF[child] >= f) {
+                break;
+            }
+            move(child, slot);
+            slot = child;
+        }
+        heapNode[slot] = node;
+        heapF[slot] = f;
+        heapSlot[node] = slot;
+    }
+
+    private void move(int from, int to) {
+        heapNode[to] = heapNode[from];
+        heapF[to] = heapF[from];
+        heapSlot[heapNode[to]] = to;
+    }
+}
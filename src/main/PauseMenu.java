@@ -81,7 +81,7 @@ public class PauseMenu implements MouseListener, MouseMotionListener {
         
         // Handle escape key to resume
         if (gp.keyH.escapePressed) {
-            gp.gameState = GamePanel.PLAY_STATE;
+            gp.gameState = gp.pausedFromState;
             gp.keyH.escapePressed = false;
         }
     }
@@ -89,7 +89,7 @@ public class PauseMenu implements MouseListener, MouseMotionListener {
     private void handleSelection(int option) {
         switch (option) {
             case 0: // Resume
-                gp.gameState = GamePanel.PLAY_STATE;
+                gp.gameState = gp.pausedFromState;
                 break;
             case 1: // Options
                 gp.gameState = GamePanel.OPTIONS_STATE;
@@ -0,0 +1,229 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// SaveBenchmark.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Measures save file size and speed for every SaveCompression codec
+// (java main.SaveBenchmark [--sizes=1K,64K,1M,50M] [--seed=N]). This class:
+// - Builds synthetic saves from 1 KB to 50 MB: a real save plus world-state sections
+//   (opened chests, removed pickups, enemies, explored regions) that the game skips as unknown
+// - Compresses, writes (atomically, as Saver does), reads back and decodes each one
+// - Checks every round trip gives back the exact bytes
+// - Prints ratio, compression and decompression throughput, and save and load times
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+// SaveBenchmark runs on the calling thread and needs no game window or assets
+public class SaveBenchmark {
+    // Tag of the synthetic world-state sections; above every real tag, so decode() skips them
+    private static final int TAG_SYNTHETIC = 0x7F00;
+    // Size of each synthetic section (sections are capped at SaveCodec.MAX_SECTION_LENGTH)
+    private static final int SECTION_SIZE = 256 * 1024;
+    // Roughly how much data each measurement processes, so small saves are repeated enough to time
+    private static final long BYTES_PER_MEASUREMENT = 64L << 20;
+    private static final int MAX_REPEATS = 500;
+
+    private static final String[] RECORD_KINDS = { "chest_opened", "pickup_removed", "enemy", "region_explored" };
+    private static final String[] ITEM_NAMES = { "Apple", "Solthorn", "Health Potion", "Old Key", "Gold" };
+
+    private final Random random;
+    private final Path dir;
+
+    public SaveBenchmark(long seed, Path dir) {
+        this.random = new Random(seed);
+        this.dir = dir;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = { 1 << 10, 16 << 10, 256 << 10, 4 << 20, 50 << 20 };
+        long seed = 1;
+        for (String arg : args) {
+            try {
+                if (arg.startsWith("--sizes=")) {
+                    sizes = Arrays.stream(arg.substring("--sizes=".length()).split(","))
+                        .mapToInt(SaveBenchmark::parseSize).toArray();
+                } else if (arg.startsWith("--seed=")) {
+                    seed = Long.parseLong(arg.substring("--seed=".length()));
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("Ignoring invalid argument: " + arg);
+            }
+        }
+
+        Path dir = Files.createTempDirectory("limitless-save-bench");
+        try {
+            new SaveBenchmark(seed, dir).run(sizes);
+        } finally {
+            File[] files = dir.toFile().listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            dir.toFile().delete();
+        }
+    }
+
+    // "1K", "4M" or a plain byte count
+    private static int parseSize(String text) {
+        text = text.trim().toUpperCase();
+        if (text.endsWith("K")) {
+            return Integer.parseInt(text.substring(0, text.length() - 1)) << 10;
+        }
+        if (text.endsWith("M")) {
+            return Integer.parseInt(text.substring(0, text.length() - 1)) << 20;
+        }
+        return Integer.parseInt(text);
+    }
+
+    public void run(int[] sizes) throws IOException {
+        System.out.println(String.format("%-10s %-13s %10s %7s %12s %12s %10s %10s",
+            "save", "codec", "file", "ratio", "comp MB/s", "decomp MB/s", "save ms", "load ms"));
+        for (int size : sizes) {
+            byte[] save = syntheticSave(size);
+            int repeats = (int) Math.max(3, Math.min(MAX_REPEATS, BYTES_PER_MEASUREMENT / save.length));
+            for (SaveCompression codec : SaveCompression.values()) {
+                measure(save, codec, repeats);
+            }
+            System.out.println();
+        }
+    }
+
+    // Times one codec on one save and prints a row
+    private void measure(byte[] save, SaveCompression codec, int repeats) throws IOException {
+        Path file = dir.resolve("bench-" + codec.name().toLowerCase() + ".dat");
+        // One untimed pass first, so the JIT has compiled the codec
+        byte[] stored = codec.wrap(save);
+        verify(save, SaveCompression.unwrap(stored), codec);
+
+        long compressNanos = 0, decompressNanos = 0, saveNanos = 0, loadNanos = 0;
+        for (int i = 0; i < repeats; i++) {
+            long start = System.nanoTime();
+            stored = codec.wrap(save);
+            long compressed = System.nanoTime();
+            Saver.writeAtomically(file, stored);
+            long written = System.nanoTime();
+            byte[] read = Files.readAllBytes(file);
+            long readDone = System.nanoTime();
+            byte[] unwrapped = SaveCompression.unwrap(read);
+            long decompressed = System.nanoTime();
+            SaveCodec.decode(unwrapped);
+            long decoded = System.nanoTime();
+
+            compressNanos += compressed - start;
+            saveNanos += written - start;
+            decompressNanos += decompressed - readDone;
+            loadNanos += decoded - written;
+            if (i == 0) {
+                verify(save, unwrapped, codec);
+            }
+        }
+
+        double megabytes = save.length * (double) repeats / (1 << 20);
+        System.out.println(String.format("%-10s %-13s %10s %6.2fx %12.1f %12.1f %10.3f %10.3f",
+            formatSize(save.length), codec.name(), formatSize(stored.length),
+            save.length / (double) stored.length,
+            codec == SaveCompression.NONE ? 0 : megabytes / (compressNanos / 1e9),
+            codec == SaveCompression.NONE ? 0 : megabytes / (decompressNanos / 1e9),
+            saveNanos / 1e6 / repeats, loadNanos / 1e6 / repeats));
+    }
+
+    private static void verify(byte[] expected, byte[] actual, SaveCompression codec) throws IOException {
+        if (!Arrays.equals(expected, actual)) {
+            throw new IOException(codec.name() + " did not round-trip a " + expected.length + " byte save");
+        }
+    }
+
+    private static String formatSize(long bytes) {
+        if (bytes >= 1 << 20) {
+            return String.format("%.1f MB", bytes / (double) (1 << 20));
+        }
+        if (bytes >= 1 << 10) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return bytes + " B";
+    }
+
+    // A valid save of about targetSize bytes: an ordinary save with synthetic world-state sections
+    // added before the end marker, and the checksum recomputed
+    byte[] syntheticSave(int targetSize) throws IOException {
+        byte[] base = SaveCodec.encode(baseState());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(targetSize + SECTION_SIZE);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(base, 0, base.length - 6);    // Everything up to TAG_END and the checksum
+
+        ByteArrayOutputStream section = new ByteArrayOutputStream(SECTION_SIZE + 64);
+        DataOutputStream s = new DataOutputStream(section);
+        while (bytes.size() + section.size() + 12 < targetSize) {
+            writeWorldRecord(s);
+            if (section.size() >= SECTION_SIZE) {
+                SaveCodec.writeSection(out, TAG_SYNTHETIC, section);
+            }
+        }
+        if (section.size() > 0) {
+            SaveCodec.writeSection(out, TAG_SYNTHETIC, section);
+        }
+        out.writeShort(0);      // TAG_END
+        out.writeInt(SaveCodec.checksum(bytes.toByteArray(), bytes.size()));
+        return bytes.toByteArray();
+    }
+
+    // A mid-game state with a full inventory and a world object list
+    private SaveData baseState() {
+        SaveData data = new SaveData();
+        data.playerX = 1800;
+        data.playerY = 2400;
+        data.weaponName = "Solthorn";
+        data.weaponDamage = 25;
+        data.weaponWeight = 3.5;
+        data.weaponType = "sword";
+        data.inventoryRows = 4;
+        data.inventoryCols = 5;
+        data.itemIds = new String[20];
+        data.quantities = new int[20];
+        for (int i = 0; i < 12; i++) {
+            data.itemIds[i] = ITEM_NAMES[i % ITEM_NAMES.length];
+            data.quantities[i] = 1 + random.nextInt(9);
+        }
+        data.setObjectSlots(10);
+        for (int i = 0; i < 10; i++) {
+            data.objectKinds[i] = "Apple";
+            data.objectX[i] = random.nextInt(69) * 96;
+            data.objectY[i] = random.nextInt(68) * 96;
+            data.objectQuantities[i] = 1;
+        }
+        return data;
+    }
+
+    // One world-state entry of the kind larger maps would add: tile-aligned positions, a small
+    // vocabulary of names and mostly small numbers, like real saves
+    private void writeWorldRecord(DataOutputStream s) throws IOException {
+        int kind = random.nextInt(RECORD_KINDS.length);
+        s.writeUTF(RECORD_KINDS[kind]);
+        s.writeInt(random.nextInt(512) * 96);
+        s.writeInt(random.nextInt(512) * 96);
+        switch (kind) {
+            case 0, 1 -> {
+                s.writeUTF(ITEM_NAMES[random.nextInt(ITEM_NAMES.length)]);
+                s.writeShort(1 + random.nextInt(5));
+            }
+            case 2 -> {
+                s.writeInt(random.nextInt(100));     // Health
+                s.writeByte(random.nextInt(4));      // Facing
+                s.writeLong(random.nextInt(1 << 20)); // Spawn time
+            }
+            default -> s.writeByte(1);
+        }
+    }
+}
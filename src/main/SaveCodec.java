@@ -0,0 +1,405 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// SaveCodec.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Binary save file format. This class:
+// - Encodes SaveData as a header followed by tagged, length-prefixed sections
+// - Skips sections it does not know, so older builds can read newer saves
+// - Ignores extra bytes at the end of a known section, so sections can grow new fields
+// - Falls back to defaults for sections a save does not have
+// - Ends each save with a CRC32C of everything before it, checked on load
+// - Shares its section writers and readers with the autosave journal
+// - Migrates the old save.txt key/value format into SaveData
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+// SaveCodec has no state; every method is static
+public final class SaveCodec {
+    // File layout:
+    //   int MAGIC, short version,
+    //   then sections: ushort tag, int length, length bytes of payload,
+    //   then ushort TAG_END,
+    //   then int CRC32C of every byte before it (version 2 and later).
+    // A new field is appended to the end of its section; a new kind of data gets a new tag.
+    // Tags and the meaning of existing fields never change.
+    public static final int MAGIC = 0x4C4D5453;    // "LMTS"
+    public static final int FORMAT_VERSION = 2;
+    // First version with the checksum trailer
+    private static final int CHECKSUM_VERSION = 2;
+    private static final int HEADER_LENGTH = 6;
+    private static final int TRAILER_LENGTH = 4;
+
+    private static final int TAG_END = 0;
+    static final int TAG_PLAYER = 1;         // x, y, direction, hp, stamina
+    static final int TAG_WEAPON = 2;         // name, damage, weight, type (empty payload: nothing equipped)
+    static final int TAG_INVENTORY = 3;      // rows, cols, then (slot, item id, quantity) per filled slot
+    static final int TAG_BOSS = 4;           // x, y, health, max health, state bits (empty payload: no boss)
+    static final int TAG_WORLD = 5;          // game state, world flags, interactions seen, play time
+    static final int TAG_OBJECTS = 6;        // slot count, then (slot, kind, x, y, quantity) per filled slot
+    // Single-slot changes, only found in autosave journals
+    static final int TAG_INVENTORY_SLOT = 7; // slot, item id ("" when empty), quantity
+    static final int TAG_OBJECT_SLOT = 8;    // slot, kind ("" when empty), x, y, quantity
+
+    // Sections larger than this are treated as corruption rather than allocated
+    static final int MAX_SECTION_LENGTH = 1 << 20;
+
+    // Direction strings by the byte stored in the player section (Animator order)
+    private static final String[] DIRECTIONS = { "up", "left", "down", "right" };
+
+    // Boss state bits
+    private static final int BOSS_DYING = 1;
+    private static final int BOSS_DEAD = 1 << 1;
+
+    private SaveCodec() {
+    }
+
+    public static byte[] encode(SaveData data) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+
+            ByteArrayOutputStream section = new ByteArrayOutputStream(128);
+            DataOutputStream s = new DataOutputStream(section);
+            writePlayer(s, data);
+            writeSection(out, TAG_PLAYER, section);
+            if (data.weaponName != null) {
+                writeWeapon(s, data);
+                writeSection(out, TAG_WEAPON, section);
+            }
+            writeInventory(s, data);
+            writeSection(out, TAG_INVENTORY, section);
+            if (data.hasBoss) {
+                writeBoss(s, data);
+                writeSection(out, TAG_BOSS, section);
+            }
+            writeWorld(s, data);
+            writeSection(out, TAG_WORLD, section);
+            if (data.objectKinds != null) {
+                writeObjects(s, data);
+                writeSection(out, TAG_OBJECTS, section);
+            }
+
+            out.writeShort(TAG_END);
+            out.writeInt(checksum(bytes.toByteArray(), bytes.size()));
+        } catch (IOException e) {
+            // Writing to memory cannot fail
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Writes one section from the scratch buffer and empties the buffer for the next one
+    static void writeSection(DataOutputStream out, int tag, ByteArrayOutputStream section) throws IOException {
+        out.writeShort(tag);
+        out.writeInt(section.size());
+        section.writeTo(out);
+        section.reset();
+    }
+
+    static void writePlayer(DataOutputStream s, SaveData data) throws IOException {
+        s.writeInt(data.playerX);
+        s.writeInt(data.playerY);
+        s.writeByte(directionIndex(data.direction));
+        s.writeInt(data.hp);
+        s.writeInt(data.stamina);
+    }
+
+    // Writes nothing when no weapon is equipped
+    static void writeWeapon(DataOutputStream s, SaveData data) throws IOException {
+        if (data.weaponName != null) {
+            s.writeUTF(data.weaponName);
+            s.writeInt(data.weaponDamage);
+            s.writeDouble(data.weaponWeight);
+            s.writeUTF(data.weaponType != null ? data.weaponType : "");
+        }
+    }
+
+    static void writeInventory(DataOutputStream s, SaveData data) throws IOException {
+        s.writeByte(data.inventoryRows);
+        s.writeByte(data.inventoryCols);
+        int filled = 0;
+        for (String id : data.itemIds) {
+            if (id != null) {
+                filled++;
+            }
+        }
+        s.writeShort(filled);
+        for (int slot = 0; slot < data.itemIds.length; slot++) {
+            if (data.itemIds[slot] != null) {
+                s.writeShort(slot);
+                s.writeUTF(data.itemIds[slot]);
+                s.writeInt(data.quantities[slot]);
+            }
+        }
+    }
+
+    static void writeInventorySlot(DataOutputStream s, SaveData data, int slot) throws IOException {
+        s.writeShort(slot);
+        s.writeUTF(data.itemIds[slot] != null ? data.itemIds[slot] : "");
+        s.writeInt(data.quantities[slot]);
+    }
+
+    // Writes nothing when there is no boss
+    static void writeBoss(DataOutputStream s, SaveData data) throws IOException {
+        if (data.hasBoss) {
+            s.writeInt(data.bossX);
+            s.writeInt(data.bossY);
+            s.writeInt(data.bossHealth);
+            s.writeInt(data.bossMaxHealth);
+            s.writeByte((data.bossDying ? BOSS_DYING : 0) | (data.bossDead ? BOSS_DEAD : 0));
+        }
+    }
+
+    static void writeWorld(DataOutputStream s, SaveData data) throws IOException {
+        s.writeInt(data.gameState);
+        s.writeLong(data.worldFlags);
+        s.writeLong(data.interactionsSeen);     // Appended to the section later; older builds ignore it
+        s.writeLong(data.playTimeMillis);       // Appended after interactionsSeen
+    }
+
+    static void writeObjects(DataOutputStream s, SaveData data) throws IOException {
+        s.writeShort(data.objectKinds.length);
+        int filled = 0;
+        for (String kind : data.objectKinds) {
+            if (kind != null) {
+                filled++;
+            }
+        }
+        s.writeShort(filled);
+        for (int slot = 0; slot < data.objectKinds.length; slot++) {
+            if (data.objectKinds[slot] != null) {
+                writeObjectSlot(s, data, slot);
+            }
+        }
+    }
+
+    static void writeObjectSlot(DataOutputStream s, SaveData data, int slot) throws IOException {
+        s.writeShort(slot);
+        s.writeUTF(data.objectKinds[slot] != null ? data.objectKinds[slot] : "");
+        s.writeInt(data.objectX[slot]);
+        s.writeInt(data.objectY[slot]);
+        s.writeInt(data.objectQuantities[slot]);
+    }
+
+    static int checksum(byte[] bytes, int length) {
+        return checksum(bytes, 0, length);
+    }
+
+    static int checksum(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    // Reads a save; throws IOException if the data is not a save file, is cut short or fails its checksum
+    public static SaveData decode(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (bytes.length < HEADER_LENGTH || in.readInt() != MAGIC) {
+            throw new IOException("Not a Limitless save file");
+        }
+        int version = in.readUnsignedShort();
+        if (version >= CHECKSUM_VERSION) {
+            int body = bytes.length - TRAILER_LENGTH;
+            if (body < HEADER_LENGTH) {
+                throw new IOException("Save file is truncated");
+            }
+            int stored = ((bytes[body] & 0xFF) << 24) | ((bytes[body + 1] & 0xFF) << 16)
+                | ((bytes[body + 2] & 0xFF) << 8) | (bytes[body + 3] & 0xFF);
+            if (stored != checksum(bytes, body)) {
+                throw new IOException("Save file is corrupt (checksum mismatch)");
+            }
+        }
+        if (version > FORMAT_VERSION) {
+            // Newer sections are skipped below; the ones this build knows still load
+            System.err.println("Save file version " + version + " is newer than " + FORMAT_VERSION + "; loading known fields");
+        }
+
+        SaveData data = new SaveData();
+        while (true) {
+            int tag = in.readUnsignedShort();
+            if (tag == TAG_END) {
+                break;
+            }
+            int length = in.readInt();
+            if (length < 0 || length > MAX_SECTION_LENGTH || length > in.available()) {
+                throw new IOException("Corrupt save section " + tag + " (length " + length + ")");
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            readSection(tag, payload, data);
+        }
+        return data;
+    }
+
+    // Reads one section (or journal record) into data. Unknown tags are ignored, and so are bytes
+    // after the fields this build knows.
+    static void readSection(int tag, byte[] payload, SaveData data) throws IOException {
+        DataInputStream s = new DataInputStream(new ByteArrayInputStream(payload));
+        switch (tag) {
+            case TAG_PLAYER -> {
+                data.playerX = s.readInt();
+                data.playerY = s.readInt();
+                int direction = s.readUnsignedByte();
+                data.direction = direction < DIRECTIONS.length ? DIRECTIONS[direction] : "down";
+                data.hp = s.readInt();
+                data.stamina = s.readInt();
+            }
+            case TAG_WEAPON -> {
+                if (payload.length == 0) {
+                    data.weaponName = null;
+                    return;
+                }
+                data.weaponName = s.readUTF();
+                data.weaponDamage = s.readInt();
+                data.weaponWeight = s.readDouble();
+                data.weaponType = s.readUTF();
+            }
+            case TAG_INVENTORY -> {
+                data.inventoryRows = s.readUnsignedByte();
+                data.inventoryCols = s.readUnsignedByte();
+                int slots = data.inventoryRows * data.inventoryCols;
+                data.itemIds = new String[slots];
+                data.quantities = new int[slots];
+                int filled = s.readUnsignedShort();
+                for (int i = 0; i < filled; i++) {
+                    readInventorySlot(s, data);
+                }
+            }
+            case TAG_INVENTORY_SLOT -> readInventorySlot(s, data);
+            case TAG_BOSS -> {
+                data.hasBoss = payload.length > 0;
+                if (!data.hasBoss) {
+                    return;
+                }
+                data.bossX = s.readInt();
+                data.bossY = s.readInt();
+                data.bossHealth = s.readInt();
+                data.bossMaxHealth = s.readInt();
+                int state = s.readUnsignedByte();
+                data.bossDying = (state & BOSS_DYING) != 0;
+                data.bossDead = (state & BOSS_DEAD) != 0;
+            }
+            case TAG_WORLD -> {
+                data.gameState = s.readInt();
+                data.worldFlags = s.readLong();
+                data.interactionsSeen = s.available() >= 8 ? s.readLong() : 0;
+                data.playTimeMillis = s.available() >= 8 ? s.readLong() : 0;
+            }
+            case TAG_OBJECTS -> {
+                data.setObjectSlots(s.readUnsignedShort());
+                int filled = s.readUnsignedShort();
+                for (int i = 0; i < filled; i++) {
+                    readObjectSlot(s, data);
+                }
+            }
+            case TAG_OBJECT_SLOT -> {
+                if (data.objectKinds != null) {
+                    readObjectSlot(s, data);
+                }
+            }
+            default -> {
+                // Section from a newer build: skipped
+            }
+        }
+    }
+
+    private static void readInventorySlot(DataInputStream s, SaveData data) throws IOException {
+        int slot = s.readUnsignedShort();
+        String id = s.readUTF();
+        int quantity = s.readInt();
+        if (slot < data.itemIds.length) {
+            data.itemIds[slot] = id.isEmpty() ? null : id;
+            data.quantities[slot] = id.isEmpty() ? 0 : quantity;
+        }
+    }
+
+    private static void readObjectSlot(DataInputStream s, SaveData data) throws IOException {
+        int slot = s.readUnsignedShort();
+        String kind = s.readUTF();
+        int x = s.readInt();
+        int y = s.readInt();
+        int quantity = s.readInt();
+        if (slot < data.objectKinds.length) {
+            data.objectKinds[slot] = kind.isEmpty() ? null : kind;
+            data.objectX[slot] = x;
+            data.objectY[slot] = y;
+            data.objectQuantities[slot] = quantity;
+        }
+    }
+
+    // Converts the old save.txt format: alternating key and value lines
+    // (playerX, playerY, direction, weapon, and optionally hp, stamina, gameState)
+    public static SaveData fromLegacyText(List<String> lines) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i + 1 < lines.size(); i += 2) {
+            values.put(lines.get(i).trim(), lines.get(i + 1).trim());
+        }
+        if (!values.containsKey("playerX") || !values.containsKey("playerY")) {
+            throw new IOException("Legacy save has no player position");
+        }
+
+        SaveData data = new SaveData();
+        try {
+            data.playerX = Integer.parseInt(values.get("playerX"));
+            data.playerY = Integer.parseInt(values.get("playerY"));
+            if (values.containsKey("hp")) {
+                data.hp = Integer.parseInt(values.get("hp"));
+            }
+            if (values.containsKey("stamina")) {
+                data.stamina = Integer.parseInt(values.get("stamina"));
+            }
+            if (values.containsKey("gameState")) {
+                data.gameState = Integer.parseInt(values.get("gameState"));
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Legacy save has an invalid number: " + e.getMessage());
+        }
+        data.direction = DIRECTIONS[directionIndex(values.get("direction"))];
+
+        // The old format only named the weapon; use the stats the inventory gives it when equipped
+        String weapon = values.get("weapon");
+        data.inventoryRows = 4;
+        data.inventoryCols = 8;
+        data.itemIds = new String[data.inventoryRows * data.inventoryCols];
+        data.quantities = new int[data.itemIds.length];
+        if (weapon != null && !weapon.isEmpty() && !weapon.equalsIgnoreCase("none")) {
+            boolean solthorn = weapon.equalsIgnoreCase("Solthorn");
+            data.weaponName = weapon;
+            data.weaponDamage = solthorn ? 25 : 10;
+            data.weaponWeight = 1.0;
+            data.weaponType = "sword";
+            // The equipped weapon was also an inventory item
+            if (entity.ItemDefinition.get(weapon) != null) {
+                data.itemIds[0] = weapon;
+                data.quantities[0] = 1;
+            }
+            if (solthorn) {
+                data.worldFlags |= SaveData.FLAG_SWORD_GIVEN;
+            }
+        }
+        return data;
+    }
+
+    private static int directionIndex(String direction) {
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            if (DIRECTIONS[i].equals(direction)) {
+                return i;
+            }
+        }
+        return 2;   // Unknown directions load facing down
+    }
+}
@@ -0,0 +1,143 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// SaveCompression.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Compression stage between SaveCodec and the save file. This class:
+// - Lists the codecs a slot can be saved with: none, Deflate at three levels, and LzCodec
+// - Wraps compressed saves in a small header naming the codec and the uncompressed size
+// - Stores a save uncompressed when compressing would not make it smaller
+// - Unwraps any save on load, whichever codec wrote it (uncompressed saves pass straight through)
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Every method is thread-safe; Saver calls them from its writer thread
+public enum SaveCompression {
+    NONE(0, 0),
+    DEFLATE_FAST(1, Deflater.BEST_SPEED),
+    DEFLATE(2, Deflater.DEFAULT_COMPRESSION),
+    DEFLATE_BEST(3, Deflater.BEST_COMPRESSION),
+    LZ(4, 0);
+
+    // Compressed file layout: int MAGIC, byte codec id, int uncompressed length, compressed bytes.
+    // The uncompressed bytes are a SaveCodec save, whose own checksum is checked after unwrapping.
+    public static final int MAGIC = 0x4C4D545A;    // "LMTZ"
+    private static final int HEADER_LENGTH = 9;
+    // Uncompressed sizes larger than this are treated as corruption rather than allocated
+    private static final int MAX_UNCOMPRESSED_LENGTH = 256 << 20;
+
+    public final int id;            // Stored in the file; never reuse or renumber
+    private final int level;        // Deflater level (Deflate codecs only)
+
+    SaveCompression(int id, int level) {
+        this.id = id;
+        this.level = level;
+    }
+
+    // Looks a codec up by name (as kept in settings.txt); NONE if the name is unknown
+    public static SaveCompression fromName(String name) {
+        for (SaveCompression codec : values()) {
+            if (codec.name().equalsIgnoreCase(name)) {
+                return codec;
+            }
+        }
+        return NONE;
+    }
+
+    // Compresses a save, or returns it unchanged for NONE or when compression does not help
+    public byte[] wrap(byte[] save) {
+        if (this == NONE) {
+            return save;
+        }
+        byte[] compressed = compress(save);
+        if (compressed.length + HEADER_LENGTH >= save.length) {
+            return save;
+        }
+        return ByteBuffer.allocate(HEADER_LENGTH + compressed.length)
+            .putInt(MAGIC).put((byte) id).putInt(save.length).put(compressed).array();
+    }
+
+    // Returns the SaveCodec bytes of a save file, decompressing it if it was written compressed
+    public static byte[] unwrap(byte[] file) throws IOException {
+        if (file.length < HEADER_LENGTH || ByteBuffer.wrap(file).getInt() != MAGIC) {
+            return file;
+        }
+        ByteBuffer header = ByteBuffer.wrap(file, 4, HEADER_LENGTH - 4);
+        int id = header.get() & 0xFF;
+        int length = header.getInt();
+        if (length < 0 || length > MAX_UNCOMPRESSED_LENGTH) {
+            throw new IOException("Corrupt compressed save (length " + length + ")");
+        }
+        for (SaveCompression codec : values()) {
+            if (codec.id == id && codec != NONE) {
+                return codec.decompress(file, HEADER_LENGTH, file.length - HEADER_LENGTH, length);
+            }
+        }
+        throw new IOException("Save compressed with unknown codec " + id);
+    }
+
+    // Raw compressed bytes, without the header
+    public byte[] compress(byte[] data) {
+        if (this == LZ) {
+            return LzCodec.compress(data);
+        }
+        if (this == NONE) {
+            return data;
+        }
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+            byte[] buffer = new byte[64 * 1024];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // Reverses compress(); originalLength is the size of the data that was compressed
+    public byte[] decompress(byte[] src, int offset, int length, int originalLength) throws IOException {
+        if (this == LZ) {
+            return LzCodec.decompress(src, offset, length, originalLength);
+        }
+        if (this == NONE) {
+            return Arrays.copyOfRange(src, offset, offset + length);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(src, offset, length);
+            byte[] data = new byte[originalLength];
+            int n = 0;
+            while (n < originalLength) {
+                int read = inflater.inflate(data, n, originalLength - n);
+                if (read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                n += read;
+            }
+            if (n != originalLength) {
+                throw new IOException("Decompressed " + n + " bytes, expected " + originalLength);
+            }
+            return data;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt compressed save: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// SaveData.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Plain copy of the game state that goes into a save file. This class:
+// - Holds only numbers and strings (no game objects, images or panel references)
+// - Captures the player, equipped weapon, inventory, boss, world objects and flags from the game
+// - Applies a loaded save back onto the running game
+// - Is what SaveCodec encodes and decodes
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import entity.BossNoxar;
+import entity.EnvironmentInteraction;
+import entity.Inventory;
+import entity.Item;
+import entity.ItemDefinition;
+import entity.Weapon;
+import object.OBJ_Apple;
+import object.SuperObject;
+
+// SaveData is captured and applied on the simulation thread
+public class SaveData {
+    // World flag bits
+    public static final long FLAG_SWORD_GIVEN = 1L;        // Elaria has handed over the Solthorn
+    public static final long FLAG_BOSS_DEFEATED = 1L << 1; // Noxar has been beaten
+
+    // Player
+    public int playerX;
+    public int playerY;
+    public String direction = "down";
+    public int hp = 100;
+    public int stamina = 100;
+
+    // Equipped weapon (weaponName is null when nothing is equipped)
+    public String weaponName;
+    public int weaponDamage;
+    public double weaponWeight;
+    public String weaponType;
+
+    // Inventory slots in row-major order; itemIds[i] is null for an empty slot
+    public int inventoryRows;
+    public int inventoryCols;
+    public String[] itemIds = new String[0];
+    public int[] quantities = new int[0];
+
+    // Boss (only meaningful when hasBoss is true)
+    public boolean hasBoss;
+    public int bossX;
+    public int bossY;
+    public int bossHealth;
+    public int bossMaxHealth;
+    public boolean bossDying;
+    public boolean bossDead;
+
+    // World
+    public int gameState = GamePanel.PLAY_STATE;
+    public long worldFlags;
+    public long interactionsSeen;   // Bit i set once the player has read interaction i
+    public long playTimeMillis;     // Game time spent in play since this game was started
+
+    // World objects by gp.obj slot; objectKinds is null when the save has no object list,
+    // and objectKinds[i] (an item name) is null for an empty slot
+    public String[] objectKinds;
+    public int[] objectX;
+    public int[] objectY;
+    public int[] objectQuantities;
+
+    // Allocates empty object slots
+    public void setObjectSlots(int count) {
+        objectKinds = new String[count];
+        objectX = new int[count];
+        objectY = new int[count];
+        objectQuantities = new int[count];
+    }
+
+    // Copies the current game state
+    public static SaveData capture(GamePanel gp) {
+        SaveData data = new SaveData();
+        entity.Player player = gp.player;
+        data.playerX = player.worldX;
+        data.playerY = player.worldY;
+        data.direction = player.direction;
+        data.hp = player.hp;
+        data.stamina = player.stamina;
+
+        if (player.weapon != null) {
+            data.weaponName = player.weapon.getName();
+            data.weaponDamage = player.weapon.getDamage();
+            data.weaponWeight = player.weapon.getWeight();
+            data.weaponType = player.weapon.getType();
+        }
+
+        Item[][] items = player.inventory.items;
+        data.inventoryRows = items.length;
+        data.inventoryCols = items.length > 0 ? items[0].length : 0;
+        data.itemIds = new String[data.inventoryRows * data.inventoryCols];
+        data.quantities = new int[data.itemIds.length];
+        for (int row = 0; row < data.inventoryRows; row++) {
+            for (int col = 0; col < data.inventoryCols; col++) {
+                Item item = items[row][col];
+                if (item != null) {
+                    int slot = row * data.inventoryCols + col;
+                    data.itemIds[slot] = item.getName();
+                    data.quantities[slot] = item.getQuantity();
+                }
+            }
+        }
+
+        BossNoxar boss = gp.bossNoxar;
+        if (boss != null) {
+            data.hasBoss = true;
+            data.bossX = boss.x;
+            data.bossY = boss.y;
+            data.bossHealth = boss.health;
+            data.bossMaxHealth = boss.maxHealth;
+            data.bossDying = boss.isDying;
+            data.bossDead = boss.isDead;
+        }
+
+        SuperObject[] objects = gp.obj;
+        if (objects != null) {
+            data.setObjectSlots(objects.length);
+            for (int i = 0; i < objects.length; i++) {
+                SuperObject object = objects[i];
+                if (object != null && object.name != null) {
+                    data.objectKinds[i] = object.name;
+                    data.objectX[i] = object.worldX;
+                    data.objectY[i] = object.worldY;
+                    data.objectQuantities[i] = object instanceof OBJ_Apple apple ? apple.quantity : 1;
+                }
+            }
+        }
+
+        EnvironmentInteraction[] interactions = gp.getInteractions();
+        for (int i = 0; i < interactions.length && i < Long.SIZE; i++) {
+            if (interactions[i].isSeen()) {
+                data.interactionsSeen |= 1L << i;
+            }
+        }
+
+        // Saving from the pause menu records the state underneath it, so loading resumes play
+        data.gameState = gp.gameState == GamePanel.PAUSE_STATE ? gp.pausedFromState : gp.gameState;
+        data.playTimeMillis = gp.saver.getPlayTimeMillis();
+        if (gp.npc.hasGivenSword()) {
+            data.worldFlags |= FLAG_SWORD_GIVEN;
+        }
+        if (boss != null && boss.isDead) {
+            data.worldFlags |= FLAG_BOSS_DEFEATED;
+        }
+        return data;
+    }
+
+    // Puts this state into the running game
+    public void apply(GamePanel gp) {
+        entity.Player player = gp.player;
+        player.worldX = playerX;
+        player.worldY = playerY;
+        player.direction = direction;
+        player.hp = hp;
+        player.stamina = stamina;
+        gp.hud.setStamina(stamina / 10);    // HUD keeps stamina on a 0-1000 scale
+
+        player.weapon = weaponName != null ? new Weapon(weaponName, weaponDamage, weaponWeight, weaponType) : null;
+        player.setSwordTextures(player.hasSwordEquipped());
+
+        Inventory inventory = new Inventory(gp);
+        Item[][] items = inventory.items;
+        for (int slot = 0; slot < itemIds.length; slot++) {
+            if (itemIds[slot] == null) {
+                continue;
+            }
+            ItemDefinition definition = ItemDefinition.get(itemIds[slot]);
+            if (definition == null) {
+                System.err.println("Skipping unknown item in save: " + itemIds[slot]);
+                continue;
+            }
+            Item item = new Item(definition, quantities[slot]);
+            int row = inventoryCols > 0 ? slot / inventoryCols : 0;
+            int col = inventoryCols > 0 ? slot % inventoryCols : slot;
+            if (row < items.length && col < items[row].length && items[row][col] == null) {
+                items[row][col] = item;
+            } else {
+                inventory.addItem(item);    // Saved with a different inventory size
+            }
+        }
+        player.inventory = inventory;
+
+        if (gp.bossNoxar != null) {
+            gp.bossNoxar.dispose();
+            gp.bossNoxar = null;
+        }
+        if (hasBoss) {
+            BossNoxar boss = new BossNoxar(bossX, bossY);
+            boss.maxHealth = bossMaxHealth;
+            boss.health = bossHealth;
+            if (bossDead) {
+                boss.isDead = true;
+                boss.dispose();
+            } else if (bossDying) {
+                boss.startDying();
+            }
+            gp.bossNoxar = boss;
+        }
+
+        if (objectKinds != null) {
+            if (gp.obj == null || gp.obj.length != objectKinds.length) {
+                if (gp.obj != null) {
+                    for (int i = 0; i < gp.obj.length; i++) {
+                        gp.removeObject(i);
+                    }
+                }
+                gp.obj = new SuperObject[objectKinds.length];
+            }
+            for (int i = 0; i < objectKinds.length; i++) {
+                SuperObject object = objectKinds[i] != null ? gp.aSetter.createObject(objectKinds[i], objectQuantities[i]) : null;
+                if (object != null) {
+                    object.worldX = objectX[i];
+                    object.worldY = objectY[i];
+                }
+                gp.placeObject(i, object);
+            }
+        }
+
+        EnvironmentInteraction[] interactions = gp.getInteractions();
+        for (int i = 0; i < interactions.length && i < Long.SIZE; i++) {
+            interactions[i].setSeen((interactionsSeen & (1L << i)) != 0);
+        }
+
+        gp.npc.setGivenSword((worldFlags & FLAG_SWORD_GIVEN) != 0);
+        gp.gameState = gameState;
+        gp.saver.setPlayTimeMillis(playTimeMillis);
+    }
+}
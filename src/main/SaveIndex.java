@@ -0,0 +1,203 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// SaveIndex.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Small index of every save slot (saves/index.dat). This class:
+// - Keeps one entry per slot: when it was saved, play time, location, player HP and a thumbnail
+// - Lets a save or load menu list any number of slots without opening the save files
+// - Stores thumbnails as PNG bytes and only decodes one when a menu first asks for it
+// - Decodes thumbnails on a background thread so drawing a menu never waits on it
+// - Ends the file with a CRC32C; a damaged or missing index is rebuilt from the save files by Saver
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+
+// SaveIndex is changed and written by Saver's writer thread; any thread may read it
+public class SaveIndex {
+    // File layout:
+    //   int MAGIC, short version, int entry count,
+    //   then per entry: int slot, long saved at (epoch millis), long play time millis,
+    //   UTF location, int hp, int thumbnail length, thumbnail PNG bytes (length 0: none),
+    //   then int CRC32C of every byte before it.
+    public static final int MAGIC = 0x4C4D5449;    // "LMTI"
+    public static final int VERSION = 1;
+    // Thumbnails larger than this are treated as corruption rather than allocated
+    private static final int MAX_THUMBNAIL_LENGTH = 1 << 20;
+
+    // Decodes thumbnails off the menu's thread, one at a time
+    private static final ExecutorService decoder = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "ThumbnailDecoder");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    private final Path file;
+    // Entries by slot number, in slot order
+    private final ConcurrentSkipListMap<Integer, SlotInfo> slots = new ConcurrentSkipListMap<>();
+
+    // What a menu shows for one slot. Immutable apart from the cached thumbnail.
+    public static final class SlotInfo {
+        public final int slot;
+        public final long savedAt;          // Wall-clock time of the save (epoch millis)
+        public final long playTimeMillis;   // Game time played in this save
+        public final String location;
+        public final int hp;
+        private final byte[] thumbnailPng;  // Empty when the save has no thumbnail
+        private volatile BufferedImage thumbnail;
+        private volatile boolean decodeQueued = false;
+
+        public SlotInfo(int slot, long savedAt, long playTimeMillis, String location, int hp, byte[] thumbnailPng) {
+            this.slot = slot;
+            this.savedAt = savedAt;
+            this.playTimeMillis = playTimeMillis;
+            this.location = location != null ? location : "";
+            this.hp = hp;
+            this.thumbnailPng = thumbnailPng != null ? thumbnailPng : new byte[0];
+        }
+
+        // Same entry with a different thumbnail
+        public SlotInfo withThumbnail(byte[] png) {
+            return new SlotInfo(slot, savedAt, playTimeMillis, location, hp, png);
+        }
+
+        // Same entry with another entry's thumbnail (kept as a placeholder until a new one is taken)
+        SlotInfo withThumbnailOf(SlotInfo other) {
+            return withThumbnail(other.thumbnailPng);
+        }
+
+        public boolean hasThumbnail() {
+            return thumbnailPng.length > 0;
+        }
+
+        // The decoded thumbnail, or null if there is none or it is still being decoded.
+        // The first call queues the decode; menus redraw every frame, so it shows up shortly after.
+        public BufferedImage getThumbnail() {
+            BufferedImage image = thumbnail;
+            if (image == null && hasThumbnail() && !decodeQueued) {
+                decodeQueued = true;
+                decoder.execute(() -> {
+                    try {
+                        thumbnail = ImageIO.read(new ByteArrayInputStream(thumbnailPng));
+                    } catch (IOException e) {
+                        System.err.println("Could not decode thumbnail of slot " + slot + ": " + e.getMessage());
+                    }
+                });
+            }
+            return image;
+        }
+    }
+
+    public SaveIndex(Path file) {
+        this.file = file;
+    }
+
+    // All entries in slot order
+    public List<SlotInfo> getSlots() {
+        return new ArrayList<>(slots.values());
+    }
+
+    // Entry for one slot, or null if the slot is empty
+    public SlotInfo getSlot(int slot) {
+        return slots.get(slot);
+    }
+
+    void put(SlotInfo info) {
+        slots.put(info.slot, info);
+    }
+
+    void remove(int slot) {
+        slots.remove(slot);
+    }
+
+    // Reads the index file; returns false (leaving the index empty) if it is missing or damaged
+    boolean load() {
+        slots.clear();
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            if (bytes.length < 14) {
+                throw new IOException("Index file too short");
+            }
+            int stored = ByteBuffer.wrap(bytes, bytes.length - 4, 4).getInt();
+            if (stored != SaveCodec.checksum(bytes, bytes.length - 4)) {
+                throw new IOException("Index checksum mismatch");
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - 4));
+            if (in.readInt() != MAGIC || in.readShort() > VERSION) {
+                throw new IOException("Not a slot index, or written by a newer version");
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                int slot = in.readInt();
+                long savedAt = in.readLong();
+                long playTime = in.readLong();
+                String location = in.readUTF();
+                int hp = in.readInt();
+                int length = in.readInt();
+                if (length < 0 || length > MAX_THUMBNAIL_LENGTH || length > in.available()) {
+                    throw new IOException("Bad thumbnail length " + length);
+                }
+                byte[] png = new byte[length];
+                in.readFully(png);
+                slots.put(slot, new SlotInfo(slot, savedAt, playTime, location, hp, png));
+            }
+            return true;
+        } catch (IOException e) {
+            slots.clear();
+            System.err.println("Slot index unreadable, rebuilding: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Writes every entry to the index file, replacing it atomically
+    void write() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        List<SlotInfo> entries = getSlots();
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(entries.size());
+        for (SlotInfo info : entries) {
+            out.writeInt(info.slot);
+            out.writeLong(info.savedAt);
+            out.writeLong(info.playTimeMillis);
+            out.writeUTF(info.location);
+            out.writeInt(info.hp);
+            out.writeInt(info.thumbnailPng.length);
+            out.write(info.thumbnailPng);
+        }
+        out.flush();
+        byte[] data = bytes.toByteArray();
+        byte[] withChecksum = ByteBuffer.allocate(data.length + 4)
+            .put(data).putInt(SaveCodec.checksum(data, data.length)).array();
+        Saver.writeAtomically(file, withChecksum);
+    }
+
+    // PNG bytes of an image, for storing as a thumbnail
+    static byte[] encodeThumbnail(BufferedImage image) throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream(16 * 1024);
+        ImageIO.write(image, "png", png);
+        return png.toByteArray();
+    }
+}
@@ -0,0 +1,187 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// SaveJournal.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Append-only autosave journal kept next to a slot's save file. This class:
+// - Turns the difference between two SaveData copies into small records
+// - Writes one record per changed part: player, weapon, inventory slot, world object, boss, world
+// - Appends records with a checksum each, so a write cut off by a crash is detected and dropped
+// - Ties each journal to the exact save file it extends, so a stale journal is never replayed
+// - Replays a journal on top of its save file when the slot is loaded
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+// SaveJournal has no state; Saver calls it from its writer thread only
+final class SaveJournal {
+    // File layout:
+    //   int MAGIC, short version, int checksum of the save file this journal extends,
+    //   then records: ushort tag, int length, length bytes of payload, int CRC32C of the record so far.
+    // Tags and payloads are SaveCodec sections. Every record sets a value outright (never adds to
+    // one), so replaying a record twice gives the same state.
+    static final int MAGIC = 0x4C4D544A;    // "LMTJ"
+    static final int VERSION = 1;
+    static final int HEADER_LENGTH = 10;
+    private static final int RECORD_OVERHEAD = 10;
+
+    private SaveJournal() {
+    }
+
+    // Checksum identifying a save file's exact contents
+    static int baseChecksum(byte[] saveBytes) {
+        return SaveCodec.checksum(saveBytes, saveBytes.length);
+    }
+
+    static byte[] header(int baseChecksum) {
+        return ByteBuffer.allocate(HEADER_LENGTH).putInt(MAGIC).putShort((short) VERSION).putInt(baseChecksum).array();
+    }
+
+    // Records that turn before into after; empty when nothing changed.
+    // The cost is one comparison per field and slot, and one record per change.
+    static byte[] diff(SaveData before, SaveData after) {
+        ByteArrayOutputStream records = new ByteArrayOutputStream(64);
+        try {
+            DataOutputStream out = new DataOutputStream(records);
+            ByteArrayOutputStream section = new ByteArrayOutputStream(64);
+            DataOutputStream s = new DataOutputStream(section);
+
+            if (before.playerX != after.playerX || before.playerY != after.playerY
+                    || !Objects.equals(before.direction, after.direction)
+                    || before.hp != after.hp || before.stamina != after.stamina) {
+                SaveCodec.writePlayer(s, after);
+                writeRecord(out, SaveCodec.TAG_PLAYER, section);
+            }
+
+            if (!Objects.equals(before.weaponName, after.weaponName) || before.weaponDamage != after.weaponDamage
+                    || before.weaponWeight != after.weaponWeight || !Objects.equals(before.weaponType, after.weaponType)) {
+                SaveCodec.writeWeapon(s, after);
+                writeRecord(out, SaveCodec.TAG_WEAPON, section);
+            }
+
+            if (before.inventoryRows != after.inventoryRows || before.inventoryCols != after.inventoryCols) {
+                SaveCodec.writeInventory(s, after);
+                writeRecord(out, SaveCodec.TAG_INVENTORY, section);
+            } else {
+                for (int slot = 0; slot < after.itemIds.length; slot++) {
+                    if (!Objects.equals(before.itemIds[slot], after.itemIds[slot])
+                            || before.quantities[slot] != after.quantities[slot]) {
+                        SaveCodec.writeInventorySlot(s, after, slot);
+                        writeRecord(out, SaveCodec.TAG_INVENTORY_SLOT, section);
+                    }
+                }
+            }
+
+            if (after.objectKinds != null) {
+                if (before.objectKinds == null || before.objectKinds.length != after.objectKinds.length) {
+                    SaveCodec.writeObjects(s, after);
+                    writeRecord(out, SaveCodec.TAG_OBJECTS, section);
+                } else {
+                    for (int slot = 0; slot < after.objectKinds.length; slot++) {
+                        if (!Objects.equals(before.objectKinds[slot], after.objectKinds[slot])
+                                || before.objectX[slot] != after.objectX[slot]
+                                || before.objectY[slot] != after.objectY[slot]
+                                || before.objectQuantities[slot] != after.objectQuantities[slot]) {
+                            SaveCodec.writeObjectSlot(s, after, slot);
+                            writeRecord(out, SaveCodec.TAG_OBJECT_SLOT, section);
+                        }
+                    }
+                }
+            }
+
+            if (before.hasBoss != after.hasBoss || before.bossX != after.bossX || before.bossY != after.bossY
+                    || before.bossHealth != after.bossHealth || before.bossMaxHealth != after.bossMaxHealth
+                    || before.bossDying != after.bossDying || before.bossDead != after.bossDead) {
+                SaveCodec.writeBoss(s, after);
+                writeRecord(out, SaveCodec.TAG_BOSS, section);
+            }
+
+            if (before.gameState != after.gameState || before.worldFlags != after.worldFlags
+                    || before.interactionsSeen != after.interactionsSeen
+                    || before.playTimeMillis != after.playTimeMillis) {
+                SaveCodec.writeWorld(s, after);
+                writeRecord(out, SaveCodec.TAG_WORLD, section);
+            }
+        } catch (IOException e) {
+            // Writing to memory cannot fail
+            throw new IllegalStateException(e);
+        }
+        return records.toByteArray();
+    }
+
+    // Writes one record from the scratch buffer and empties the buffer for the next one
+    private static void writeRecord(DataOutputStream out, int tag, ByteArrayOutputStream section) throws IOException {
+        byte[] record = new byte[6 + section.size()];
+        ByteBuffer.wrap(record).putShort((short) tag).putInt(section.size()).put(section.toByteArray());
+        out.write(record);
+        out.writeInt(SaveCodec.checksum(record, record.length));
+        section.reset();
+    }
+
+    // Appends records to the end of the journal and forces them to disk; returns the new journal size
+    static long append(Path journal, byte[] records) throws IOException {
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(records);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            return channel.size();
+        }
+    }
+
+    // Applies the journal's records to data (decoded from the save file with the given checksum).
+    // Returns the length of the journal's valid part: 0 if it is missing or belongs to another save,
+    // less than the file size if a damaged or incomplete record was dropped from the end.
+    static long replay(Path journal, int baseChecksum, SaveData data) throws IOException {
+        if (!Files.exists(journal)) {
+            return 0;
+        }
+        byte[] bytes = Files.readAllBytes(journal);
+        if (bytes.length < HEADER_LENGTH) {
+            return 0;
+        }
+        ByteBuffer header = ByteBuffer.wrap(bytes, 0, HEADER_LENGTH);
+        if (header.getInt() != MAGIC || header.getShort() > VERSION || header.getInt() != baseChecksum) {
+            return 0;   // Not a journal, too new, or written for a save file that has since been replaced
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH));
+        int offset = HEADER_LENGTH;
+        int applied = 0;
+        while (bytes.length - offset >= RECORD_OVERHEAD) {
+            int tag = in.readUnsignedShort();
+            int length = in.readInt();
+            if (length < 0 || length > SaveCodec.MAX_SECTION_LENGTH || bytes.length - offset < RECORD_OVERHEAD + length) {
+                break;      // Cut off mid-record
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            int stored = in.readInt();
+            if (stored != SaveCodec.checksum(bytes, offset, 6 + length)) {
+                break;      // Damaged record
+            }
+            SaveCodec.readSection(tag, payload, data);
+            offset += RECORD_OVERHEAD + length;
+            applied++;
+        }
+        if (offset < bytes.length) {
+            System.err.println("Autosave journal " + journal.getFileName() + ": dropped "
+                + (bytes.length - offset) + " damaged bytes after record " + applied);
+        }
+        return offset;
+    }
+}
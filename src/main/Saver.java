@@ -10,12 +10,32 @@
 // - Processes save file loading
 // - Manages save slots and data
 // - Provides save/load error handling
+// - Writes saves on its own thread: temp file, fsync, atomic rename
+// - Autosaves by appending changes to a per-slot journal, compacted into a full save when it grows;
+//   only onto the slot saved to or loaded from this game, never over an unrelated manual save
+// - Compresses each slot with its own codec (SaveCompression), defaulting to the one in settings
+// - Keeps the slot index (time, play time, location, HP, thumbnail per slot) up to date on every save
 /////////////////////////////////////////////////////////////////////////////
 
 package main;
 import java.io.*;
-import javax.swing.JFrame;
-import entity.Weapon;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 // Saver class manages game save and load operations
 public class Saver {
@@ -24,6 +44,19 @@ public class Saver {
     
     // Save file directory
     private static final String SAVE_DIR = "saves/";
+    // Key/value save written by older versions; migrated on the first load
+    private static final String LEGACY_SAVE = "save.txt";
+    // Suffix of the file a save is written to before it replaces the real one
+    private static final String TEMP_SUFFIX = ".tmp";
+    // Longest the JVM waits at exit for queued saves to reach the disk
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+    // Suffix of a slot's autosave journal (saves/saveN.journal)
+    private static final String JOURNAL_SUFFIX = ".journal";
+    // Journal size at which the next autosave writes a full save instead and starts a new journal
+    private static final long COMPACT_THRESHOLD = 64 * 1024;
+    // Slot index file, and the save file names it is rebuilt from when missing
+    private static final String INDEX_FILE = "index.dat";
+    private static final Pattern SLOT_FILE = Pattern.compile("save(\\d+)\\.dat");
     
     // Save slot constants
     public static final int SAVE_SLOT_1 = 0;
@@ -32,11 +65,62 @@ public class Saver {
     
     // Current save slot
     private int currentSlot = SAVE_SLOT_1;
+
+    // Requests from the key handler (Swing thread), carried out by update() on the simulation thread
+    private volatile boolean saveRequested = false;
+    private volatile boolean loadRequested = false;
+    private volatile boolean deleteRequested = false;
+    // Key states last seen, so holding a key only triggers once
+    private boolean saveHeld = false, loadHeld = false, deleteHeld = false;
+
+    // Runs every file operation in request order, off the simulation and Swing threads
+    private final ExecutorService writer;
+    // Saves read by the writer thread, waiting to be applied on the simulation thread
+    private final ConcurrentLinkedQueue<LoadedSave> loadedSaves = new ConcurrentLinkedQueue<>();
+
+    // A save read from a slot
+    private static final class LoadedSave {
+        final int slot;
+        final SaveData data;
+
+        LoadedSave(int slot, SaveData data) {
+            this.slot = slot;
+            this.data = data;
+        }
+    }
+
+    // Autosave: the game-clock timer sets autosaveDue, update() takes the snapshot
+    private TimerWheel.Timer autosaveTimer;
+    private long autosaveIntervalMillis = 0;    // Interval autosaveTimer was scheduled with
+    private volatile boolean autosaveDue = false;
+    // Slot this game was last saved to or loaded from (simulation thread); autosaves go only there.
+    // -1 for a new game that has not been saved yet, which is not autosaved.
+    private int sessionSlot = -1;
+    // What the files of journalSlot hold (save plus journal), and the journal's size.
+    // Only touched on the writer thread; written is null when the files are unknown or out of date.
+    private SaveData written;
+    private int journalSlot = -1;
+    private long journalBytes = 0;
+
+    // Per-slot metadata for save/load menus; loaded (or rebuilt) by the writer thread at startup
+    private final SaveIndex index = new SaveIndex(new File(SAVE_DIR + INDEX_FILE).toPath());
+    // Game time spent playing this game (simulation thread); saved with it and restored on load
+    private long playTimeNanos = 0;
+    // Codec chosen for individual slots; other slots use GameSettings.getSaveCompression()
+    private final Map<Integer, SaveCompression> slotCompression = new ConcurrentHashMap<>();
     
     // Constructor initializes saver with game panel reference
     public Saver(GamePanel gp) {
         this.gp = gp;
         createSaveDirectory();
+        writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "SaveWriter");
+            t.setDaemon(true);
+            return t;
+        });
+        // Let saves that are still queued finish before the JVM exits
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "SaveFlush"));
+        submit(this::loadIndex);
     }
     
     // Creates save directory if it doesn't exist
@@ -45,74 +129,400 @@ public class Saver {
         if (!saveDir.exists()) {
             saveDir.mkdirs();
         }
+        // A temp file left behind means a write was cut off; the real save it was replacing is intact
+        File[] stale = saveDir.listFiles((dir, name) -> name.endsWith(TEMP_SUFFIX));
+        if (stale != null) {
+            for (File file : stale) {
+                file.delete();
+            }
+        }
+    }
+
+    // Waits for queued file operations to finish (at most FLUSH_TIMEOUT_SECONDS)
+    public void flush() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Save writer did not finish before exit");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Called with the F5/F6/F7 key states whenever a key changes; queues a request on each press
+    public void handleInput(boolean savePressed, boolean loadPressed, boolean deletePressed) {
+        if (savePressed && !saveHeld) saveRequested = true;
+        if (loadPressed && !loadHeld) loadRequested = true;
+        if (deletePressed && !deleteHeld) deleteRequested = true;
+        saveHeld = savePressed;
+        loadHeld = loadPressed;
+        deleteHeld = deletePressed;
+    }
+
+    // Carries out queued save/load/delete requests and applies finished loads (called every tick by the game loop)
+    public void update() {
+        if (!gp.clock.isPaused() && gp.gameState != GamePanel.MENU_STATE && gp.gameState != GamePanel.OPTIONS_STATE) {
+            playTimeNanos += gp.clock.getStepNanos();
+        }
+        updateAutosave();
+        LoadedSave loaded;
+        while ((loaded = loadedSaves.poll()) != null) {
+            loaded.data.apply(gp);
+            sessionSlot = loaded.slot;
+            gp.showMessage("Game loaded successfully!");
+        }
+        if (saveRequested) {
+            saveRequested = false;
+            saveGame();
+        }
+        if (loadRequested) {
+            loadRequested = false;
+            loadGame();
+        }
+        if (deleteRequested) {
+            deleteRequested = false;
+            deleteSave(currentSlot);
+        }
+    }
+
+    public void saveGame() {
+        saveGame(currentSlot);
+    }
+
+    // Schedules the autosave timer (again whenever the interval setting changes), and autosaves
+    // into this game's slot when it has fired during play
+    private void updateAutosave() {
+        GameSettings settings = GameSettings.getInstance();
+        long interval = settings.getAutoSaveSeconds() * 1000L;
+        if (autosaveTimer == null || interval != autosaveIntervalMillis) {
+            if (autosaveTimer != null) {
+                autosaveTimer.cancel();
+            }
+            autosaveTimer = gp.clock.scheduleRepeating(interval, interval, () -> autosaveDue = true);
+            autosaveIntervalMillis = interval;
+        }
+        if (!autosaveDue) {
+            return;
+        }
+        autosaveDue = false;
+        if (settings.isAutoSaveEnabled() && sessionSlot >= 0
+                && (gp.gameState == GamePanel.PLAY_STATE || gp.gameState == GamePanel.SHRINE_STATE)) {
+            autosave(sessionSlot);
+        }
+    }
+
+    // Starts a new game: play time from zero, and no autosaves until it is saved to a slot
+    public void startNewGame() {
+        setPlayTimeMillis(0);
+        sessionSlot = -1;
+    }
+
+    // Snapshots the game; the writer thread appends what changed since the last write to the journal
+    private void autosave(int slot) {
+        SaveData snapshot = SaveData.capture(gp);
+        long savedAt = System.currentTimeMillis();
+        submit(() -> {
+            try {
+                if (written == null || journalSlot != slot || journalBytes >= COMPACT_THRESHOLD) {
+                    // No journal to extend, or it has grown: write everything and start a new one
+                    writeFullSave(slot, snapshot);
+                } else {
+                    byte[] records = SaveJournal.diff(written, snapshot);
+                    if (records.length > 0) {
+                        journalBytes = SaveJournal.append(journalFile(slot).toPath(), records);
+                    }
+                    written = snapshot;
+                }
+                recordSlot(slot, snapshot, savedAt);
+            } catch (IOException e) {
+                written = null;     // The next autosave rewrites the slot in full
+                System.err.println("Autosave failed: " + e.getMessage());
+            }
+        });
+        requestThumbnail(slot, savedAt);
+    }
+
+    // Writes a complete save for the slot and starts an empty journal tied to it (writer thread only)
+    private void writeFullSave(int slot, SaveData data) throws IOException {
+        written = null;
+        byte[] bytes = SaveCodec.encode(data);
+        writeAtomically(slotFile(slot).toPath(), getSlotCompression(slot).wrap(bytes));
+        // The journal is tied to the uncompressed save, so it survives a change of codec
+        startJournal(slot, bytes);
+        written = data;
+    }
+
+    // Replaces the slot's journal with an empty one for the given save file contents
+    private void startJournal(int slot, byte[] saveBytes) throws IOException {
+        byte[] header = SaveJournal.header(SaveJournal.baseChecksum(saveBytes));
+        writeAtomically(journalFile(slot).toPath(), header);
+        journalSlot = slot;
+        journalBytes = header.length;
+    }
+
+    private static File journalFile(int slot) {
+        return new File(SAVE_DIR + "save" + slot + JOURNAL_SUFFIX);
+    }
+
+    public void loadGame() {
+        loadGame(currentSlot);
+    }
+
+    public int getCurrentSlot() {
+        return currentSlot;
+    }
+
+    public void setCurrentSlot(int slot) {
+        currentSlot = slot;
+    }
+
+    private static File slotFile(int slot) {
+        return new File(SAVE_DIR + "save" + slot + ".dat");
     }
     
-    // Saves game state to file
-    public void saveGame(int slot, int playerX, int playerY) {
+    // Saves game state to file. Only the snapshot is taken here; the writer thread encodes and writes it.
+    public void saveGame(int slot) {
+        SaveData snapshot = SaveData.capture(gp);
+        sessionSlot = slot;
+        long savedAt = System.currentTimeMillis();
+        submit(() -> {
+            try {
+                writeFullSave(slot, snapshot);
+                // Show save confirmation
+                gp.showMessage("Game saved successfully!");
+                recordSlot(slot, snapshot, savedAt);
+            } catch (IOException e) {
+                gp.showMessage("Error saving game!");
+                e.printStackTrace();
+            }
+        });
+        requestThumbnail(slot, savedAt);
+    }
+
+    // Codec the slot's next full save is written with
+    public SaveCompression getSlotCompression(int slot) {
+        return slotCompression.getOrDefault(slot, GameSettings.getInstance().getSaveCompression());
+    }
+
+    // Picks a codec for one slot (null goes back to the default from settings). Files already
+    // written keep their codec until the slot is next saved in full; loading reads any codec.
+    public void setSlotCompression(int slot, SaveCompression codec) {
+        if (codec == null) {
+            slotCompression.remove(slot);
+        } else {
+            slotCompression.put(slot, codec);
+        }
+    }
+
+    // Per-slot metadata for save/load menus (any number of slots); never opens the save files
+    public SaveIndex getIndex() {
+        return index;
+    }
+
+    public long getPlayTimeMillis() {
+        return playTimeNanos / 1_000_000L;
+    }
+
+    // Set when a save is loaded, and to 0 when a new game starts
+    public void setPlayTimeMillis(long millis) {
+        playTimeNanos = millis * 1_000_000L;
+    }
+
+    // Updates and writes the slot's index entry after a save (writer thread only). The previous
+    // thumbnail stays until the new one arrives, which may be never if nothing is being rendered.
+    private void recordSlot(int slot, SaveData data, long savedAt) {
+        SaveIndex.SlotInfo previous = index.getSlot(slot);
+        SaveIndex.SlotInfo info = new SaveIndex.SlotInfo(slot, savedAt, data.playTimeMillis, describeLocation(data), data.hp, null);
+        index.put(previous != null ? info.withThumbnailOf(previous) : info);
+        writeIndex();
+    }
+
+    // Asks the renderer for a picture of the next frame and adds it to the slot's index entry
+    private void requestThumbnail(int slot, long savedAt) {
+        gp.requestThumbnail(image -> submit(() -> {
+            SaveIndex.SlotInfo info = index.getSlot(slot);
+            if (info == null || info.savedAt != savedAt) {
+                return;     // Deleted, or saved again since; that save brings its own thumbnail
+            }
+            try {
+                index.put(info.withThumbnail(SaveIndex.encodeThumbnail(image)));
+            } catch (IOException e) {
+                System.err.println("Could not encode save thumbnail: " + e.getMessage());
+            }
+            writeIndex();
+        }));
+    }
+
+    private void writeIndex() {
         try {
-            // Create save data object
-            SaveData saveData = new SaveData();
-            saveData.playerX = playerX;
-            saveData.playerY = playerY;
-            saveData.gameState = gp.gameState;
-            saveData.inventory = gp.player.inventory;
-            
-            // Serialize and save data
-            FileOutputStream fos = new FileOutputStream(SAVE_DIR + "save" + slot + ".dat");
-            ObjectOutputStream oos = new ObjectOutputStream(fos);
-            oos.writeObject(saveData);
-            oos.close();
-            fos.close();
-            
-            // Show save confirmation
-            gp.showMessage("Game saved successfully!");
+            index.write();
         } catch (IOException e) {
-            gp.showMessage("Error saving game!");
-            e.printStackTrace();
+            System.err.println("Could not write slot index: " + e.getMessage());
         }
     }
-    
-    // Loads game state from file
-    public void loadGame(int slot) {
+
+    // Reads the slot index, or rebuilds it from the save files if it is missing or damaged (writer thread)
+    private void loadIndex() {
+        if (index.load()) {
+            return;
+        }
+        File[] files = new File(SAVE_DIR).listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            Matcher matcher = SLOT_FILE.matcher(file.getName());
+            if (!matcher.matches()) {
+                continue;
+            }
+            try {
+                int slot = Integer.parseInt(matcher.group(1));
+                byte[] bytes = SaveCompression.unwrap(Files.readAllBytes(file.toPath()));
+                SaveData data = SaveCodec.decode(bytes);
+                File journal = journalFile(slot);
+                SaveJournal.replay(journal.toPath(), SaveJournal.baseChecksum(bytes), data);
+                long savedAt = Math.max(file.lastModified(), journal.lastModified());
+                index.put(new SaveIndex.SlotInfo(slot, savedAt, data.playTimeMillis, describeLocation(data), data.hp, null));
+            } catch (IOException | NumberFormatException e) {
+                System.err.println("Skipping " + file.getName() + " in slot index: " + e.getMessage());
+            }
+        }
+        if (!index.getSlots().isEmpty()) {
+            writeIndex();
+        }
+    }
+
+    // Where a save was made: the shrine, or the nearest named place in the overworld
+    private String describeLocation(SaveData data) {
+        if (data.gameState == GamePanel.SHRINE_STATE) {
+            return "Inside the Shrine";
+        }
+        String nearest = "Wilderness";
+        long best = Long.MAX_VALUE;
+        for (entity.EnvironmentInteraction interaction : gp.getInteractions()) {
+            if (interaction == null) {
+                continue;
+            }
+            long dx = interaction.getWorldX() - data.playerX;
+            long dy = interaction.getWorldY() - data.playerY;
+            if (dx * dx + dy * dy < best) {
+                best = dx * dx + dy * dy;
+                nearest = interaction.getName();
+            }
+        }
+        return nearest;
+    }
+
+    // Writes to a temp file, forces it to disk, then renames it over the target, so a crash
+    // at any point leaves either the old save or the new one, never a partly written file
+    static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
         try {
-            // Load and deserialize data
-            FileInputStream fis = new FileInputStream(SAVE_DIR + "save" + slot + ".dat");
-            ObjectInputStream ois = new ObjectInputStream(fis);
-            SaveData saveData = (SaveData) ois.readObject();
-            ois.close();
-            fis.close();
-            
-            // Apply loaded data
-            gp.player.worldX = saveData.playerX;
-            gp.player.worldY = saveData.playerY;
-            gp.gameState = saveData.gameState;
-            gp.player.inventory = saveData.inventory;
-            
-            // Show load confirmation
-            gp.showMessage("Game loaded successfully!");
-        } catch (IOException | ClassNotFoundException e) {
-            gp.showMessage("Error loading game!");
-            e.printStackTrace();
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(target.toAbsolutePath().getParent());
+    }
+
+    // Makes the rename itself durable; not every platform can open a directory, so failures are ignored
+    private static void syncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Best effort
         }
     }
     
+    // Loads game state from file plus its autosave journal (or from the legacy save.txt if the slot
+    // has never been saved). The files are read and checked on the writer thread; update() applies
+    // the result on the next tick.
+    public void loadGame(int slot) {
+        submit(() -> {
+            try {
+                Path file = slotFile(slot).toPath();
+                SaveData saveData;
+                if (Files.exists(file)) {
+                    byte[] bytes = SaveCompression.unwrap(Files.readAllBytes(file));
+                    saveData = SaveCodec.decode(bytes);
+                    resumeJournal(slot, bytes, saveData);
+                } else if (new File(LEGACY_SAVE).exists()) {
+                    List<String> lines = Files.readAllLines(new File(LEGACY_SAVE).toPath());
+                    saveData = SaveCodec.fromLegacyText(lines);
+                    // Keep a binary copy so later loads use the new format
+                    writeFullSave(slot, saveData);
+                    recordSlot(slot, saveData, System.currentTimeMillis());
+                } else {
+                    gp.showMessage("No save file found!");
+                    return;
+                }
+                loadedSaves.add(new LoadedSave(slot, saveData));
+            } catch (IOException e) {
+                gp.showMessage("Error loading game!");
+                e.printStackTrace();
+            }
+        });
+    }
+    
+    // Replays the slot's journal onto the decoded save and makes it the journal later autosaves extend.
+    // A journal for another save is replaced, and a damaged tail (from a crash mid-append) is cut off.
+    private void resumeJournal(int slot, byte[] saveBytes, SaveData saveData) throws IOException {
+        written = null;
+        Path journal = journalFile(slot).toPath();
+        long valid = SaveJournal.replay(journal, SaveJournal.baseChecksum(saveBytes), saveData);
+        if (valid == 0) {
+            startJournal(slot, saveBytes);
+        } else {
+            if (valid < Files.size(journal)) {
+                try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                    channel.truncate(valid);
+                    channel.force(true);
+                }
+            }
+            journalSlot = slot;
+            journalBytes = valid;
+        }
+        written = saveData;
+    }
+
     // Deletes save file
     public void deleteSave(int slot) {
-        File saveFile = new File(SAVE_DIR + "save" + slot + ".dat");
-        if (saveFile.exists()) {
-            saveFile.delete();
-            gp.showMessage("Save file deleted!");
-        } else {
-            gp.showMessage("No save file found!");
+        if (sessionSlot == slot) {
+            sessionSlot = -1;   // Autosaving would bring the deleted save back
         }
+        submit(() -> {
+            journalFile(slot).delete();
+            if (journalSlot == slot) {
+                written = null;
+            }
+            if (index.getSlot(slot) != null) {
+                index.remove(slot);
+                writeIndex();
+            }
+            File saveFile = slotFile(slot);
+            if (saveFile.exists()) {
+                saveFile.delete();
+                gp.showMessage("Save file deleted!");
+            } else {
+                gp.showMessage("No save file found!");
+            }
+        });
     }
-    
-    // Save data class for serialization
-    private static class SaveData implements Serializable {
-        private static final long serialVersionUID = 1L;
-        public int playerX;
-        public int playerY;
-        public int gameState;
-        public Inventory inventory;
-    }
-}
\ No newline at end of file
+
+    private void submit(Runnable task) {
+        try {
+            writer.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Exiting: the writer has already been shut down
+        }
+    }
+}
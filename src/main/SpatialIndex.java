@@ -0,0 +1,258 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// SpatialIndex.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Uniform-grid spatial hash used as the broadphase for world queries. This class:
+// - Buckets registered items by the grid cell of their top-left corner
+// - Re-buckets an item only when a move carries it into another cell
+// - Answers rectangle and radius queries into a caller-owned array, without allocating
+// - Works for any world coordinates, including negative ones
+// - Keeps each item's bounds so queries are exact, not just per cell
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.util.Arrays;
+
+// SpatialIndex maps handles to items; callers keep the handle returned by insert
+public class SpatialIndex<T> {
+    // Marks the end of a bucket chain and an unused handle
+    public static final int NONE = -1;
+    private static final int DEFAULT_BUCKETS = 1024;
+
+    private final int cellSize;
+    private final int bucketMask;
+    // First handle in each bucket's chain
+    private final int[] bucketHead;
+
+    // Per-handle data (parallel arrays, grown on insert)
+    private Object[] items = new Object[16];
+    private int[] boxX = new int[16], boxY = new int[16], boxW = new int[16], boxH = new int[16];
+    private int[] cellX = new int[16], cellY = new int[16];
+    private int[] next = new int[16], prev = new int[16];
+    private int highWater = 0;      // Handles below this have been used at least once
+    private int freeHead = NONE;    // Released handles, chained through next[]
+    private int count = 0;
+    // Largest item size seen, so a query knows how far back to look for items that reach into it
+    private int maxWidth = 0, maxHeight = 0;
+
+    // Creates an index with cells of cellSize pixels
+    public SpatialIndex(int cellSize) {
+        this(cellSize, DEFAULT_BUCKETS);
+    }
+
+    // Creates an index with cells of cellSize pixels hashed into buckets (rounded up to a power of two)
+    public SpatialIndex(int cellSize, int buckets) {
+        this.cellSize = Math.max(1, cellSize);
+        int size = Integer.highestOneBit(Math.max(1, buckets - 1)) << 1;
+        this.bucketMask = size - 1;
+        this.bucketHead = new int[size];
+        Arrays.fill(bucketHead, NONE);
+    }
+
+    // Registers an item with its bounds and returns the handle used to move or remove it.
+    // A width or height of 0 registers a point.
+    public int insert(T item, int x, int y, int width, int height) {
+        int handle;
+        if (freeHead != NONE) {
+            handle = freeHead;
+            freeHead = next[handle];
+        } else {
+            if (highWater == items.length) {
+                grow(items.length * 2);
+            }
+            handle = highWater++;
+        }
+        items[handle] = item;
+        boxX[handle] = x;
+        boxY[handle] = y;
+        boxW[handle] = Math.max(0, width);
+        boxH[handle] = Math.max(0, height);
+        maxWidth = Math.max(maxWidth, boxW[handle]);
+        maxHeight = Math.max(maxHeight, boxH[handle]);
+        cellX[handle] = Math.floorDiv(x, cellSize);
+        cellY[handle] = Math.floorDiv(y, cellSize);
+        link(handle);
+        count++;
+        return handle;
+    }
+
+    // Moves an item, keeping its size; it changes bucket only if it crossed into another cell
+    public void move(int handle, int x, int y) {
+        update(handle, x, y, boxW[handle], boxH[handle]);
+    }
+
+    // Moves and resizes an item
+    public void update(int handle, int x, int y, int width, int height) {
+        if (!isLive(handle)) {
+            return;
+        }
+        boxX[handle] = x;
+        boxY[handle] = y;
+        boxW[handle] = Math.max(0, width);
+        boxH[handle] = Math.max(0, height);
+        maxWidth = Math.max(maxWidth, boxW[handle]);
+        maxHeight = Math.max(maxHeight, boxH[handle]);
+        int cx = Math.floorDiv(x, cellSize);
+        int cy = Math.floorDiv(y, cellSize);
+        if (cx != cellX[handle] || cy != cellY[handle]) {
+            unlink(handle);
+            cellX[handle] = cx;
+            cellY[handle] = cy;
+            link(handle);
+        }
+    }
+
+    // Unregisters an item; its handle may be reused by a later insert
+    public void remove(int handle) {
+        if (!isLive(handle)) {
+            return;
+        }
+        unlink(handle);
+        items[handle] = null;
+        next[handle] = freeHead;
+        freeHead = handle;
+        count--;
+    }
+
+    // Unregisters every item
+    public void clear() {
+        Arrays.fill(bucketHead, NONE);
+        Arrays.fill(items, 0, highWater, null);
+        highWater = 0;
+        freeHead = NONE;
+        count = 0;
+        maxWidth = 0;
+        maxHeight = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isLive(int handle) {
+        return handle >= 0 && handle < highWater && items[handle] != null;
+    }
+
+    // Writes every item whose bounds overlap the rectangle into out and returns how many were written.
+    // Stops early (returning out.length) if out fills up.
+    public int queryRect(int x, int y, int width, int height, T[] out) {
+        return query(x, y, Math.max(1, width), Math.max(1, height), -1, 0, 0, out);
+    }
+
+    // Writes every item closer than radius to (centerX, centerY) into out and returns how many were
+    // written. Distance is measured to the nearest point of each item's bounds.
+    public int queryRadius(int centerX, int centerY, int radius, T[] out) {
+        if (radius <= 0) {
+            return 0;
+        }
+        return query(centerX - radius, centerY - radius, radius * 2 + 1, radius * 2 + 1, radius, centerX, centerY, out);
+    }
+
+    // Rectangle query, optionally narrowed to a circle when radius >= 0
+    @SuppressWarnings("unchecked")
+    private int query(int x, int y, int width, int height, int radius, int centerX, int centerY, T[] out) {
+        int found = 0;
+        if (count == 0 || out.length == 0) {
+            return 0;
+        }
+        // Items are bucketed by their top-left corner, so look back by the largest item size
+        int firstCellX = Math.floorDiv(x - maxWidth, cellSize);
+        int firstCellY = Math.floorDiv(y - maxHeight, cellSize);
+        int lastCellX = Math.floorDiv(x + width - 1, cellSize);
+        int lastCellY = Math.floorDiv(y + height - 1, cellSize);
+        long cells = (long) (lastCellX - firstCellX + 1) * (lastCellY - firstCellY + 1);
+
+        if (cells > count) {
+            // Covering more cells than there are items: scanning the items directly is cheaper
+            for (int handle = 0; handle < highWater && found < out.length; handle++) {
+                if (items[handle] != null && matches(handle, x, y, width, height, radius, centerX, centerY)) {
+                    out[found++] = (T) items[handle];
+                }
+            }
+            return found;
+        }
+
+        for (int cy = firstCellY; cy <= lastCellY; cy++) {
+            for (int cx = firstCellX; cx <= lastCellX; cx++) {
+                for (int handle = bucketHead[bucket(cx, cy)]; handle != NONE; handle = next[handle]) {
+                    // Other cells can share this bucket; only take items from this cell so none is reported twice
+                    if (cellX[handle] != cx || cellY[handle] != cy) {
+                        continue;
+                    }
+                    if (matches(handle, x, y, width, height, radius, centerX, centerY)) {
+                        out[found++] = (T) items[handle];
+                        if (found == out.length) {
+                            return found;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private boolean matches(int handle, int x, int y, int width, int height, int radius, int centerX, int centerY) {
+        int left = boxX[handle];
+        int top = boxY[handle];
+        int right = left + Math.max(1, boxW[handle]);   // Exclusive; points cover one pixel
+        int bottom = top + Math.max(1, boxH[handle]);
+        if (right <= x || left >= x + width || bottom <= y || top >= y + height) {
+            return false;
+        }
+        if (radius < 0) {
+            return true;
+        }
+        // Squared distance from the center to the nearest point of the box
+        long dx = centerX < left ? left - centerX : (centerX >= right ? centerX - (right - 1) : 0);
+        long dy = centerY < top ? top - centerY : (centerY >= bottom ? centerY - (bottom - 1) : 0);
+        return dx * dx + dy * dy < (long) radius * radius;
+    }
+
+    // True if two rectangles overlap (same edge rules as the queries)
+    public static boolean overlaps(int ax, int ay, int aw, int ah, int bx, int by, int bw, int bh) {
+        return ax < bx + bw && bx < ax + aw && ay < by + bh && by < ay + ah;
+    }
+
+    private int bucket(int cx, int cy) {
+        return ((cx * 0x9E3779B1) ^ (cy * 0x85EBCA77)) & bucketMask;
+    }
+
+    private void link(int handle) {
+        int b = bucket(cellX[handle], cellY[handle]);
+        int head = bucketHead[b];
+        next[handle] = head;
+        prev[handle] = NONE;
+        if (head != NONE) {
+            prev[head] = handle;
+        }
+        bucketHead[b] = handle;
+    }
+
+    private void unlink(int handle) {
+        int p = prev[handle];
+        int n = next[handle];
+        if (p != NONE) {
+            next[p] = n;
+        } else {
+            bucketHead[bucket(cellX[handle], cellY[handle])] = n;
+        }
+        if (n != NONE) {
+            prev[n] = p;
+        }
+    }
+
+    private void grow(int capacity) {
+        items = Arrays.copyOf(items, capacity);
+        boxX = Arrays.copyOf(boxX, capacity);
+        boxY = Arrays.copyOf(boxY, capacity);
+        boxW = Arrays.copyOf(boxW, capacity);
+        boxH = Arrays.copyOf(boxH, capacity);
+        cellX = Arrays.copyOf(cellX, capacity);
+        cellY = Arrays.copyOf(cellY, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+    }
+}
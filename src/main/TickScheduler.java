@@ -0,0 +1,150 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// TickScheduler.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Fixed-timestep scheduler for the game loop. This class:
+// - Keeps simulation ticks on a fixed interval (60 Hz by default)
+// - Parks the game thread until the next tick deadline instead of spinning
+// - Spin-yields only for the final sub-millisecond before a deadline
+// - Reports how many catch-up updates to run after a stall (bounded)
+// - Measures tick jitter (how late each tick actually started)
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import java.util.concurrent.locks.LockSupport;
+
+// TickScheduler paces the game loop at a fixed number of ticks per second. awaitNextTick() and reset()
+// belong to the thread it paces; the rate may be changed and the statistics read from any thread.
+public class TickScheduler {
+    // Time left before a deadline that is spun instead of parked (1 ms)
+    private static final long SPIN_THRESHOLD = 1_000_000L;
+    // Most updates run back to back after a stall before the schedule resyncs
+    public static final int MAX_CATCH_UP_TICKS = 5;
+    // Weight of the newest sample in the average jitter
+    private static final double JITTER_SMOOTHING = 0.05;
+
+    // Rate asked for by setTicksPerSecond; the paced thread applies it before its next wait
+    private volatile int requestedTicksPerSecond;
+    private volatile int ticksPerSecond;
+    private volatile long tickInterval;     // Nanoseconds per tick
+    private long nextTick;                  // Deadline of the next tick (System.nanoTime); paced thread only
+
+    // Jitter statistics (nanoseconds)
+    private volatile long lastJitter = 0;
+    private volatile long maxJitter = 0;
+    private volatile double averageJitter = 0;
+    private volatile long skippedTicks = 0; // Ticks dropped because a stall ran past MAX_CATCH_UP_TICKS
+
+    // Constructor sets the tick rate and starts the schedule from now
+    public TickScheduler(int ticksPerSecond) {
+        setTicksPerSecond(ticksPerSecond);
+        applyRequestedRate();
+        reset();
+    }
+
+    // Changes the tick rate from any thread; the paced thread picks it up before its next tick
+    public void setTicksPerSecond(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+        }
+        requestedTicksPerSecond = ticksPerSecond;
+    }
+
+    // Switches to the requested rate, if it changed (paced thread only)
+    private void applyRequestedRate() {
+        int requested = requestedTicksPerSecond;
+        if (requested != ticksPerSecond) {
+            tickInterval = 1_000_000_000L / requested;
+            ticksPerSecond = requested;
+        }
+    }
+
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    public long getTickInterval() {
+        return tickInterval;
+    }
+
+    // Restarts the schedule so the first tick is due one interval from now
+    public void reset() {
+        applyRequestedRate();
+        nextTick = System.nanoTime() + tickInterval;
+        lastJitter = 0;
+        maxJitter = 0;
+        averageJitter = 0;
+        skippedTicks = 0;
+    }
+
+    // Blocks until the next tick is due and returns how many updates to run.
+    // Returns 1 normally, more when the loop fell behind (never more than MAX_CATCH_UP_TICKS).
+    public int awaitNextTick() {
+        applyRequestedRate();
+        // Park for most of the wait, leaving the last millisecond for spinning
+        long remaining = nextTick - System.nanoTime();
+        while (remaining > SPIN_THRESHOLD) {
+            LockSupport.parkNanos(remaining - SPIN_THRESHOLD);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+            remaining = nextTick - System.nanoTime();
+        }
+
+        // Spin-yield through the final sub-millisecond for a precise wakeup
+        long now = System.nanoTime();
+        while (now < nextTick) {
+            Thread.yield();
+            now = System.nanoTime();
+        }
+
+        // Record how late this tick started
+        long late = now - nextTick;
+        recordJitter(late);
+
+        // Work out how many ticks are due (1 + any that were missed during a stall)
+        long due = 1 + late / tickInterval;
+        if (due > MAX_CATCH_UP_TICKS) {
+            // Too far behind: run a bounded burst and resync to the current time
+            skippedTicks += due - MAX_CATCH_UP_TICKS;
+            nextTick = now + tickInterval;
+            return MAX_CATCH_UP_TICKS;
+        }
+        nextTick += due * tickInterval;
+        return (int) due;
+    }
+
+    private void recordJitter(long late) {
+        // Only the lateness within a single interval counts as jitter; the rest is a stall
+        long jitter = late % tickInterval;
+        lastJitter = jitter;
+        if (jitter > maxJitter) {
+            maxJitter = jitter;
+        }
+        averageJitter += (jitter - averageJitter) * JITTER_SMOOTHING;
+    }
+
+    // Jitter of the most recent tick in nanoseconds
+    public long getLastJitterNanos() {
+        return lastJitter;
+    }
+
+    // Worst jitter seen since the last reset in nanoseconds
+    public long getMaxJitterNanos() {
+        return maxJitter;
+    }
+
+    // Smoothed average jitter in nanoseconds
+    public double getAverageJitterNanos() {
+        return averageJitter;
+    }
+
+    // Number of ticks dropped because the loop fell too far behind
+    public long getSkippedTicks() {
+        return skippedTicks;
+    }
+}
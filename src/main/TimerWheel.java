@@ -0,0 +1,211 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// TimerWheel.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Hierarchical timing wheel for scheduled callbacks. This class:
+// - Files each timer into one slot of four wheels by how far away its deadline is
+// - Schedules and cancels in constant time, however many timers are pending
+// - Moves far timers down a wheel as their deadline comes closer (cascading)
+// - Fires due callbacks in deadline order when advanced, including repeating ones
+// - Runs on game time (milliseconds from GameClock), never on the wall clock
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+// TimerWheel is advanced and used by the simulation thread only
+public class TimerWheel {
+    // Wheel sizes: 256 one-millisecond slots, then three wheels of 64 coarser slots each.
+    // Together they cover 2^26 ms (about 18.6 hours); later deadlines wait in the last wheel.
+    private static final int LEVEL0_BITS = 8;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVELS = 4;
+    private static final int LEVEL0_SIZE = 1 << LEVEL0_BITS;
+    private static final int LEVEL_SIZE = 1 << LEVEL_BITS;
+    private static final int LEVEL_MASK = LEVEL_SIZE - 1;
+    private static final long SPAN = 1L << (LEVEL0_BITS + LEVEL_BITS * (LEVELS - 1));
+
+    // A scheduled callback; keep it to cancel the callback before it fires
+    public static final class Timer {
+        private Runnable task;
+        private long deadline;
+        private long period;            // 0 for a one-shot timer
+        private Timer next, prev;       // Slot list links
+        private int level = -1, slot;   // Where the timer is filed (level -1 when not pending)
+        private TimerWheel wheel;
+
+        // Stops the timer; a repeating timer will not fire again
+        public void cancel() {
+            if (wheel != null) {
+                wheel.unlink(this);
+                wheel.size--;
+                wheel = null;
+            }
+            task = null;
+        }
+
+        public boolean isPending() {
+            return wheel != null;
+        }
+
+        // Game time (ms) the timer fires next
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+
+    // Slot list heads: slots[level][slot]
+    private final Timer[][] slots = new Timer[LEVELS][];
+    // Every timer due at or before this time (ms) has fired
+    private long current;
+    private int size = 0;
+
+    public TimerWheel(long startMillis) {
+        slots[0] = new Timer[LEVEL0_SIZE];
+        for (int level = 1; level < LEVELS; level++) {
+            slots[level] = new Timer[LEVEL_SIZE];
+        }
+        current = startMillis;
+    }
+
+    // Runs task once, delayMillis from the wheel's current time (at the next advance if 0 or less)
+    public Timer schedule(long delayMillis, Runnable task) {
+        return scheduleAt(current + delayMillis, 0, task);
+    }
+
+    // Runs task after delayMillis, then every periodMillis until cancelled
+    public Timer scheduleRepeating(long delayMillis, long periodMillis, Runnable task) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("Timer period must be positive: " + periodMillis);
+        }
+        return scheduleAt(current + delayMillis, periodMillis, task);
+    }
+
+    private Timer scheduleAt(long deadline, long period, Runnable task) {
+        Timer timer = new Timer();
+        timer.task = task;
+        timer.period = period;
+        // Overdue timers fire on the next millisecond the wheel processes
+        timer.deadline = Math.max(deadline, current + 1);
+        timer.wheel = this;
+        file(timer);
+        size++;
+        return timer;
+    }
+
+    // Fires every timer due up to and including nowMillis, in deadline order
+    public void advanceTo(long nowMillis) {
+        if (size == 0) {
+            current = Math.max(current, nowMillis);
+            return;
+        }
+        while (current < nowMillis) {
+            current++;
+            // Bring the next stretch of coarser slots down when a finer wheel wraps around
+            if ((current & (LEVEL0_SIZE - 1)) == 0) {
+                cascadeFrom(1);
+            }
+            fireSlot((int) (current & (LEVEL0_SIZE - 1)));
+            if (size == 0) {
+                current = nowMillis;
+            }
+        }
+    }
+
+    // Number of pending timers
+    public int size() {
+        return size;
+    }
+
+    public long getCurrentMillis() {
+        return current;
+    }
+
+    private void cascadeFrom(int level) {
+        int slot = slotIndex(current, level);
+        if (slot == 0 && level + 1 < LEVELS) {
+            cascadeFrom(level + 1);
+        }
+        Timer timer = slots[level][slot];
+        slots[level][slot] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.level = -1;
+            file(timer);
+            timer = next;
+        }
+    }
+
+    private void fireSlot(int slot) {
+        Timer timer;
+        while ((timer = slots[0][slot]) != null) {
+            unlink(timer);
+            Runnable task = timer.task;
+            if (timer.period > 0) {
+                timer.deadline += timer.period;
+                file(timer);
+            } else {
+                timer.wheel = null;
+                size--;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    // Puts a timer in the slot for its deadline on the finest wheel that reaches it
+    private void file(Timer timer) {
+        long delta = timer.deadline - current;
+        int level;
+        long slotTime = timer.deadline;
+        if (delta < LEVEL0_SIZE) {
+            level = 0;
+        } else if (delta < SPAN) {
+            level = 1;
+            while (delta >= 1L << (LEVEL0_BITS + LEVEL_BITS * level)) {
+                level++;
+            }
+        } else {
+            // Beyond the last wheel: park in its furthest slot and re-file when that slot cascades
+            level = LEVELS - 1;
+            slotTime = current + SPAN - 1;
+        }
+        int slot = slotIndex(slotTime, level);
+        timer.level = level;
+        timer.slot = slot;
+        timer.prev = null;
+        timer.next = slots[level][slot];
+        if (timer.next != null) {
+            timer.next.prev = timer;
+        }
+        slots[level][slot] = timer;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.level < 0) {
+            return;
+        }
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.next = null;
+        timer.prev = null;
+        timer.level = -1;
+    }
+
+    private static int slotIndex(long time, int level) {
+        if (level == 0) {
+            return (int) (time & (LEVEL0_SIZE - 1));
+        }
+        return (int) ((time >>> (LEVEL0_BITS + LEVEL_BITS * (level - 1))) & LEVEL_MASK);
+    }
+}
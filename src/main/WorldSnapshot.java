@@ -0,0 +1,281 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// WorldSnapshot.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Immutable copy of the drawable world state. This class:
+// - Captures positions, animation frames and HUD values at the end of a tick
+// - Lets the renderer draw without touching objects the simulation is mutating
+// - Interpolates between the last two ticks for smooth display-rate rendering
+// - Snaps instead of interpolating across teleports and state changes
+// - Holds the boss projectile list as a flat coordinate array
+// - Holds the enemies near the camera as flat position/velocity data plus the frame to draw
+// - Holds the tile map, world objects, interaction and dialogue text and the open inventory, so
+//   nothing the renderer draws in normal play comes from live state
+/////////////////////////////////////////////////////////////////////////////
+
+package main;
+
+import entity.BossNoxar;
+import entity.BossProjectile;
+import entity.EnvironmentInteraction;
+import entity.Inventory;
+import entity.ProjectilePool;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+// WorldSnapshot is published by the simulation thread once per tick and only read afterwards
+public final class WorldSnapshot {
+    // Moves larger than this many tiles in one tick are treated as teleports
+    private static final int TELEPORT_TILES = 4;
+
+    public final long tick;          // Simulation tick this snapshot was taken on
+    public final long timeNanos;     // System.nanoTime when it was published
+    public final int gameState;
+
+    // Player
+    public final int playerX, playerY;
+    public final String playerDirection;
+    public final BufferedImage playerSprite;       // Current walk/idle/run frame
+    public final BufferedImage playerSlashFrame;   // Current slash frame, or null when not slashing
+    public final int playerHp;
+    public final int playerStamina;
+    public final String weaponName;
+    // Equipped weapon's attack log while the HUD shows it, otherwise null
+    public final String[] attackHistory;
+
+    // NPC
+    public final int npcX, npcY;
+    public final BufferedImage npcSprite;
+
+    // Boss (only valid when hasBoss is true)
+    public final boolean hasBoss;
+    public final int bossX, bossY;
+    public final int bossHealth, bossMaxHealth;
+    public final BufferedImage bossSprite;
+
+    // Boss projectiles as x, y pairs
+    public final float[] projectiles;
+    public final int projectileCount;
+    public final BufferedImage projectileSprite;
+    // Pool removal count when copied; while it is unchanged, index i is the same projectile
+    public final int projectileLayout;
+
+    // Enemies near the camera: x, y, velocity x, velocity y per enemy (pixels), and their current frames
+    public final int[] enemies;
+    public final BufferedImage[] enemySprites;
+    public final int enemyCount;
+
+    // World objects near the camera: x, y per object, and their images
+    public final int[] objects;
+    public final BufferedImage[] objectImages;
+    public final int objectCount;
+
+    // Tile map as of this tick (shared between snapshots until a tile changes)
+    public final int[][] tileMap;
+
+    // Interactions showing a prompt or dialogue box
+    public final EnvironmentInteraction.View[] interactions;
+    // NPC dialogue text revealed so far (null when not talking) and whether the paragraph is complete
+    public final String npcDialogue;
+    public final boolean npcDialogueDone;
+    // Line in the bottom dialogue bar ("" when none)
+    public final String dialogueLine;
+    // Noxar cutscene line being shown, or null outside the cutscene
+    public final String cutsceneLine;
+    // Open inventory, or null when it is closed
+    public final Inventory.View inventory;
+
+    // Item the player is standing near (pickupName is null when there is none)
+    public final String pickupName;
+    public final int pickupX, pickupY;
+    public final int pickupQuantity;
+
+    private WorldSnapshot(long tick, long timeNanos, int gameState,
+                          int playerX, int playerY, String playerDirection,
+                          BufferedImage playerSprite, BufferedImage playerSlashFrame,
+                          int playerHp, int playerStamina, String weaponName, String[] attackHistory,
+                          int npcX, int npcY, BufferedImage npcSprite,
+                          boolean hasBoss, int bossX, int bossY, int bossHealth, int bossMaxHealth,
+                          BufferedImage bossSprite,
+                          float[] projectiles, int projectileCount, BufferedImage projectileSprite,
+                          int projectileLayout, int[] enemies, BufferedImage[] enemySprites, int enemyCount,
+                          int[] objects, BufferedImage[] objectImages, int objectCount, int[][] tileMap,
+                          EnvironmentInteraction.View[] interactions, String npcDialogue, boolean npcDialogueDone,
+                          String dialogueLine, String cutsceneLine, Inventory.View inventory,
+                          String pickupName, int pickupX, int pickupY, int pickupQuantity) {
+        this.tick = tick;
+        this.timeNanos = timeNanos;
+        this.gameState = gameState;
+        this.playerX = playerX;
+        this.playerY = playerY;
+        this.playerDirection = playerDirection;
+        this.playerSprite = playerSprite;
+        this.playerSlashFrame = playerSlashFrame;
+        this.playerHp = playerHp;
+        this.playerStamina = playerStamina;
+        this.weaponName = weaponName;
+        this.attackHistory = attackHistory;
+        this.npcX = npcX;
+        this.npcY = npcY;
+        this.npcSprite = npcSprite;
+        this.hasBoss = hasBoss;
+        this.bossX = bossX;
+        this.bossY = bossY;
+        this.bossHealth = bossHealth;
+        this.bossMaxHealth = bossMaxHealth;
+        this.bossSprite = bossSprite;
+        this.projectiles = projectiles;
+        this.projectileCount = projectileCount;
+        this.projectileSprite = projectileSprite;
+        this.projectileLayout = projectileLayout;
+        this.enemies = enemies;
+        this.enemySprites = enemySprites;
+        this.enemyCount = enemyCount;
+        this.objects = objects;
+        this.objectImages = objectImages;
+        this.objectCount = objectCount;
+        this.tileMap = tileMap;
+        this.interactions = interactions;
+        this.npcDialogue = npcDialogue;
+        this.npcDialogueDone = npcDialogueDone;
+        this.dialogueLine = dialogueLine;
+        this.cutsceneLine = cutsceneLine;
+        this.inventory = inventory;
+        this.pickupName = pickupName;
+        this.pickupX = pickupX;
+        this.pickupY = pickupY;
+        this.pickupQuantity = pickupQuantity;
+    }
+
+    // Copy of 'to' with interpolated positions; everything else is shared with 'to'
+    private WorldSnapshot(WorldSnapshot to, int playerX, int playerY, int npcX, int npcY,
+                          int bossX, int bossY, float[] projectiles, int[] enemies) {
+        this(to.tick, to.timeNanos, to.gameState,
+            playerX, playerY, to.playerDirection, to.playerSprite, to.playerSlashFrame,
+            to.playerHp, to.playerStamina, to.weaponName, to.attackHistory,
+            npcX, npcY, to.npcSprite,
+            to.hasBoss, bossX, bossY, to.bossHealth, to.bossMaxHealth, to.bossSprite,
+            projectiles, to.projectileCount, to.projectileSprite, to.projectileLayout,
+            enemies, to.enemySprites, to.enemyCount,
+            to.objects, to.objectImages, to.objectCount, to.tileMap,
+            to.interactions, to.npcDialogue, to.npcDialogueDone, to.dialogueLine, to.cutsceneLine, to.inventory,
+            to.pickupName, to.pickupX, to.pickupY, to.pickupQuantity);
+    }
+
+    // Copies the drawable state out of the live world (call on the simulation thread)
+    static WorldSnapshot capture(GamePanel gp, long tick, ProjectilePool bossProjectiles) {
+        entity.Player player = gp.player;
+        String weaponName = player.weapon != null ? player.weapon.getName() : "No Weapon";
+        String[] attackHistory = gp.hud.isShowAttackHistory() && player.weapon != null
+            ? player.weapon.getAttackHistory().toArray(new String[0]) : null;
+
+        BossNoxar boss = gp.bossNoxar;
+        boolean hasBoss = boss != null;
+
+        int count = bossProjectiles.size();
+        float[] projectiles = new float[count * 2];
+        bossProjectiles.copyPositions(projectiles);
+        BufferedImage projectileSprite = count > 0 ? BossProjectile.getSprite() : null;
+
+        // Enemies within a couple of tiles of the screen (the margin covers interpolation and sprite size)
+        int margin = gp.tileSize * 2;
+        int cameraX = player.worldX - player.screenX;
+        int cameraY = player.worldY - player.screenY;
+        // The store culls into reused buffers; the snapshot keeps copies sized to what is on screen
+        int enemyCount = gp.enemyStore.cullVisible(cameraX - margin, cameraY - margin,
+            cameraX + gp.screenWidth + margin, cameraY + gp.screenHeight + margin);
+        int[] enemies = Arrays.copyOf(gp.enemyStore.getVisiblePositions(), enemyCount * 4);
+        BufferedImage[] enemySprites = Arrays.copyOf(gp.enemyStore.getVisibleSprites(), enemyCount);
+
+        // Objects culled the same way, as x, y pairs (none until setupGame has placed them)
+        object.SuperObject[] worldObjects = gp.obj != null ? gp.obj : new object.SuperObject[0];
+        int[] objects = new int[worldObjects.length * 2];
+        BufferedImage[] objectImages = new BufferedImage[worldObjects.length];
+        int objectCount = 0;
+        for (object.SuperObject o : worldObjects) {
+            if (o != null && o.worldX > cameraX - margin && o.worldX < cameraX + gp.screenWidth + margin
+                    && o.worldY > cameraY - margin && o.worldY < cameraY + gp.screenHeight + margin) {
+                objects[objectCount * 2] = o.worldX;
+                objects[objectCount * 2 + 1] = o.worldY;
+                objectImages[objectCount++] = o.image;
+            }
+        }
+
+        String pickupName = null;
+        int pickupX = 0, pickupY = 0, pickupQuantity = 1;
+        object.SuperObject pickup = gp.nearbyPickup;
+        if (pickup != null) {
+            pickupName = pickup.name;
+            pickupX = pickup.worldX;
+            pickupY = pickup.worldY;
+            if (pickup instanceof object.OBJ_Apple apple) {
+                pickupQuantity = apple.quantity;
+            }
+        }
+
+        return new WorldSnapshot(tick, System.nanoTime(), gp.gameState,
+            player.worldX, player.worldY, player.direction,
+            player.getCurrentSprite(), player.getCurrentSlashFrame(),
+            player.hp, gp.hud.getStamina(), weaponName, attackHistory,
+            gp.npc.worldX, gp.npc.worldY, gp.npc.getCurrentSprite(),
+            hasBoss, hasBoss ? boss.x : 0, hasBoss ? boss.y : 0,
+            hasBoss ? boss.health : 0, hasBoss ? boss.maxHealth : 1,
+            hasBoss ? boss.getCurrentSprite() : null,
+            projectiles, count, projectileSprite, bossProjectiles.getLayoutVersion(),
+            enemies, enemySprites, enemyCount,
+            objects, objectImages, objectCount, gp.tileM.snapshotMap(),
+            gp.captureInteractionViews(), gp.npc.getDialogueText(), gp.npc.isParagraphFullyShown(),
+            gp.dialogue.getLine(), gp.getCutsceneLine(), player.inventory.captureView(),
+            pickupName, pickupX, pickupY, pickupQuantity);
+    }
+
+    // Blends positions between two consecutive snapshots; discrete state comes from 'to'.
+    // alpha is 0 at 'from' and 1 at 'to'.
+    static WorldSnapshot interpolate(WorldSnapshot from, WorldSnapshot to, double alpha, int tileSize) {
+        if (from == null || from.gameState != to.gameState || alpha >= 1.0) {
+            return to;
+        }
+        if (alpha < 0) {
+            alpha = 0;
+        }
+        int teleport = tileSize * TELEPORT_TILES;
+
+        // Projectiles only interpolate when none was removed in between (new ones are appended at the end)
+        float[] projectiles = to.projectiles;
+        if (from.projectileLayout == to.projectileLayout && to.projectileCount > 0) {
+            projectiles = to.projectiles.clone();
+            int shared = Math.min(from.projectileCount, to.projectileCount) * 2;
+            for (int i = 0; i < shared; i++) {
+                projectiles[i] = (float) (from.projectiles[i] + (to.projectiles[i] - from.projectiles[i]) * alpha);
+            }
+        }
+
+        // Enemies are placed back along last tick's velocity, which needs no matching between snapshots
+        int[] enemies = to.enemies;
+        if (to.enemyCount > 0) {
+            enemies = to.enemies.clone();
+            double back = 1.0 - alpha;
+            for (int i = 0; i < to.enemyCount; i++) {
+                enemies[i * 4] -= (int) Math.round(to.enemies[i * 4 + 2] * back);
+                enemies[i * 4 + 1] -= (int) Math.round(to.enemies[i * 4 + 3] * back);
+            }
+        }
+
+        boolean bossLerp = from.hasBoss && to.hasBoss;
+        return new WorldSnapshot(to,
+            lerp(from.playerX, to.playerX, alpha, teleport), lerp(from.playerY, to.playerY, alpha, teleport),
+            lerp(from.npcX, to.npcX, alpha, teleport), lerp(from.npcY, to.npcY, alpha, teleport),
+            bossLerp ? lerp(from.bossX, to.bossX, alpha, teleport) : to.bossX,
+            bossLerp ? lerp(from.bossY, to.bossY, alpha, teleport) : to.bossY,
+            projectiles, enemies);
+    }
+
+    private static int lerp(int a, int b, double alpha, int teleport) {
+        if (Math.abs(b - a) > teleport) {
+            return b;
+        }
+        return (int) Math.round(a + (b - a) * alpha);
+    }
+}
@@ -14,8 +14,7 @@
 
 package object;
 
-import javax.imageio.ImageIO;
-import java.io.IOException;
+import entity.ItemDefinition;
 
 // OBJ_Apple defines the apple collectible object
 public class OBJ_Apple extends SuperObject {
@@ -25,13 +24,8 @@ public class OBJ_Apple extends SuperObject {
         this(1);
     }
     public OBJ_Apple(int quantity) {
-        name = "Apple";
+        setDefinition(ItemDefinition.APPLE);
         this.quantity = quantity;
-        try {
-            image = ImageIO.read(getClass().getResourceAsStream("/res/objects/apple.png"));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
     }
 
     public String getDescription() {
@@ -14,19 +14,12 @@
 
 package object;
 
-import javax.imageio.ImageIO;
-import java.io.IOException;
+import entity.ItemDefinition;
 
 // OBJ_Key defines the key collectible object
 public class OBJ_Key extends SuperObject {
     // Constructor sets up key image and name
     public OBJ_Key() {
-        name = "Key";
-        try {
-            // Load key image from resources
-            image = ImageIO.read(getClass().getResourceAsStream("/res/objects/key.png"));
-        } catch(IOException e) {
-            e.printStackTrace();
-        }
+        setDefinition(ItemDefinition.KEY);
     }
 }
@@ -14,20 +14,13 @@
 
 package object;
 
-import javax.imageio.ImageIO;
-import java.io.IOException;
+import entity.ItemDefinition;
 
 // OBJ_Solthorn defines the Solthorn special object
 public class OBJ_Solthorn extends SuperObject {
     // Constructor sets up Solthorn image and name
     public OBJ_Solthorn() {
-        name = "Solthorn";
-        try {
-            // Load Solthorn image from resources
-            image = ImageIO.read(getClass().getResourceAsStream("/res/objects/solthorn.png"));
-        } catch(IOException e) {
-            e.printStackTrace();
-        }
+        setDefinition(ItemDefinition.SOLTHORN);
     }
 
     public String getDescription() {
@@ -18,6 +18,7 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
+import entity.ItemDefinition;
 import main.GamePanel;
 
 // SuperObject is the base class for all objects that can be placed in the game world
@@ -26,21 +27,39 @@ public class SuperObject {
     public BufferedImage image;
     // Object name identifier
     public String name;
+    // Shared type data for objects that can be picked up (null for scenery)
+    public ItemDefinition definition;
     // World position coordinates
     public int worldX, worldY;
     // Collision area for the object
     public Rectangle solidArea = new Rectangle(0, 0, 48, 48);
     // Collision flag
     public boolean collision = false;
+    // Handle in GamePanel.objectIndex (-1 while the object is not placed in the world)
+    public int spatialHandle = -1;
+
+    // Takes the name and shared image from an item type
+    protected void setDefinition(ItemDefinition definition) {
+        this.definition = definition;
+        this.name = definition.getName();
+        this.image = definition.getImage();
+    }
 
     public void draw(Graphics2D g2, GamePanel gp){
-        int screenX = worldX - gp.player.worldX + gp.player.screenX;
-        int screenY = worldY - gp.player.worldY + gp.player.screenY;
+        drawAt(g2, gp, image, worldX, worldY);
+    }
+
+    // Draws an object image at a world position (the renderer uses it with snapshot copies)
+    public static void drawAt(Graphics2D g2, GamePanel gp, BufferedImage image, int worldX, int worldY) {
+        int cameraX = gp.getCameraX();
+        int cameraY = gp.getCameraY();
+        int screenX = worldX - cameraX;
+        int screenY = worldY - cameraY;
 
-        if(worldX + gp.tileSize > gp.player.worldX - gp.player.screenX &&
-           worldX - gp.tileSize < gp.player.worldX + gp.player.screenX &&
-           worldY + gp.tileSize > gp.player.worldY - gp.player.screenY &&
-           worldY - gp.tileSize < gp.player.worldY + gp.player.screenY) {
+        if(worldX + gp.tileSize > cameraX &&
+           worldX - gp.tileSize < cameraX + gp.player.screenX * 2 &&
+           worldY + gp.tileSize > cameraY &&
+           worldY - gp.tileSize < cameraY + gp.player.screenY * 2) {
             // Draw at half tile size, centered
             int size = gp.tileSize / 2;
             int offset = (gp.tileSize - size) / 2;
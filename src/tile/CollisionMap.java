@@ -0,0 +1,170 @@
+/////////////////////////////////////////////////////////////////////////////
+// Limitless
+// CollisionMap.java
+// Created: October 18, 2026
+// Authors: Aun, Ajmal
+//
+// Description: Packed solid/passable flags for the tile grid. This class:
+// - Stores one bit per tile, row-major, with every row starting on a new word
+// - Answers single-tile probes with one array load and a mask
+// - Answers "any solid tile in this rectangle" a word at a time
+// - Finds the first solid tile along a row or column span
+// - Treats everything outside the map as solid
+/////////////////////////////////////////////////////////////////////////////
+
+package tile;
+
+import java.util.Arrays;
+
+// CollisionMap is owned by TileManager and updated whenever a tile changes
+public class CollisionMap {
+    // Returned by the span queries when no tile in the span is solid
+    public static final int NONE = Integer.MIN_VALUE;
+
+    private final int cols;
+    private final int rows;
+    private final int wordsPerRow;
+    // Bit (col & 63) of bits[row * wordsPerRow + (col >> 6)] is set when the tile is solid
+    private final long[] bits;
+    // Bumped on every change so readers on other threads can tell their copy is out of date
+    private volatile int version = 0;
+
+    public CollisionMap(int cols, int rows) {
+        this.cols = cols;
+        this.rows = rows;
+        this.wordsPerRow = (cols + 63) >> 6;
+        this.bits = new long[wordsPerRow * rows];
+    }
+
+    // Rebuilds every bit from the map layout and the tile types' collision flags
+    public void rebuild(int[][] mapTileNum, Tile[] tiles) {
+        Arrays.fill(bits, 0L);
+        for (int col = 0; col < cols; col++) {
+            for (int row = 0; row < rows; row++) {
+                if (isSolidType(tiles, mapTileNum[col][row])) {
+                    bits[row * wordsPerRow + (col >> 6)] |= 1L << col;
+                }
+            }
+        }
+        version++;
+    }
+
+    // True if a tile type blocks movement (unknown types are passable, matching the old lookups)
+    static boolean isSolidType(Tile[] tiles, int tileNum) {
+        return tileNum >= 0 && tileNum < tiles.length && tiles[tileNum] != null && tiles[tileNum].collision;
+    }
+
+    // Sets or clears one tile; out-of-range tiles are ignored
+    public void set(int col, int row, boolean solid) {
+        if (col < 0 || row < 0 || col >= cols || row >= rows) {
+            return;
+        }
+        int index = row * wordsPerRow + (col >> 6);
+        if (solid) {
+            bits[index] |= 1L << col;
+        } else {
+            bits[index] &= ~(1L << col);
+        }
+        version++;
+    }
+
+    // True if the tile is solid or outside the map
+    public boolean isSolid(int col, int row) {
+        if (col < 0 || row < 0 || col >= cols || row >= rows) {
+            return true;
+        }
+        return (bits[row * wordsPerRow + (col >> 6)] & (1L << col)) != 0;
+    }
+
+    // True if any tile in the inclusive rectangle is solid or outside the map
+    public boolean anySolid(int col0, int row0, int col1, int row1) {
+        if (col0 > col1 || row0 > row1) {
+            return false;
+        }
+        if (col0 < 0 || row0 < 0 || col1 >= cols || row1 >= rows) {
+            return true;
+        }
+        int firstWord = col0 >> 6;
+        int lastWord = col1 >> 6;
+        long firstMask = -1L << col0;
+        long lastMask = -1L >>> (63 - (col1 & 63));
+        for (int row = row0; row <= row1; row++) {
+            int base = row * wordsPerRow;
+            if (firstWord == lastWord) {
+                if ((bits[base + firstWord] & firstMask & lastMask) != 0) {
+                    return true;
+                }
+                continue;
+            }
+            if ((bits[base + firstWord] & firstMask) != 0 || (bits[base + lastWord] & lastMask) != 0) {
+                return true;
+            }
+            for (int w = firstWord + 1; w < lastWord; w++) {
+                if (bits[base + w] != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // First solid column in a row, scanning from fromCol towards toCol (either direction, inclusive).
+    // Columns outside the map count as solid. Returns NONE if the whole span is passable.
+    public int firstSolidInRow(int row, int fromCol, int toCol) {
+        if (row < 0 || row >= rows || fromCol < 0 || fromCol >= cols) {
+            return fromCol;
+        }
+        int base = row * wordsPerRow;
+        if (fromCol <= toCol) {
+            int end = Math.min(toCol, cols - 1);
+            for (int col = fromCol; col <= end; col = (col & ~63) + 64) {
+                long word = bits[base + (col >> 6)] & (-1L << col);
+                if (word != 0) {
+                    int hit = (col & ~63) + Long.numberOfTrailingZeros(word);
+                    return hit <= end ? hit : NONE;
+                }
+            }
+            return toCol >= cols ? cols : NONE;
+        }
+        int end = Math.max(toCol, 0);
+        for (int col = fromCol; col >= end; col = (col & ~63) - 1) {
+            long word = bits[base + (col >> 6)] & (-1L >>> (63 - (col & 63)));
+            if (word != 0) {
+                int hit = (col & ~63) + 63 - Long.numberOfLeadingZeros(word);
+                return hit >= end ? hit : NONE;
+            }
+        }
+        return toCol < 0 ? -1 : NONE;
+    }
+
+    // First solid row in a column, scanning from fromRow towards toRow (either direction, inclusive).
+    // Rows outside the map count as solid. Returns NONE if the whole span is passable.
+    public int firstSolidInColumn(int col, int fromRow, int toRow) {
+        if (col < 0 || col >= cols) {
+            return fromRow;
+        }
+        int word = col >> 6;
+        long mask = 1L << col;
+        int step = fromRow <= toRow ? 1 : -1;
+        for (int row = fromRow; ; row += step) {
+            if (row < 0 || row >= rows || (bits[row * wordsPerRow + word] & mask) != 0) {
+                return row;
+            }
+            if (row == toRow) {
+                return NONE;
+            }
+        }
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+}
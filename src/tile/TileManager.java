@@ -7,17 +7,32 @@
 // Description: Manages all tiles and map rendering in the game. This class:
 // - Loads and stores tile images and properties
 // - Handles map data and tile placement
-// - Renders visible tiles to the screen
+// - Renders only the map chunks inside the camera viewport
+// - Caches tile images pre-scaled to the current tile size
+// - Bakes the static tile layer into chunk images held in an LRU cache
+// - Publishes a copy of the map with each world snapshot, so the renderer never reads mapTileNum
 // - Supports collision and tile type management
+// - Keeps a packed collision bitmap in step with the map for collision queries
 // - Coordinates with the game world system
 /////////////////////////////////////////////////////////////////////////////
 
 package tile;
 
+import java.awt.Color;
 import java.awt.Graphics2D;
-import java.io.*;
-import javax.imageio.ImageIO;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import main.AssetManager;
 import main.GamePanel;
+import main.GameSettings;
+import main.WorldSnapshot;
 
 // TileManager handles loading, storing, and rendering all tiles
 public class TileManager {
@@ -27,45 +42,289 @@ public class TileManager {
     public Tile[] tile;
     // 2D array for map layout
     public int[][] mapTileNum;
+    // One bit per map tile, set when the tile is solid (kept in step with mapTileNum by setTile)
+    public CollisionMap collisionMap;
+    // Tile images pre-scaled to scaledTileSize (rebuilt when gp.tileSize changes)
+    private BufferedImage[] scaledTiles;
+    private int scaledTileSize = -1;
+    // Number of tiles drawn in the last frame
+    private int tilesDrawn = 0;
+
+    // Width and height of a baked chunk in tiles
+    public static final int CHUNK_TILES = 16;
+    // Baked chunk images keyed by chunk index, least recently drawn first
+    private final LinkedHashMap<Integer, BufferedImage> chunkCache = new LinkedHashMap<>(16, 0.75f, true);
+    private long chunkCacheBytes = 0;
+    // Copy of mapTileNum handed to snapshots; replaced, never changed, once published (game thread).
+    // Columns setTile did not touch are shared with the previous copy.
+    private int[][] publishedMap;
+    // Columns changed by setTile since publishedMap was made
+    private final boolean[] changedColumns;
+    private boolean mapChanged = false;
+    // Map copy the cached chunks were baked from (render thread)
+    private int[][] bakedMap;
+    private int chunksDrawn = 0;
+    private long chunksBaked = 0;
 
     // Constructor initializes tile manager with game panel
     public TileManager(GamePanel gp) {
         this.gp = gp;
         tile = new Tile[50]; // Example: 50 tile types
         mapTileNum = new int[gp.maxWorldCol][gp.maxWorldRow];
+        changedColumns = new boolean[gp.maxWorldCol];
+        collisionMap = new CollisionMap(gp.maxWorldCol, gp.maxWorldRow);
         loadTileImages();
         loadMap("/res/maps/world01.txt");
     }
 
     // Loads all tile images and sets collision properties
     public void loadTileImages() {
-        try {
-            // Example: Load grass tile
-            tile[0] = new Tile(ImageIO.read(getClass().getResourceAsStream("/res/tiles/grass.png")), false);
-            // Example: Load water tile (solid)
-            tile[1] = new Tile(ImageIO.read(getClass().getResourceAsStream("/res/tiles/water.png")), true);
-            // Add more tiles as needed...
-        } catch(IOException e) {
-            e.printStackTrace();
-        }
+        AssetManager assets = AssetManager.getInstance();
+        // Example: Load grass tile
+        tile[0] = new Tile(assets.getImage("res/tiles/grass.png"), false);
+        // Example: Load water tile (solid)
+        tile[1] = new Tile(assets.getImage("res/tiles/water.png"), true);
+        // Add more tiles as needed...
     }
 
     // Loads map data from a file
     public void loadMap(String filePath) {
         // Implementation for loading map data from file
         // (Omitted for brevity)
+        rebuildCollisionMap();
+    }
+
+    // Recomputes every collision bit from mapTileNum (after bulk changes to the map or tile types)
+    public void rebuildCollisionMap() {
+        collisionMap.rebuild(mapTileNum, tile);
+        // Copy the whole map again on the next snapshot
+        publishedMap = null;
+        if (gp.pathfinder != null) {
+            gp.pathfinder.clearCache();
+        }
+    }
+
+    // Changes a map tile, updates its collision bit and invalidates the chunk that contains it
+    public void setTile(int col, int row, int tileNum) {
+        if (col < 0 || row < 0 || col >= gp.maxWorldCol || row >= gp.maxWorldRow) {
+            return;
+        }
+        if (mapTileNum[col][row] == tileNum) {
+            return;
+        }
+        mapTileNum[col][row] = tileNum;
+        boolean solid = CollisionMap.isSolidType(tile, tileNum);
+        if (solid != collisionMap.isSolid(col, row)) {
+            collisionMap.set(col, row, solid);
+            // Cached routes through this tile may now be blocked (or shorter ones opened)
+            if (gp.pathfinder != null) {
+                gp.pathfinder.onTileChanged(col, row);
+            }
+        }
+        changedColumns[col] = true;
+        mapChanged = true;
+    }
+
+    // The map as of this tick, for WorldSnapshot (game thread). Returns the same array until a tile
+    // changes; after a change only the changed columns are copied again.
+    public int[][] snapshotMap() {
+        if (publishedMap == null) {
+            int[][] copy = new int[mapTileNum.length][];
+            for (int col = 0; col < copy.length; col++) {
+                copy[col] = mapTileNum[col].clone();
+            }
+            publishedMap = copy;
+        } else if (mapChanged) {
+            int[][] copy = publishedMap.clone();
+            for (int col = 0; col < copy.length; col++) {
+                if (changedColumns[col]) {
+                    copy[col] = mapTileNum[col].clone();
+                }
+            }
+            publishedMap = copy;
+        }
+        Arrays.fill(changedColumns, false);
+        mapChanged = false;
+        return publishedMap;
     }
 
-    // Renders visible tiles to the screen
+    // Renders the map chunks inside the camera viewport, from the map copy in the render view
     public void draw(Graphics2D g2) {
-        // Loop through visible map area and draw each tile
-        for(int col = 0; col < gp.maxWorldCol; col++) {
-            for(int row = 0; row < gp.maxWorldRow; row++) {
-                int tileNum = mapTileNum[col][row];
-                int x = col * gp.tileSize;
-                int y = row * gp.tileSize;
-                g2.drawImage(tile[tileNum].image, x, y, gp.tileSize, gp.tileSize, null);
+        int tileSize = gp.tileSize;
+        WorldSnapshot view = gp.getRenderView();
+        if (tileSize <= 0 || view == null || view.tileMap == null) {
+            tilesDrawn = 0;
+            chunksDrawn = 0;
+            return;
+        }
+        if (scaledTiles == null || scaledTileSize != tileSize) {
+            rebuildScaledTiles(tileSize);
+        }
+        if (view.tileMap != bakedMap) {
+            discardChangedChunks(view.tileMap);
+        }
+
+        // Visible column/row range from the camera (player world position minus its screen position)
+        int cameraX = gp.getCameraX();
+        int cameraY = gp.getCameraY();
+        int startCol = Math.max(0, Math.floorDiv(cameraX, tileSize));
+        int startRow = Math.max(0, Math.floorDiv(cameraY, tileSize));
+        int endCol = Math.min(gp.maxWorldCol - 1, Math.floorDiv(cameraX + gp.screenWidth, tileSize));
+        int endRow = Math.min(gp.maxWorldRow - 1, Math.floorDiv(cameraY + gp.screenHeight, tileSize));
+        if (startCol > endCol || startRow > endRow) {
+            tilesDrawn = 0;
+            chunksDrawn = 0;
+            return;
+        }
+
+        // Blit every chunk that overlaps the visible range, baking it on first view
+        int chunkPixels = CHUNK_TILES * tileSize;
+        int drawn = 0;
+        for (int chunkCol = startCol / CHUNK_TILES; chunkCol <= endCol / CHUNK_TILES; chunkCol++) {
+            for (int chunkRow = startRow / CHUNK_TILES; chunkRow <= endRow / CHUNK_TILES; chunkRow++) {
+                int key = chunkKey(chunkCol, chunkRow);
+                BufferedImage chunk = chunkCache.get(key);
+                if (chunk == null) {
+                    chunk = bakeChunk(chunkCol, chunkRow, tileSize);
+                    chunkCache.put(key, chunk);
+                    chunkCacheBytes += chunkBytes(chunk);
+                }
+                g2.drawImage(chunk, chunkCol * chunkPixels - cameraX, chunkRow * chunkPixels - cameraY, null);
+                drawn++;
             }
         }
+        chunksDrawn = drawn;
+        tilesDrawn = (endCol - startCol + 1) * (endRow - startRow + 1);
+
+        // Chunks drawn this frame are the most recently used, so eviction never touches them
+        evictChunks(drawn);
+    }
+
+    // Renders one chunk of the static tile layer into an image
+    private BufferedImage bakeChunk(int chunkCol, int chunkRow, int tileSize) {
+        int firstCol = chunkCol * CHUNK_TILES;
+        int firstRow = chunkRow * CHUNK_TILES;
+        int cols = Math.min(CHUNK_TILES, gp.maxWorldCol - firstCol);
+        int rows = Math.min(CHUNK_TILES, gp.maxWorldRow - firstRow);
+
+        BufferedImage chunk = getGraphicsConfiguration().createCompatibleImage(cols * tileSize, rows * tileSize, Transparency.OPAQUE);
+        Graphics2D g = chunk.createGraphics();
+        // Same black the panel clears to, so transparent tile pixels look unchanged
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, chunk.getWidth(), chunk.getHeight());
+        for (int col = 0; col < cols; col++) {
+            for (int row = 0; row < rows; row++) {
+                BufferedImage image = scaledTiles[bakedMap[firstCol + col][firstRow + row]];
+                if (image != null) {
+                    g.drawImage(image, col * tileSize, row * tileSize, null);
+                }
+            }
+        }
+        g.dispose();
+        chunksBaked++;
+        return chunk;
+    }
+
+    // Drops least recently drawn chunks until the cache fits the memory budget
+    private void evictChunks(int keep) {
+        long budget = GameSettings.getInstance().getChunkCacheMB() * 1024L * 1024L;
+        Iterator<Map.Entry<Integer, BufferedImage>> it = chunkCache.entrySet().iterator();
+        while (chunkCacheBytes > budget && chunkCache.size() > keep && it.hasNext()) {
+            BufferedImage chunk = it.next().getValue();
+            chunkCacheBytes -= chunkBytes(chunk);
+            chunk.flush();
+            it.remove();
+        }
+    }
+
+    // Removes the chunks whose tiles differ in a newer map copy, so they are baked again on next view.
+    // Columns shared with the baked copy are unchanged and skipped without comparing.
+    private void discardChangedChunks(int[][] map) {
+        if (bakedMap == null || bakedMap.length != map.length) {
+            clearChunkCache();
+            bakedMap = map;
+            return;
+        }
+        for (int col = 0; col < map.length; col++) {
+            if (map[col] == bakedMap[col]) {
+                continue;
+            }
+            for (int row = 0; row < map[col].length; row++) {
+                if (map[col][row] != bakedMap[col][row]) {
+                    BufferedImage chunk = chunkCache.remove(chunkKey(col / CHUNK_TILES, row / CHUNK_TILES));
+                    if (chunk != null) {
+                        chunkCacheBytes -= chunkBytes(chunk);
+                        chunk.flush();
+                    }
+                }
+            }
+        }
+        bakedMap = map;
+    }
+
+    private void clearChunkCache() {
+        for (BufferedImage chunk : chunkCache.values()) {
+            chunk.flush();
+        }
+        chunkCache.clear();
+        chunkCacheBytes = 0;
+    }
+
+    private int chunkKey(int chunkCol, int chunkRow) {
+        return chunkRow * ((gp.maxWorldCol + CHUNK_TILES - 1) / CHUNK_TILES) + chunkCol;
+    }
+
+    private static long chunkBytes(BufferedImage chunk) {
+        return (long) chunk.getWidth() * chunk.getHeight() * 4;
+    }
+
+    private GraphicsConfiguration getGraphicsConfiguration() {
+        GraphicsConfiguration gc = gp.getGraphicsConfiguration();
+        if (gc == null) {
+            gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        }
+        return gc;
+    }
+
+    // Scales every tile image once to the given size in a display-compatible format
+    private void rebuildScaledTiles(int tileSize) {
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        BufferedImage[] scaled = new BufferedImage[tile.length];
+        for (int i = 0; i < tile.length; i++) {
+            if (tile[i] == null || tile[i].image == null) {
+                continue;
+            }
+            BufferedImage source = tile[i].image;
+            BufferedImage image = gc.createCompatibleImage(tileSize, tileSize, source.getColorModel().getTransparency());
+            Graphics2D g = image.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g.drawImage(source, 0, 0, tileSize, tileSize, null);
+            g.dispose();
+            scaled[i] = image;
+        }
+        scaledTiles = scaled;
+        scaledTileSize = tileSize;
+        // Baked chunks were built at the old size
+        clearChunkCache();
+    }
+
+    // Number of tiles covered by the chunks drawn in the last frame
+    public int getTilesDrawn() {
+        return tilesDrawn;
+    }
+
+    // Number of chunk images blitted in the last frame
+    public int getChunksDrawn() {
+        return chunksDrawn;
+    }
+
+    // Number of chunks currently held in the cache
+    public int getCachedChunkCount() {
+        return chunkCache.size();
+    }
+
+    // Total chunks baked since start (a steady value means the cache is hitting)
+    public long getChunksBaked() {
+        return chunksBaked;
     }
-}
\ No newline at end of file
+}